@@ -0,0 +1,518 @@
+package com.tomtrotter.habitatsimulation.core.domain;
+
+import java.util.List;
+
+import com.tomtrotter.habitatsimulation.simulation.environment.AnimalColumns;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.environment.Location;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.GenomeColumns;
+import com.tomtrotter.habitatsimulation.simulation.species.PreyPreference;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorConfig;
+import java.util.random.RandomGenerator;
+
+/**
+* The Animal class serves as an abstract blueprint for all animal types in the habitat simulation.
+* It defines common attributes such as age, food level, gender, disease status, and location within a field.
+* <p>
+* This class provides core functionality for:
+* - Movement and survival (ageing, hunger, disease progression).
+* - Reproduction and genetics-based inheritance.
+* - Interaction with the environment, including finding food and dealing with disease.
+* <p>
+* Subclasses must implement methods for species-specific behaviors, such as `findFood()` and `createBaby()`.
+* <p>
+* While the animal is on a field its state lives in the field's {@link AnimalColumns}, at its cell, and
+* the animal reads and writes it there; the genome moves along with it. Off the field, e.g. before it is
+* placed or once another animal has taken the cell it died in, the animal holds its state itself.
+*/
+
+public abstract class Animal extends Organism {
+
+    // The columns and cell holding this animal's state, or null and NO_CELL while it holds the state itself.
+    private AnimalColumns columns;
+    private int slot = Field.NO_CELL;
+    private int age;
+    private double foodLevel;
+    private boolean isMale;
+    private boolean infected;
+    private int daysInfected;
+    private final Genetics genetics;
+    private Neighbourhood turn;
+
+    public RandomGenerator rand;
+    public final Disease disease;
+
+    /**
+    * Creates a new animal at a specific location in a given field.
+    * The animal is initialized with genetic information and a random gender.
+    *
+    * @param field The field currently occupied by the animal.
+    * @param location The initial location of the animal within the field.
+    * @param colour The colour of the animal.
+    * @param genetics The genetic material of the animal.
+    */
+    public Animal(Field field, Location location, int colour, Genetics genetics) {
+        this(field, location == null ? Field.NO_CELL : field.index(location), colour, genetics);
+    }
+
+    /**
+    * Creates a new animal in a specific cell of a given field.
+    * The animal is initialized with genetic information and a random gender.
+    * Its random stream is keyed by the cell and the current step, so it does not depend
+    * on how many threads are running the simulation. The animal is placed once it is set up,
+    * so its state can be moved into the field's columns.
+    *
+    * @param field The field currently occupied by the animal.
+    * @param cell The packed index of the animal's initial cell within the field.
+    * @param colour The colour of the animal.
+    * @param genetics The genetic material of the animal.
+    */
+    public Animal(Field field, int cell, int colour, Genetics genetics) {
+        super(field, Field.NO_CELL, colour);
+
+        this.genetics = genetics;
+        rand = field.getRandomStreams().forCell(cell);
+        disease = new Disease();
+        disease.setRandom(rand);
+        disease.setConfig(field.getConfig());
+        disease.setHost(this);
+
+        setGender(rand.nextBoolean());
+        if (cell != Field.NO_CELL) {
+            setCell(cell);
+        }
+    }
+
+    /**
+    * Moves this animal's state into a cell of a field's animal columns, from the cell it held it in
+    * before or from the animal itself. Called by the field whenever the animal is placed. An animal
+    * still reading its state from that cell is given its state back first, and the cell this animal
+    * left no longer refers to it.
+    *
+    * @param target The animal columns of the field the animal is placed on.
+    * @param cell The packed index of the animal's cell.
+    */
+    public void attach(AnimalColumns target, int cell) {
+        if (target == columns && cell == slot) {
+            return;
+        }
+        Animal owner = target.getOwner(cell);
+        if (owner != null && owner != this) {
+            owner.detach(target, cell);
+        }
+        if (columns == target) {
+            target.copy(slot, cell);
+            if (target.getOwner(slot) == this) {
+                target.setOwner(slot, null);
+            }
+        } else {
+            if (columns != null) {
+                detach(columns, slot);
+            }
+            target.setAge(cell, age);
+            target.setFoodLevel(cell, foodLevel);
+            target.setMale(cell, isMale);
+            target.setInfected(cell, infected);
+            target.setDaysInfected(cell, daysInfected);
+        }
+        genetics.moveTo(target.getGenomes(), cell);
+        target.setOwner(cell, this);
+        columns = target;
+        slot = cell;
+    }
+
+    /**
+    * Takes this animal's state out of the animal columns into the animal itself, if it is held at
+    * the given cell, and clears the cell's record of the animal. Called by the field when the cell
+    * is given to another organism or cleared, or when the animal dies there.
+    *
+    * @param source The animal columns of the field.
+    * @param cell The packed index of the cell.
+    */
+    public void detach(AnimalColumns source, int cell) {
+        if (source.getOwner(cell) == this) {
+            source.setOwner(cell, null);
+        }
+        if (source != columns || cell != slot) {
+            return;
+        }
+        age = source.getAge(cell);
+        foodLevel = source.getFoodLevel(cell);
+        isMale = source.isMale(cell);
+        infected = source.isInfected(cell);
+        daysInfected = source.getDaysInfected(cell);
+        genetics.moveTo(GenomeColumns.single(), 0);
+        columns = null;
+        slot = Field.NO_CELL;
+    }
+
+    /**
+    * Defines the actions an animal performs in a simulation step.
+    * The animal ages, experiences hunger, attempts to reproduce, and searches for food.
+    * It may also contract or suffer from disease. If conditions become fatal, it dies.
+    *
+    * @param newAnimals A list to store newly created animals (offspring).
+    */
+    public void act(List<Animal> newAnimals) {
+        // An animal eaten earlier in the step no longer owns its cell, so it must not touch the field.
+        if (!isAlive()) {
+            return;
+        }
+
+        incrementAge();
+        if (isAlive()) {
+            incrementHunger();
+        }
+
+        if (!isAlive()){
+            return;
+        }
+
+        // Look at the neighbourhood once; every decision below reads from this snapshot.
+        turn = Neighbourhood.scan(this);
+        try {
+            takeTurn(newAnimals);
+        } finally {
+            turn = null;
+        }
+    }
+
+    /**
+    * Performs the living part of a simulation step against the current neighbourhood snapshot.
+    *
+    * @param newAnimals A list to store newly created animals (offspring).
+    */
+    private void takeTurn(List<Animal> newAnimals) {
+        // Reproduce if the animal is female.
+        if (!this.getGender()) {
+            giveBirth(newAnimals);
+        }
+
+        // Handle disease progression or infection, under the configuration of the current step.
+        disease.setConfig(getField().getConfig());
+        if (disease.isInfected()) {
+            disease.incrementInfected();
+        } else if (isInfectedAnimals()) {
+            disease.getInfection(genetics.getDiseaseProbability());
+        }
+
+        // Attempt to move to a food source or an adjacent location.
+        int newCell = findFood();
+        if (newCell == Field.NO_CELL) {
+            int slot = turn.claimFreeCell();
+            newCell = slot < 0 ? Field.NO_CELL : turn.cellAt(slot);
+        }
+
+        // Handle death or recovery after disease duration has passed.
+        if (disease.getDaysInfected() >= disease.getDuration()) {
+            if (rand.nextDouble() <= disease.getMortalityRate()) {
+                setDead();
+                getField().replaceDeadAnimal(getCell());
+                return;
+            }
+            disease.setInfected(false);
+        }
+
+        // Move to a new location if available.
+        if (newCell != Field.NO_CELL) {
+            setCell(newCell);
+        } else {
+            // Die due to overcrowding.
+            setDead();
+            getField().replaceDeadAnimal(getCell());
+        }
+    }
+
+    /**
+    * @return True if the animal's disease is infected.
+    */
+    boolean infectedState() {
+        return columns != null ? columns.isInfected(slot) : infected;
+    }
+
+    /**
+    * @param infected True if the animal's disease is now infected.
+    */
+    void setInfectedState(boolean infected) {
+        if (columns != null) {
+            columns.setInfected(slot, infected);
+        } else {
+            this.infected = infected;
+        }
+    }
+
+    /**
+    * @return The number of days the animal's disease has been infected.
+    */
+    int daysInfectedState() {
+        return columns != null ? columns.getDaysInfected(slot) : daysInfected;
+    }
+
+    /**
+    * @param days The new number of days the animal's disease has been infected.
+    */
+    void setDaysInfectedState(int days) {
+        if (columns != null) {
+            columns.setDaysInfected(slot, days);
+        } else {
+            daysInfected = days;
+        }
+    }
+
+    /**
+    * Reports a change of this animal's infection to its field.
+    *
+    * @param infected True if the animal is now infected.
+    */
+    void infectionChanged(boolean infected) {
+        getField().infectionChanged(getCell(), this, infected);
+    }
+
+    /**
+    * Returns the snapshot of this animal's neighbourhood. During {@link #act(List)} this is the snapshot
+    * taken at the start of the turn; outside of a turn a fresh snapshot is taken.
+    *
+    * @return The neighbourhood snapshot.
+    */
+    Neighbourhood neighbourhood() {
+        return turn != null ? turn : Neighbourhood.scan(this);
+    }
+
+    /**
+    * Searches for food within adjacent locations.
+    * Must be implemented by subclasses to define species-specific behavior (e.g., hunting, grazing).
+    *
+    * @return The cell of found food, or {@link Field#NO_CELL} if no food is available.
+    */
+    protected abstract int findFood();
+
+    /**
+    * Eats the most preferred food next to this animal, as its diet in the simulation's food web
+    * lists for its species and life stage.
+    *
+    * @return The cell of the food eaten, or {@link Field#NO_CELL} if nothing it eats is adjacent.
+    */
+    protected int forage() {
+        return eat(getField().getConfig().foodWeb().dietOf(getSpeciesId(), isYoung()));
+    }
+
+    /**
+    * Eats the most preferred adjacent food of a diet, chosen in one pass over the neighbourhood snapshot.
+    * The food dies, its cell is claimed for the rest of the turn, and the food level is set to the
+    * configured value of a plant or of a prey.
+    *
+    * @param diet The species eaten, in priority order.
+    * @return The cell of the food eaten, or {@link Field#NO_CELL} if nothing listed is adjacent.
+    */
+    int eat(PreyPreference diet) {
+        Neighbourhood neighbourhood = neighbourhood();
+        int slot = neighbourhood.findFood(diet);
+        if (slot < 0) {
+            return Field.NO_CELL;
+        }
+        Organism food = neighbourhood.organismAt(slot);
+        food.setDead();
+        neighbourhood.claim(slot);
+        SimulatorConfig config = getField().getConfig();
+        setFoodLevel(food instanceof Animal ? config.preyFoodValue() : config.plantFoodValue());
+        return neighbourhood.cellAt(slot);
+    }
+
+    /**
+     * Creates and returns a new baby animal of the same species.
+     * Must be implemented by subclasses to handle species-specific reproduction.
+     *
+     * @param field The field where the baby animal will be placed.
+     * @param cell The packed index of the baby's initial cell.
+     * @param colour The colour of the baby animal.
+     * @param genetics The genetic information passed to the baby.
+     * @return A new instance of the baby animal.
+     */
+    protected abstract Animal createBaby(Field field, int cell, int colour, Genetics genetics);
+
+    /**
+    * Retrieves the visual representation of the animal as an icon (emoji).
+    * Must be implemented by subclasses to provide a species-specific icon.
+    *
+    * @return A string representing the animal's icon.
+    */
+    public abstract String getIcon();
+
+    /**
+    * Determines if the animal should give birth, given a suitable mate and available space.
+    * Newborn animals are placed in adjacent free locations.
+    *
+    * @param newAnimals A list to store newly created baby animals.
+    */
+    protected void giveBirth(List<Animal> newAnimals) {
+        // Get a possible partner, i.e. same animal and opposite sex.
+        Animal successfulMate = findMatingPartner();
+
+        if(successfulMate == null) {
+            return;
+        }
+
+        int births = breed();
+        if (births == 0) {
+            return;
+        }
+
+        // Claim free adjacent cells (no animal present) first, so genomes are only bred for young that fit.
+        Neighbourhood neighbourhood = neighbourhood();
+        int[] cells = new int[births];
+        int placed = 0;
+        while (placed < births) {
+            int slot = neighbourhood.claimFreeCell();
+            if (slot < 0) {
+                break;
+            }
+            cells[placed++] = neighbourhood.cellAt(slot);
+        }
+        if (placed == 0) {
+            return;
+        }
+
+        Genetics[] litter = Genetics.breedLitter(genetics, successfulMate.getGenetics(), placed, rand);
+        Field field = getField();
+        for (int b = 0; b < placed; b++) {
+            field.removeOrganism(cells[b]);
+            newAnimals.add(createBaby(field, cells[b], getColour(), litter[b]));
+        }
+    }
+
+    public Genetics getGenetics() {
+        return genetics;
+    }
+
+    /**
+    * Retrieves the gender of the animal.
+    *
+    * @return true if the animal is male, false if female.
+    */
+    protected boolean getGender() {
+        return columns != null ? columns.isMale(slot) : isMale;
+    }
+
+    /**
+    * Sets the gender of the animal.
+    *
+    * @param isMale true for male, false for female.
+    */
+    public void setGender(boolean isMale) {
+        if (columns != null) {
+            columns.setMale(slot, isMale);
+        } else {
+            this.isMale = isMale;
+        }
+    }
+
+    /**
+     * Finds a suitable mating partner (same species, opposite gender).
+     *
+     * @return A matching animal partner if available, otherwise null.
+     */
+    protected Animal findMatingPartner() {
+        return neighbourhood().getMate();
+    }
+
+    /**
+    * Determines the number of births if the animal can breed.
+    * The breeding probability is genetically determined.
+    *
+    * @return The number of offspring (can be zero).
+    */
+    protected int breed() {
+        return getAge() >= this.genetics.getBreedingAge() && rand.nextDouble() <= this.genetics.getBreedingProbability()
+                ? rand.nextInt(this.genetics.getMaxLitterSize()) + 1: 0;
+    }
+
+    /**
+    * Sets the age of the animal.
+    *
+    * @param age The new age of the animal.
+    */
+    public void setAge(int age) {
+        if (columns != null) {
+            columns.setAge(slot, age);
+        } else {
+            this.age = age;
+        }
+    }
+
+    /**
+    * Retrieves the current age of the animal.
+    *
+    * @return The animal's age.
+    */
+    protected int getAge() {
+        return columns != null ? columns.getAge(slot) : age;
+    }
+
+    /**
+    * Determines if the animal is young (below breeding age).
+    *
+    * @return true if the animal is young, false otherwise.
+    */
+    protected boolean isYoung() {
+        return getAge() < this.genetics.getBreedingAge();
+    }
+
+    /**
+    * Increases the animal's age by one step.
+    * If the age exceeds the maximum lifespan, the animal dies.
+    */
+    protected void incrementAge() {
+        int age = getAge() + 1;
+        setAge(age);
+        if(age > this.genetics.getMaxAge()) {
+            setDead();
+            getField().replaceDeadAnimal(getCell());
+        }
+    }
+
+    /**
+    * Sets the animal's food level to a specified value.
+    *
+    * @param foodLevel The new food level.
+    */
+    protected void setFoodLevel(double foodLevel) {
+        if (columns != null) {
+            columns.setFoodLevel(slot, foodLevel);
+        } else {
+            this.foodLevel = foodLevel;
+        }
+    }
+
+    /**
+    * Retrieves the animal's current food level.
+    *
+    * @return The food level of the animal.
+    */
+    protected double getFoodLevel() {
+        return columns != null ? columns.getFoodLevel(slot) : foodLevel;
+    }
+
+    /**
+    * Decreases the animal's food level due to its metabolic rate.
+    * If the food level drops to zero, the animal dies.
+    */
+    protected void incrementHunger() {
+        double foodLevel = getFoodLevel() - this.genetics.getMetabolism();
+        setFoodLevel(foodLevel);
+        if(foodLevel <= 0) {
+            setDead();
+            getField().replaceDeadAnimal(getCell());
+        }
+    }
+
+    /**
+     * Checks if there are infected animals of the same species nearby.
+     *
+     * @return true if there are infected animals nearby, false otherwise.
+     */
+    public boolean isInfectedAnimals() {
+        return neighbourhood().hasInfectedKin();
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.tomtrotter.habitatsimulation.core.domain;
+
+import com.tomtrotter.habitatsimulation.util.BernoulliSampler;
+import com.tomtrotter.habitatsimulation.util.Randomizer;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorConfig;
+
+import java.util.random.RandomGenerator;
+
+/**
+* The Disease class models a simple disease that can infect an animal in the simulation.
+* It manages infection status, immunity, duration of illness, and the mortality rate associated with the disease.
+* <p>
+* The infection and its day count of a disease carried by an animal are kept with the animal, in its
+* field's animal columns while it is on the field; a disease without a host keeps them itself.
+*/
+public class Disease {
+
+    private boolean infected;
+    private int daysInfected = 0;
+    private int exposuresLeft = -1;
+    private double exposureProbability;
+    private SimulatorConfig config = SimulatorConfig.DEFAULT;
+    // Values set on this disease alone, or null to read them from the configuration.
+    private Integer duration;
+    private Double mortalityRate;
+    private Animal host;
+
+    public RandomGenerator rand = Randomizer.getRandom();
+
+    public Disease() {
+        infected = false;
+    }
+
+    /**
+    * Gets the number of days an infection lasts.
+    *
+    * @return The duration of the disease in days.
+    */
+    public int getDuration() {
+        return duration != null ? duration : config.diseaseDuration();
+    }
+
+    /**
+    * Sets the duration of this disease, leaving the simulation's configuration unchanged.
+    * The duration is kept when the configuration changes.
+    *
+    * @param duration Number of days the infection should last.
+    */
+    public void setDuration(int duration) {
+        this.duration = duration;
+    }
+
+    /**
+    * Checks if the animal is currently infected.
+    *
+    * @return true if the animal is infected, false otherwise.
+    */
+    public boolean isInfected() {
+        return host != null ? host.infectedState() : infected;
+    }
+
+    /**
+    * Sets the infection status of the animal.
+    * A change is reported to the animal's field, which keeps count of the infected.
+    *
+    * @param infected true to mark the animal as infected, false to mark as healthy.
+    */
+    public void setInfected(boolean infected) {
+        if (isInfected() != infected) {
+            if (host != null) {
+                host.setInfectedState(infected);
+                host.infectionChanged(infected);
+            } else {
+                this.infected = infected;
+            }
+        }
+    }
+
+    /**
+    * Sets the animal that carries this disease, whose field is told when the infection changes.
+    *
+    * @param host The infected animal, or null for none.
+    */
+    void setHost(Animal host) {
+        this.host = host;
+    }
+
+    /**
+    * Increments the number of days the animal has been infected.
+    * This is used to determine recovery or death thresholds.
+    */
+    protected void incrementInfected() {
+        if (host != null) {
+            host.setDaysInfectedState(host.daysInfectedState() + 1);
+        } else {
+            daysInfected++;
+        }
+    }
+
+    /**
+    * Attempts to infect the animal based on a given infection probability.
+    * If a random value falls within the probability threshold, the animal becomes infected.
+    * <p>
+    * Rather than rolling every exposure, the disease draws how many exposures the animal will
+    * resist before the next infection and counts them down, drawing again only after an infection
+    * or when the probability changes. Each exposure still infects with the given probability.
+    *
+    * @param diseaseProbability A value between 0.0 and 1.0 representing the chance of infection.
+    */
+    public void getInfection(double diseaseProbability) {
+        if (exposuresLeft < 0 || diseaseProbability != exposureProbability) {
+            exposureProbability = diseaseProbability;
+            exposuresLeft = BernoulliSampler.gap(rand, diseaseProbability);
+        }
+        if (exposuresLeft == 0) {
+            exposuresLeft = -1;
+            setInfected(true);
+        } else if (exposuresLeft != BernoulliSampler.NEVER) {
+            exposuresLeft--;
+        }
+    }
+
+    /**
+    * Gets the number of days the animal has been infected.
+    *
+    * @return Number of days of current infection.
+    */
+    public int getDaysInfected() {
+        return host != null ? host.daysInfectedState() : daysInfected;
+    }
+
+    /**
+    * Gets the mortality rate of the disease.
+    *
+    * @return A value between 0.0 and 1.0 representing the probability of death due to the disease.
+    */
+    public double getMortalityRate() {
+        return mortalityRate != null ? mortalityRate : config.mortalityRate();
+    }
+
+    /**
+    * Sets the mortality rate of this disease, leaving the simulation's configuration unchanged.
+    * The rate is kept when the configuration changes.
+    *
+    * @param mortalityRate A value between 0.0 and 1.0 indicating death chance.
+    */
+    public void setMortalityRate(double mortalityRate) {
+        this.mortalityRate = mortalityRate;
+    }
+
+    /**
+    * Gets the configuration the duration and mortality rate are read from unless set on this disease.
+    *
+    * @return The disease's configuration.
+    */
+    public SimulatorConfig getConfig() {
+        return config;
+    }
+
+    /**
+    * Sets the configuration the duration and mortality rate are read from. A duration or mortality
+    * rate set on this disease still takes precedence.
+    *
+    * @param config The new configuration.
+    */
+    public void setConfig(SimulatorConfig config) {
+        this.config = config;
+    }
+
+    /**
+    * Gets the source of randomness used for infection rolls.
+    *
+    * @return The disease's random stream.
+    */
+    public RandomGenerator getRandom() {
+        return rand;
+    }
+
+    /**
+    * Sets the source of randomness used for infection rolls.
+    *
+    * @param random The new random stream.
+    */
+    public void setRandom(RandomGenerator random) {
+        rand = random;
+    }
+}
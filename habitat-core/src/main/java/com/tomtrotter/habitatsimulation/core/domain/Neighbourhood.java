@@ -0,0 +1,162 @@
+package com.tomtrotter.habitatsimulation.core.domain;
+
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.environment.NeighbourCursor;
+import com.tomtrotter.habitatsimulation.simulation.species.PreyPreference;
+
+/**
+* A snapshot of the cells around an animal, taken once at the start of its turn.
+* <p>
+* A single shuffled pass over the neighbouring cells records every neighbour in visiting order and
+* classifies it as free (no animal), a plant, or an animal, noting the first possible mate and whether
+* any same-species neighbour is infected. Breeding, infection, feeding and movement then all read from
+* the snapshot instead of each walking the field again.
+* <p>
+* Cells the animal takes during its turn (for its young, its prey or its next position) are claimed in
+* the snapshot so that later decisions in the same turn see them as used. Snapshots are reused per thread,
+* so a snapshot is only valid until the next call to {@link #scan(Animal)} on that thread.
+*/
+
+final class Neighbourhood {
+
+    private static final int CAPACITY = 8;
+    private static final ThreadLocal<Neighbourhood> snapshots = ThreadLocal.withInitial(Neighbourhood::new);
+
+    private final int[] cells = new int[CAPACITY];
+    private final Organism[] organisms = new Organism[CAPACITY];
+    private final boolean[] claimed = new boolean[CAPACITY];
+    private int size;
+
+    private Animal mate;
+    private boolean infectedKin;
+
+    private Neighbourhood() {
+    }
+
+    /**
+    * Takes a snapshot of the neighbourhood of the given animal, reusing this thread's snapshot object.
+    *
+    * @param animal The animal whose neighbourhood is scanned.
+    * @return The snapshot of the animal's neighbourhood.
+    */
+    static Neighbourhood scan(Animal animal) {
+        Neighbourhood neighbourhood = snapshots.get();
+        neighbourhood.fill(animal);
+        return neighbourhood;
+    }
+
+    /**
+    * Walks the neighbourhood once, recording and classifying every neighbour.
+    */
+    private void fill(Animal animal) {
+        Field field = animal.getField();
+        byte species = (byte) animal.getSpeciesId();
+        boolean gender = animal.getGender();
+
+        mate = null;
+        infectedKin = false;
+        size = 0;
+
+        NeighbourCursor cursor = field.neighbours(animal.getCell(), animal.rand);
+        while (cursor.hasNext()) {
+            int cell = cursor.next();
+            Organism organism = field.getOrganismAt(cell);
+
+            cells[size] = cell;
+            organisms[size] = organism;
+            claimed[size] = false;
+            size++;
+
+            if (field.getSpeciesCode(cell) == species && organism instanceof Animal other && other.isAlive()) {
+                if (mate == null && other.getGender() != gender) {
+                    mate = other;
+                }
+                infectedKin |= other.disease.isInfected();
+            }
+        }
+    }
+
+    /**
+    * @return The first living neighbour of the same species and opposite gender, or null if there is none.
+    */
+    Animal getMate() {
+        return mate;
+    }
+
+    /**
+    * @return True if a living neighbour of the same species is infected.
+    */
+    boolean hasInfectedKin() {
+        return infectedKin;
+    }
+
+    /**
+    * Returns the packed cell index of a neighbour.
+    *
+    * @param slot The neighbour's position in visiting order.
+    * @return The packed cell index.
+    */
+    int cellAt(int slot) {
+        return cells[slot];
+    }
+
+    /**
+    * Returns the organism that occupied a neighbouring cell when the snapshot was taken.
+    *
+    * @param slot The neighbour's position in visiting order.
+    * @return The organism, or null if the cell was empty.
+    */
+    Organism organismAt(int slot) {
+        return organisms[slot];
+    }
+
+    /**
+    * Marks a neighbouring cell as taken for the rest of the turn.
+    *
+    * @param slot The neighbour's position in visiting order.
+    */
+    void claim(int slot) {
+        claimed[slot] = true;
+    }
+
+    /**
+    * Claims the next unclaimed cell that holds no animal (an empty cell or a plant).
+    *
+    * @return The slot of the claimed cell, or -1 if no free cell is left.
+    */
+    int claimFreeCell() {
+        for (int slot = 0; slot < size; slot++) {
+            if (!claimed[slot] && !(organisms[slot] instanceof Animal)) {
+                claimed[slot] = true;
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+    * Finds the living neighbour of the most preferred food species, plant or animal, in one pass
+    * over the snapshot. Among neighbours of the same species, the first one in visiting order wins.
+    * Each neighbour is matched by its species id, with one mask test and one table lookup.
+    *
+    * @param diet The species eaten, in priority order.
+    * @return The slot of the chosen food, or -1 if nothing the diet lists is adjacent.
+    */
+    int findFood(PreyPreference diet) {
+        int best = -1;
+        int bestRank = diet.size();
+        for (int slot = 0; slot < size && bestRank > 0; slot++) {
+            Organism organism = organisms[slot];
+            if (claimed[slot] || organism == null) {
+                continue;
+            }
+            int species = organism.getSpeciesId();
+            if (diet.includes(species) && diet.rankOf(species) < bestRank && organism.isAlive()) {
+                best = slot;
+                bestRank = diet.rankOf(species);
+            }
+        }
+        return best;
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.tomtrotter.habitatsimulation.core.domain;
+
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.environment.Location;
+import com.tomtrotter.habitatsimulation.simulation.species.Species;
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+
+/**
+* The Organism class represents an organism in the habitat simulation.
+* It includes properties like the organism's location within a field, its color,
+* and whether it is alive or dead. The class also provides methods to update the organism's
+* location, check if it is alive, and remove it from the field if it dies.
+* <p>
+* The organism is associated with a specific field and can be placed or removed from
+* various locations within that field during the simulation.
+* <p>
+* Each organism looks up its {@link Species} once, when it is created; species checks after that
+* compare small integer ids.
+*/
+
+public class Organism {
+
+    private final Field field;
+    private final Species species;
+    private int cell = Field.NO_CELL;
+    private final int colour;
+    private boolean isAlive;
+
+    /**
+    * Constructor to initialize an organism with a field, location, and colour.
+    *
+    * @param field The field where the organism will reside.
+    * @param location The starting location of the organism, or null to leave it unplaced.
+    * @param colour The palette index of the colour representing the organism.
+    */
+    public Organism(Field field, Location location, int colour) {
+        this(field, location == null ? Field.NO_CELL : field.index(location), colour);
+    }
+
+    /**
+    * Constructor to initialize an organism with a field, packed cell index, and colour.
+    *
+    * @param field The field where the organism will reside.
+    * @param cell The starting cell of the organism, or {@link Field#NO_CELL} to leave it unplaced.
+    * @param colour The palette index of the colour representing the organism.
+    */
+    public Organism(Field field, int cell, int colour) {
+        isAlive = true;
+        this.field = field;
+        species = SpeciesRegistry.of(getClass());
+        this.colour = colour;
+        setCell(cell);
+    }
+
+    /**
+    * Checks whether the organism is still alive.
+    *
+    * @return true if the organism is alive, false otherwise.
+    */
+    public boolean isAlive() {
+        return isAlive;
+    }
+
+    /**
+    * Marks the organism as dead, removing it from the field.
+    * If the organism has a valid location, it is also removed from the simulation.
+    */
+    protected void setDead() {
+        isAlive = false;
+        if (cell != Field.NO_CELL) {
+            field.removeOrganism(cell);
+        }
+    }
+
+    /**
+    * Retrieves the packed cell index of the organism's current position.
+    *
+    * @return The cell index, or {@link Field#NO_CELL} if the organism has not been placed.
+    */
+    public int getCell() {
+        return cell;
+    }
+
+    /**
+    * Retrieves the organism's current location.
+    * The location is created on demand from the organism's cell.
+    *
+    * @return The location of the organism, or null if it has not been placed.
+    */
+    public Location getLocation() {
+        return cell == Field.NO_CELL ? null : field.locationOf(cell);
+    }
+
+    /**
+    * Updates the organism's location to a new position within the field.
+    * If the organism had a previous location, it is removed from that location first.
+    *
+    * @param newLocation The new location for the organism.
+    */
+    protected void setLocation(Location newLocation) {
+        setCell(newLocation == null ? Field.NO_CELL : field.index(newLocation));
+    }
+
+    /**
+    * Moves the organism to a new cell within the field.
+    * If the organism had a previous cell, it is removed from that cell first.
+    *
+    * @param newCell The new cell index, or {@link Field#NO_CELL} to take the organism off the field.
+    */
+    protected void setCell(int newCell) {
+        if (cell != Field.NO_CELL) {
+            field.removeOrganism(cell);
+        }
+        cell = newCell;
+        if (newCell != Field.NO_CELL) {
+            field.placeOrganism(this, newCell);
+        }
+    }
+
+    /**
+    * Retrieves the field in which the organism resides.
+    *
+    * @return The field containing the organism.
+    */
+    protected Field getField() {
+        return field;
+    }
+
+    /**
+    * Retrieves the species of the organism.
+    *
+    * @return The organism's registered species.
+    */
+    public Species getSpecies() {
+        return species;
+    }
+
+    /**
+    * Retrieves the species id of the organism, which is also its code in the field.
+    *
+    * @return The species id.
+    */
+    public int getSpeciesId() {
+        return species.getId();
+    }
+
+    /**
+    * Retrieves the colour of the organism.
+    *
+    * @return The palette index of the organism's colour.
+    * @see com.tomtrotter.habitatsimulation.util.Palette
+    */
+    public int getColour() {
+        return colour;
+    }
+
+}
@@ -2,7 +2,7 @@ package com.tomtrotter.habitatsimulation.core.domain;
 
 import com.tomtrotter.habitatsimulation.simulation.environment.Field;
 import com.tomtrotter.habitatsimulation.simulation.environment.Location;
-import javafx.scene.paint.Color;
+import com.tomtrotter.habitatsimulation.util.Palette;
 
 /**
 * A class representing characteristics of plants.
@@ -11,8 +11,6 @@ import javafx.scene.paint.Color;
 
 public class Plant extends Organism {
 
-    private static final String plantIcon = "🌱";
-
     /**
     * Constructor for objects of class Plant.
     * Initializes a plant with a field and a location.
@@ -22,7 +20,17 @@ public class Plant extends Organism {
     * @param location The location within the field where the plant is placed.
     */
     public Plant(Field field, Location location) {
-        super(field, location, Color.GREEN);
+        super(field, location, Palette.GREEN);
+    }
+
+    /**
+    * Constructor for objects of class Plant at a packed cell index.
+    *
+    * @param field The field currently occupied by the plant.
+    * @param cell The cell within the field where the plant is placed.
+    */
+    public Plant(Field field, int cell) {
+        super(field, cell, Palette.GREEN);
     }
 
     /**
@@ -31,7 +39,7 @@ public class Plant extends Organism {
     * @return The icon string for the plant.
     */
     public String getIcon() {
-        return plantIcon;
+        return getSpecies().getIcon();
     }
 
 }
@@ -0,0 +1,43 @@
+package com.tomtrotter.habitatsimulation.core.domain;
+
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+
+import com.tomtrotter.habitatsimulation.simulation.species.PreyPreference;
+
+import java.util.List;
+
+/**
+* A class representing shared behaviours of predators.
+* This interface defines the shared behaviors for predator animals, including hunting prey.
+*/
+
+public interface Predator {
+
+    /**
+    * Look for prey adjacent to the current location.
+    * Only the first live prey is eaten.
+    * The predator will search for prey in a specific order based on the provided list of prey types,
+    * choosing from the neighbourhood snapshot taken at the start of its turn.
+    * A preference that lists plants makes a single pass over both grazing and hunting.
+    *
+    * @param predator The predator that is hunting.
+    * @param preference The prey species that the predator will consider hunting, in prioritized order.
+    * @return The cell where prey was found, or {@link Field#NO_CELL} if no prey was found.
+    */
+    default int hunt(Animal predator, PreyPreference preference) {
+        return predator.eat(preference);
+    }
+
+    /**
+    * Look for prey of the listed types adjacent to the current location.
+    * Builds the preference tables on every call; predators should keep a {@link PreyPreference} instead.
+    *
+    * @param predator The predator that is hunting.
+    * @param preyTypes The list of prey types that the predator will consider hunting, in prioritized order.
+    * @return The cell where prey was found, or {@link Field#NO_CELL} if no prey was found.
+    */
+    default int hunt(Animal predator, List<Class<? extends Animal>> preyTypes) {
+        return hunt(predator, PreyPreference.of(preyTypes));
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.tomtrotter.habitatsimulation.core.domain;
+
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.species.PreyPreference;
+
+/**
+* A class representing shared behaviours of prey.
+* This interface defines the shared behaviors for prey animals, including grazing on plants.
+*/
+
+public interface Prey {
+
+    /**
+    * Logic for Prey finding and consuming plants.
+    * The prey will search for plants in adjacent locations and graze on the first plant found.
+    *
+    * @param prey The animal grazing (the prey animal looking for food).
+    * @return The cell where the plant was found and consumed, or {@link Field#NO_CELL} if no plant was found.
+    */
+    default int graze(Animal prey) {
+        return prey.eat(PreyPreference.PLANTS);
+    }
+
+}
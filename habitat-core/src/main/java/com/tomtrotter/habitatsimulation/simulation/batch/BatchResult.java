@@ -0,0 +1,198 @@
+package com.tomtrotter.habitatsimulation.simulation.batch;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+* The outcome of one headless run: the population time series, the final statistics
+* and the throughput of the step loop.
+*/
+public class BatchResult {
+
+    public static final String SERIES_FILE = "population.csv";
+    public static final String SUMMARY_FILE = "summary.properties";
+
+    private final BatchSettings settings;
+    private final List<String> species;
+    private final List<int[]> series;
+    private final int[] finalCounts;
+    private final int[] finalInfected;
+    private final int stepsRun;
+    private final long stepNanos;
+    private final long animalSteps;
+
+    /**
+    * Creates a result.
+    *
+    * @param settings The settings the run used.
+    * @param species The species names, in column order.
+    * @param series The sampled rows; each row holds the step followed by one count per species.
+    * @param finalCounts The final population of each species.
+    * @param finalInfected The final number of infected animals of each species.
+    * @param stepsRun The number of steps actually run.
+    * @param stepNanos The time spent inside the step loop, in nanoseconds.
+    * @param animalSteps The number of animal turns taken over the whole run.
+    */
+    BatchResult(BatchSettings settings, List<String> species, List<int[]> series, int[] finalCounts,
+                int[] finalInfected, int stepsRun, long stepNanos, long animalSteps) {
+        this.settings = settings;
+        this.species = species;
+        this.series = series;
+        this.finalCounts = finalCounts;
+        this.finalInfected = finalInfected;
+        this.stepsRun = stepsRun;
+        this.stepNanos = stepNanos;
+        this.animalSteps = animalSteps;
+    }
+
+    /**
+    * Returns the settings the run used.
+    *
+    * @return The run settings.
+    */
+    public BatchSettings getSettings() {
+        return settings;
+    }
+
+    /**
+    * Returns the species names, in the column order of the series and final counts.
+    *
+    * @return The species names.
+    */
+    public List<String> getSpecies() {
+        return species;
+    }
+
+    /**
+    * Returns the sampled population rows. Each row holds the step followed by one count per species.
+    *
+    * @return The population time series.
+    */
+    public List<int[]> getSeries() {
+        return series;
+    }
+
+    /**
+    * Returns the final population of a species.
+    *
+    * @param speciesName The species name.
+    * @return The final count, or zero for an unknown species.
+    */
+    public int getFinalCount(String speciesName) {
+        int column = species.indexOf(speciesName);
+        return column < 0 ? 0 : finalCounts[column];
+    }
+
+    /**
+    * Returns the final number of infected animals of a species.
+    *
+    * @param speciesName The species name.
+    * @return The final infected count, or zero for an unknown species.
+    */
+    public int getFinalInfected(String speciesName) {
+        int column = species.indexOf(speciesName);
+        return column < 0 ? 0 : finalInfected[column];
+    }
+
+    /**
+    * Returns the number of steps run. This is less than requested when every animal died.
+    *
+    * @return The number of steps run.
+    */
+    public int getStepsRun() {
+        return stepsRun;
+    }
+
+    /**
+    * Returns the time spent stepping the simulation, excluding sampling and output.
+    *
+    * @return The step time in nanoseconds.
+    */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+    * Returns the number of steps run per second of step time.
+    *
+    * @return The step rate.
+    */
+    public double getStepsPerSecond() {
+        return stepNanos == 0 ? 0.0 : stepsRun * 1e9 / stepNanos;
+    }
+
+    /**
+    * Returns the mean step time per animal turn. Plants do not act, so only animals are counted.
+    *
+    * @return The nanoseconds per organism per step.
+    */
+    public double getNanosPerOrganismStep() {
+        return animalSteps == 0 ? 0.0 : (double) stepNanos / animalSteps;
+    }
+
+    /**
+    * Writes the population time series and the final statistics into a directory,
+    * creating it if needed.
+    *
+    * @param directory The output directory.
+    * @throws IOException If a file cannot be written.
+    */
+    public void writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(directory.resolve(SERIES_FILE)))) {
+            out.print("step");
+            for (String name : species) {
+                out.print(',');
+                out.print(name);
+            }
+            out.println();
+            for (int[] row : series) {
+                out.print(row[0]);
+                for (int i = 1; i < row.length; i++) {
+                    out.print(',');
+                    out.print(row[i]);
+                }
+                out.println();
+            }
+        }
+
+        try (Writer out = Files.newBufferedWriter(directory.resolve(SUMMARY_FILE))) {
+            out.write(summary());
+        }
+    }
+
+    /**
+    * Formats the final statistics and throughput as properties.
+    *
+    * @return The summary text.
+    */
+    public String summary() {
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("seed=").append(settings.getSeed()).append('\n');
+        buffer.append("height=").append(settings.getHeight()).append('\n');
+        buffer.append("width=").append(settings.getWidth()).append('\n');
+        buffer.append("threads=").append(settings.getThreads()).append('\n');
+        buffer.append("stepsRequested=").append(settings.getSteps()).append('\n');
+        buffer.append("stepsRun=").append(stepsRun).append('\n');
+        buffer.append("stepSeconds=").append(format(stepNanos / 1e9)).append('\n');
+        buffer.append("stepsPerSecond=").append(format(getStepsPerSecond())).append('\n');
+        buffer.append("nanosPerOrganismStep=").append(format(getNanosPerOrganismStep())).append('\n');
+        for (int i = 0; i < species.size(); i++) {
+            buffer.append("count.").append(species.get(i)).append('=').append(finalCounts[i]).append('\n');
+        }
+        for (int i = 0; i < species.size(); i++) {
+            buffer.append("infected.").append(species.get(i)).append('=').append(finalInfected[i]).append('\n');
+        }
+        return buffer.toString();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
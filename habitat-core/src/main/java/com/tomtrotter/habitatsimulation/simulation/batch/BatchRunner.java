@@ -0,0 +1,185 @@
+package com.tomtrotter.habitatsimulation.simulation.batch;
+
+import com.tomtrotter.habitatsimulation.core.domain.Organism;
+import com.tomtrotter.habitatsimulation.core.domain.Plant;
+import com.tomtrotter.habitatsimulation.simulation.entities.*;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.environment.PopulationCounts;
+import com.tomtrotter.habitatsimulation.simulation.simulation.RunController;
+import com.tomtrotter.habitatsimulation.simulation.simulation.Simulator;
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorConfig;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+* Runs a simulation without a user interface: no stage, no delay between steps and no repainting.
+* The runner steps at full speed through a {@link RunController} that was never given a target
+* rate, samples the population every few steps and measures how long the steps themselves take.
+* <p>
+* Command line: {@code BatchRunner <parameters.properties> <output-directory> [key=value ...]}.
+* Trailing {@code key=value} pairs override the parameter file, e.g. {@code seed=7}.
+* With {@code replicates} above one the command runs an {@link EnsembleRunner} instead.
+*/
+public class BatchRunner {
+
+    private static final List<Class<? extends Organism>> SPECIES =
+            List.of(Plant.class, Tiger.class, Leopard.class, Hare.class, Deer.class, WildBoar.class);
+
+    private final BatchSettings settings;
+    private final SimulatorConfig config;
+
+    /**
+    * Creates a runner for the given settings.
+    *
+    * @param settings The parameter set to run.
+    */
+    public BatchRunner(BatchSettings settings) {
+        this.settings = settings;
+        config = settings.toConfig();
+    }
+
+    /**
+    * Runs the simulation for the requested number of steps or until every animal has died.
+    *
+    * @return The time series, final statistics and throughput of the run.
+    */
+    public BatchResult run() {
+        List<int[]> series = new ArrayList<>();
+        return simulate(settings.getSeed(), (step, counts) -> {
+            int[] row = new int[counts.length + 1];
+            row[0] = step;
+            System.arraycopy(counts, 0, row, 1, counts.length);
+            series.add(row);
+        }, series);
+    }
+
+    /**
+    * Runs one replicate with its own configuration, passing every sample to a listener.
+    *
+    * @param seed The master seed of this replicate.
+    * @param listener Receives each sample as it is taken; the counts array is not reused.
+    * @param series The series to report in the result; may be empty when the listener keeps nothing.
+    * @return The final statistics and throughput of the run.
+    */
+    BatchResult simulate(long seed, SampleListener listener, List<int[]> series) {
+        try (Simulator simulator = new Simulator(settings.getHeight(), settings.getWidth(), settings.getThreads(),
+                seed, config)) {
+            Field field = simulator.getField();
+            byte[] codes = speciesCodes();
+            int[] last = sample(field, codes);
+            listener.onSample(0, last);
+
+            RunController controller = new RunController(simulator);
+            long animalSteps = 0;
+            int step = 0;
+            while (step < settings.getSteps() && !simulator.getAnimals().isEmpty()) {
+                animalSteps += simulator.getAnimals().size();
+                controller.advance();
+                step++;
+
+                if (step % settings.getSampleInterval() == 0) {
+                    last = sample(field, codes);
+                    listener.onSample(step, last);
+                }
+            }
+            if (step % settings.getSampleInterval() != 0) {
+                last = sample(field, codes);
+                listener.onSample(step, last);
+            }
+
+            int[] finalInfected = new int[codes.length];
+            for (int i = 0; i < codes.length; i++) {
+                finalInfected[i] = field.getCounts().getInfected(codes[i]);
+            }
+
+            return new BatchResult(settings, speciesNames(), series, last, finalInfected,
+                    step, controller.getStepNanos(), animalSteps);
+        }
+    }
+
+    /**
+    * Returns the names of the recorded species, in column order.
+    *
+    * @return The species names.
+    */
+    static List<String> speciesNames() {
+        List<String> names = new ArrayList<>();
+        for (Class<? extends Organism> type : SPECIES) {
+            names.add(SpeciesRegistry.of(type).getName());
+        }
+        return List.copyOf(names);
+    }
+
+    /**
+    * Returns the field species code of every recorded species, in column order.
+    */
+    private static byte[] speciesCodes() {
+        byte[] codes = new byte[SPECIES.size()];
+        for (int i = 0; i < SPECIES.size(); i++) {
+            codes[i] = Field.speciesCodeOf(SPECIES.get(i));
+        }
+        return codes;
+    }
+
+    /**
+    * Reads the count of every species from the field's live population counts, without a scan.
+    *
+    * @return One count per species, in column order.
+    */
+    private static int[] sample(Field field, byte[] codes) {
+        PopulationCounts population = field.getCounts();
+        int[] counts = new int[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            counts[i] = population.getCount(codes[i]);
+        }
+        return counts;
+    }
+
+    /**
+    * Runs one parameter set from the command line and writes its results to disk.
+    *
+    * @param args The parameter file, the output directory, then optional key=value overrides.
+    */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: BatchRunner <parameters.properties> <output-directory> [key=value ...]");
+            System.exit(2);
+        }
+
+        try {
+            BatchSettings settings = BatchSettings.load(Path.of(args[0]));
+            for (int i = 2; i < args.length; i++) {
+                int split = args[i].indexOf('=');
+                if (split <= 0) {
+                    throw new IllegalArgumentException("Expected key=value but got: " + args[i]);
+                }
+                settings = settings.with(args[i].substring(0, split), args[i].substring(split + 1));
+            }
+
+            if (settings.getReplicates() > 1) {
+                EnsembleResult result = new EnsembleRunner(settings).run();
+                result.writeTo(Path.of(args[1]));
+
+                System.out.printf("%d replicates, %.2f replicates/sec, %.1f steps/sec%n",
+                        result.getReplicates(), result.getReplicatesPerSecond(), result.getStepsPerSecond());
+                return;
+            }
+
+            BatchResult result = new BatchRunner(settings).run();
+            result.writeTo(Path.of(args[1]));
+
+            System.out.printf("%d steps, %.1f steps/sec, %.1f ns/organism/step%n",
+                    result.getStepsRun(), result.getStepsPerSecond(), result.getNanosPerOrganismStep());
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.tomtrotter.habitatsimulation.simulation.batch;
+
+import com.tomtrotter.habitatsimulation.simulation.species.FoodWeb;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorConfig;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
+import com.tomtrotter.habitatsimulation.util.Randomizer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+* The parameter set for one headless run, read from a properties file.
+* <p>
+* Run keys: {@code height}, {@code width}, {@code steps}, {@code threads} (0 runs serially),
+* {@code seed} and {@code sampleInterval} (steps between rows of the population time series).
+* <p>
+* Ensemble keys: {@code replicates} (independent runs, each with its own seed) and
+* {@code parallelism} (runs at once; 0 uses every available core).
+* <p>
+* Model keys, overriding the defaults of {@link SimulatorConfig} when present: {@code plantFoodValue},
+* {@code preyFoodValue}, {@code diseaseDuration}, {@code mortalityRate}, {@code mutationProbability},
+* {@code predatorWeight.<Type>} and {@code preyWeight.<Type>}.
+* <p>
+* Diet keys replace entries of the food web: {@code diet.<Species>} lists what a species eats at
+* every life stage, highest priority first and separated by commas (e.g. {@code diet.WildBoar=Hare,Plant}),
+* and {@code diet.<Species>.young} or {@code diet.<Species>.adult} set one stage, overriding the former.
+* An empty list means the species eats nothing.
+*/
+public class BatchSettings {
+
+    private static final String PREDATOR_WEIGHT = "predatorWeight.";
+    private static final String PREY_WEIGHT = "preyWeight.";
+    private static final String DIET = "diet.";
+
+    private final Properties properties;
+    private final int height;
+    private final int width;
+    private final int steps;
+    private final int threads;
+    private final long seed;
+    private final int sampleInterval;
+    private final int replicates;
+    private final int parallelism;
+
+    /**
+    * Creates settings from a set of properties. Missing run keys take their defaults.
+    *
+    * @param properties The parameter set.
+    * @throws IllegalArgumentException If a value is malformed or out of range.
+    */
+    public BatchSettings(Properties properties) {
+        this.properties = new Properties();
+        this.properties.putAll(properties);
+
+        height = intValue("height", 100, 1);
+        width = intValue("width", 100, 1);
+        steps = intValue("steps", 1000, 0);
+        threads = intValue("threads", 0, 0);
+        seed = longValue("seed", Randomizer.getSeed());
+        sampleInterval = intValue("sampleInterval", 1, 1);
+        replicates = intValue("replicates", 1, 1);
+        parallelism = intValue("parallelism", 0, 0);
+    }
+
+    /**
+    * Reads settings from a properties file.
+    *
+    * @param file The parameter file.
+    * @return The settings.
+    * @throws IOException If the file cannot be read.
+    * @throws IllegalArgumentException If a value is malformed or out of range.
+    */
+    public static BatchSettings load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        return new BatchSettings(properties);
+    }
+
+    /**
+    * Returns a copy of these settings with one key replaced, e.g. to override the seed.
+    *
+    * @param key The key to set.
+    * @param value The new value.
+    * @return The new settings.
+    */
+    public BatchSettings with(String key, String value) {
+        Properties copy = new Properties();
+        copy.putAll(properties);
+        copy.setProperty(key, value);
+        return new BatchSettings(copy);
+    }
+
+    /**
+    * Returns the model configuration of these settings: the defaults, overridden by every model key present.
+    * The shared {@link SimulatorState} is neither read nor changed.
+    *
+    * @return The configuration.
+    */
+    public SimulatorConfig toConfig() {
+        SimulatorState state = new SimulatorState();
+        applyTo(state);
+        return state.snapshot();
+    }
+
+    /**
+    * Copies every model key present in these settings into the simulator state.
+    *
+    * @param state The state to update.
+    */
+    public void applyTo(SimulatorState state) {
+        if (properties.containsKey("plantFoodValue")) {
+            state.setPlantFoodValue(intValue("plantFoodValue", 0, 0));
+        }
+        if (properties.containsKey("preyFoodValue")) {
+            state.setPreyFoodValue(intValue("preyFoodValue", 0, 0));
+        }
+        if (properties.containsKey("diseaseDuration")) {
+            state.setDuration(intValue("diseaseDuration", 0, 0));
+        }
+        if (properties.containsKey("mortalityRate")) {
+            state.setMortalityRate(probability("mortalityRate"));
+        }
+        if (properties.containsKey("mutationProbability")) {
+            state.setMutationProbability(probability("mutationProbability"));
+        }
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(PREDATOR_WEIGHT)) {
+                state.setPredatorWeight(key.substring(PREDATOR_WEIGHT.length()), weight(key));
+            } else if (key.startsWith(PREY_WEIGHT)) {
+                state.setPreyWeight(key.substring(PREY_WEIGHT.length()), weight(key));
+            }
+        }
+        // Sorted, so that a species' stage keys come after the key covering both stages.
+        FoodWeb foodWeb = state.getFoodWeb();
+        for (String key : new TreeSet<>(properties.stringPropertyNames())) {
+            if (key.startsWith(DIET)) {
+                foodWeb = withDiet(foodWeb, key);
+            }
+        }
+        state.setFoodWeb(foodWeb);
+    }
+
+    /**
+    * Returns the field height.
+    *
+    * @return The number of rows.
+    */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+    * Returns the field width.
+    *
+    * @return The number of columns.
+    */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+    * Returns the number of steps to run.
+    *
+    * @return The requested step count.
+    */
+    public int getSteps() {
+        return steps;
+    }
+
+    /**
+    * Returns the number of worker threads; zero runs steps serially.
+    *
+    * @return The thread count.
+    */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+    * Returns the master seed.
+    *
+    * @return The seed.
+    */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+    * Returns the number of steps between rows of the population time series.
+    *
+    * @return The sample interval.
+    */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+    * Returns the number of independent runs in an ensemble.
+    *
+    * @return The replicate count.
+    */
+    public int getReplicates() {
+        return replicates;
+    }
+
+    /**
+    * Returns the number of ensemble runs executed at once; zero means one per available core.
+    *
+    * @return The ensemble parallelism.
+    */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+    * Reads an integer key, checking it against a lower bound.
+    */
+    private int intValue(String key, int defaultValue, int min) {
+        String text = properties.getProperty(key);
+        if (text == null) {
+            return defaultValue;
+        }
+        int value;
+        try {
+            value = Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer for " + key + ": " + text);
+        }
+        if (value < min) {
+            throw new IllegalArgumentException(key + " must be at least " + min + ", got " + value);
+        }
+        return value;
+    }
+
+    /**
+    * Reads a long key.
+    */
+    private long longValue(String key, long defaultValue) {
+        String text = properties.getProperty(key);
+        if (text == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer for " + key + ": " + text);
+        }
+    }
+
+    /**
+    * Reads a non-negative decimal key.
+    */
+    private double weight(String key) {
+        String text = properties.getProperty(key);
+        double value;
+        try {
+            value = Double.parseDouble(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + key + ": " + text);
+        }
+        if (!(value >= 0.0)) {
+            throw new IllegalArgumentException(key + " must not be negative, got " + value);
+        }
+        return value;
+    }
+
+    /**
+    * Reads a decimal key that must lie between 0.0 and 1.0.
+    */
+    private double probability(String key) {
+        double value = weight(key);
+        if (value > 1.0) {
+            throw new IllegalArgumentException(key + " must be between 0.0 and 1.0, got " + value);
+        }
+        return value;
+    }
+
+    /**
+    * Applies one diet key to a food web.
+    */
+    private FoodWeb withDiet(FoodWeb foodWeb, String key) {
+        String eater = key.substring(DIET.length());
+        List<String> foods = new ArrayList<>();
+        for (String name : properties.getProperty(key).split(",")) {
+            if (!name.isBlank()) {
+                foods.add(name.trim());
+            }
+        }
+        try {
+            for (FoodWeb.Stage stage : FoodWeb.Stage.values()) {
+                String suffix = "." + stage.name().toLowerCase();
+                if (eater.endsWith(suffix)) {
+                    return foodWeb.withDiet(eater.substring(0, eater.length() - suffix.length()), stage, foods);
+                }
+            }
+            return foodWeb.withDiet(eater, foods);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid diet for " + key + ": " + e.getMessage());
+        }
+    }
+}
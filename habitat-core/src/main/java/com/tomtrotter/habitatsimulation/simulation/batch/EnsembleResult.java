@@ -0,0 +1,180 @@
+package com.tomtrotter.habitatsimulation.simulation.batch;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+* The aggregated outcome of an ensemble: for every sampled step and species, the running
+* statistics of the count across all replicates.
+*/
+public class EnsembleResult {
+
+    public static final String STATISTICS_FILE = "ensemble.csv";
+    public static final String SUMMARY_FILE = "ensemble-summary.properties";
+
+    private final BatchSettings settings;
+    private final List<String> species;
+    private final int[] steps;
+    private final RunningStatistics[][] statistics;
+    private final int replicates;
+    private final int parallelism;
+    private final long wallNanos;
+    private final long stepsRun;
+
+    /**
+    * Creates a result.
+    *
+    * @param settings The settings every replicate used.
+    * @param species The species names, in column order.
+    * @param steps The step of each sample row.
+    * @param statistics The statistics of each species count, indexed by sample row then species.
+    * @param replicates The number of replicates run.
+    * @param parallelism The number of replicates run at once.
+    * @param wallNanos The wall-clock time of the whole ensemble, in nanoseconds.
+    * @param stepsRun The total number of steps run over all replicates.
+    */
+    EnsembleResult(BatchSettings settings, List<String> species, int[] steps, RunningStatistics[][] statistics,
+                   int replicates, int parallelism, long wallNanos, long stepsRun) {
+        this.settings = settings;
+        this.species = species;
+        this.steps = steps;
+        this.statistics = statistics;
+        this.replicates = replicates;
+        this.parallelism = parallelism;
+        this.wallNanos = wallNanos;
+        this.stepsRun = stepsRun;
+    }
+
+    /**
+    * Returns the species names, in column order.
+    *
+    * @return The species names.
+    */
+    public List<String> getSpecies() {
+        return species;
+    }
+
+    /**
+    * Returns the number of sample rows.
+    *
+    * @return The row count.
+    */
+    public int getSampleCount() {
+        return steps.length;
+    }
+
+    /**
+    * Returns the step a sample row was taken after.
+    *
+    * @param sample The sample row.
+    * @return The step.
+    */
+    public int getStep(int sample) {
+        return steps[sample];
+    }
+
+    /**
+    * Returns the statistics of one species count at one sample row.
+    *
+    * @param sample The sample row.
+    * @param speciesName The species name.
+    * @return The statistics across replicates.
+    * @throws IllegalArgumentException If the species is unknown.
+    */
+    public RunningStatistics getStatistics(int sample, String speciesName) {
+        int column = species.indexOf(speciesName);
+        if (column < 0) {
+            throw new IllegalArgumentException("Unknown species: " + speciesName);
+        }
+        return statistics[sample][column];
+    }
+
+    /**
+    * Returns the number of replicates run.
+    *
+    * @return The replicate count.
+    */
+    public int getReplicates() {
+        return replicates;
+    }
+
+    /**
+    * Returns the number of replicates completed per second of wall-clock time.
+    *
+    * @return The replicate rate.
+    */
+    public double getReplicatesPerSecond() {
+        return wallNanos == 0 ? 0.0 : replicates * 1e9 / wallNanos;
+    }
+
+    /**
+    * Returns the total simulation steps completed per second of wall-clock time, over all replicates.
+    *
+    * @return The aggregate step rate.
+    */
+    public double getStepsPerSecond() {
+        return wallNanos == 0 ? 0.0 : stepsRun * 1e9 / wallNanos;
+    }
+
+    /**
+    * Writes the per-step statistics and a summary into a directory, creating it if needed.
+    * The statistics file has one row per sampled step and species.
+    *
+    * @param directory The output directory.
+    * @throws IOException If a file cannot be written.
+    */
+    public void writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        double[] levels = statistics[0][0].getQuantileLevels();
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(directory.resolve(STATISTICS_FILE)))) {
+            out.print("step,species,replicates,mean,variance");
+            for (double level : levels) {
+                out.print(",q");
+                out.print(format(level));
+            }
+            out.println();
+
+            for (int sample = 0; sample < steps.length; sample++) {
+                for (int column = 0; column < species.size(); column++) {
+                    RunningStatistics stats = statistics[sample][column];
+                    out.print(steps[sample]);
+                    out.print(',');
+                    out.print(species.get(column));
+                    out.print(',');
+                    out.print(stats.getCount());
+                    out.print(',');
+                    out.print(format(stats.getMean()));
+                    out.print(',');
+                    out.print(format(stats.getVariance()));
+                    for (int i = 0; i < levels.length; i++) {
+                        out.print(',');
+                        out.print(format(stats.getQuantile(i)));
+                    }
+                    out.println();
+                }
+            }
+        }
+
+        try (Writer out = Files.newBufferedWriter(directory.resolve(SUMMARY_FILE))) {
+            out.write("seed=" + settings.getSeed() + "\n");
+            out.write("height=" + settings.getHeight() + "\n");
+            out.write("width=" + settings.getWidth() + "\n");
+            out.write("steps=" + settings.getSteps() + "\n");
+            out.write("replicates=" + replicates + "\n");
+            out.write("parallelism=" + parallelism + "\n");
+            out.write("wallSeconds=" + format(wallNanos / 1e9) + "\n");
+            out.write("replicatesPerSecond=" + format(getReplicatesPerSecond()) + "\n");
+            out.write("stepsPerSecond=" + format(getStepsPerSecond()) + "\n");
+        }
+    }
+
+    private static String format(double value) {
+        return Double.isNaN(value) ? "" : String.format(Locale.ROOT, "%.3f", value);
+    }
+}
@@ -0,0 +1,222 @@
+package com.tomtrotter.habitatsimulation.simulation.batch;
+
+import com.tomtrotter.habitatsimulation.util.RandomStreams;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+* Runs many independent replicates of one parameter set concurrently and aggregates their
+* population counts.
+* <p>
+* A fixed pool of workers, one per available core by default, takes replicate numbers from a shared
+* counter until all have been run. Each replicate runs serially, whatever {@code threads} is set to, so
+* the ensemble never uses more than its pool of workers. Each replicate gets its own seed derived from
+* the master seed, and the replicates are folded into the {@link RunningStatistics} for each step and
+* species in replicate order, not in the order they finish, so the same settings give the same
+* means, variances and quantile estimates at any parallelism. A replicate that finishes ahead of an
+* earlier one holds its sampled counts until the earlier one is folded, and no replicate is started
+* more than {@link #LOOKAHEAD} replicates per worker ahead of the oldest one not yet folded, so
+* memory depends on the number of sampled steps and the parallelism but not on the number of
+* replicates.
+*/
+public class EnsembleRunner {
+
+    public static final double[] DEFAULT_QUANTILES = {0.05, 0.5, 0.95};
+
+    /**
+    * How many replicates per worker may be started or held past the oldest replicate not yet folded.
+    * Workers that get this far ahead wait for it, which bounds the counts held for folding.
+    */
+    public static final int LOOKAHEAD = 2;
+
+    private final BatchSettings settings;
+    private final int replicates;
+    private final int parallelism;
+
+    /**
+    * Creates a runner using the replicate count and parallelism from the settings.
+    *
+    * @param settings The parameter set to run.
+    */
+    public EnsembleRunner(BatchSettings settings) {
+        this(settings, settings.getReplicates(), settings.getParallelism());
+    }
+
+    /**
+    * Creates a runner.
+    *
+    * @param settings The parameter set every replicate runs, serially whatever its thread count.
+    * @param replicates The number of replicates. Must be at least one.
+    * @param parallelism The number of replicates run at once, or zero for one per available core.
+    */
+    public EnsembleRunner(BatchSettings settings, int replicates, int parallelism) {
+        if (replicates < 1) {
+            throw new IllegalArgumentException("Replicates must be at least 1, got " + replicates);
+        }
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("Parallelism must not be negative, got " + parallelism);
+        }
+        this.settings = settings.getThreads() == 0 ? settings : settings.with("threads", "0");
+        this.replicates = replicates;
+        this.parallelism = Math.min(replicates,
+                parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism);
+    }
+
+    /**
+    * Returns the seed of one replicate, derived from the master seed.
+    *
+    * @param seed The master seed.
+    * @param replicate The replicate number, from zero.
+    * @return The replicate's seed.
+    */
+    public static long replicateSeed(long seed, int replicate) {
+        return new RandomStreams(seed).derive(replicate).getSeed();
+    }
+
+    /**
+    * Runs every replicate and aggregates the results.
+    *
+    * @return The per-step statistics of every species count.
+    * @throws InterruptedException If the calling thread is interrupted while waiting.
+    */
+    public EnsembleResult run() throws InterruptedException {
+        List<String> species = BatchRunner.speciesNames();
+        int[] steps = sampleSteps();
+        RunningStatistics[][] statistics = new RunningStatistics[steps.length][species.size()];
+        for (RunningStatistics[] row : statistics) {
+            for (int column = 0; column < row.length; column++) {
+                row[column] = new RunningStatistics(DEFAULT_QUANTILES);
+            }
+        }
+
+        BatchRunner runner = new BatchRunner(settings);
+        AtomicLong stepsRun = new AtomicLong();
+        int window = LOOKAHEAD * parallelism;
+        // Sampled counts of replicates that finished before an earlier one, by replicate modulo the window.
+        int[][][] pending = new int[window][][];
+        // The next replicate to start, the next to fold, and whether a replicate failed; guarded by pending.
+        int[] nextToStart = {0};
+        int[] nextToFold = {0};
+        boolean[] failed = {false};
+        Callable<Void> worker = () -> {
+            while (true) {
+                int replicate;
+                synchronized (pending) {
+                    // The oldest replicate not yet folded is always running, so a waiting worker is woken.
+                    while (!failed[0] && nextToStart[0] < replicates && nextToStart[0] - nextToFold[0] >= window) {
+                        pending.wait();
+                    }
+                    if (failed[0] || nextToStart[0] >= replicates) {
+                        return null;
+                    }
+                    replicate = nextToStart[0]++;
+                }
+
+                int[][] rows = new int[statistics.length][];
+                try {
+                    stepsRun.addAndGet(runReplicate(runner, replicate, rows));
+                } catch (RuntimeException | Error e) {
+                    synchronized (pending) {
+                        failed[0] = true;
+                        pending.notifyAll();
+                    }
+                    throw e;
+                }
+                synchronized (pending) {
+                    pending[replicate % window] = rows;
+                    while (nextToFold[0] < replicates && pending[nextToFold[0] % window] != null) {
+                        fold(statistics, pending[nextToFold[0] % window]);
+                        pending[nextToFold[0]++ % window] = null;
+                    }
+                    pending.notifyAll();
+                }
+            }
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        long start = System.nanoTime();
+        try {
+            List<Future<Void>> workers = pool.invokeAll(Collections.nCopies(parallelism, worker));
+            for (Future<Void> future : workers) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Replicate failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        long wallNanos = System.nanoTime() - start;
+
+        return new EnsembleResult(settings, species, steps, statistics, replicates, parallelism,
+                wallNanos, stepsRun.get());
+    }
+
+    /**
+    * Runs one replicate, keeping the counts of each sample row. A replicate whose animals all die
+    * early keeps its final counts for the remaining rows, since the field no longer changes.
+    *
+    * @return The number of steps the replicate ran.
+    */
+    private int runReplicate(BatchRunner runner, int replicate, int[][] rows) {
+        int interval = settings.getSampleInterval();
+        int lastRow = rows.length - 1;
+        int[] recorded = {-1};
+        int[][] latest = new int[1][];
+
+        BatchResult result = runner.simulate(replicateSeed(settings.getSeed(), replicate), (step, counts) -> {
+            latest[0] = counts;
+            int row;
+            if (step == settings.getSteps()) {
+                row = lastRow;
+            } else if (step % interval == 0) {
+                row = step / interval;
+            } else {
+                return;
+            }
+            rows[row] = counts;
+            recorded[0] = row;
+        }, List.of());
+
+        for (int row = recorded[0] + 1; row <= lastRow; row++) {
+            rows[row] = latest[0];
+        }
+        return result.getStepsRun();
+    }
+
+    /**
+    * Adds one replicate's counts to every row of statistics.
+    */
+    private static void fold(RunningStatistics[][] statistics, int[][] rows) {
+        for (int row = 0; row < statistics.length; row++) {
+            for (int column = 0; column < statistics[row].length; column++) {
+                statistics[row][column].add(rows[row][column]);
+            }
+        }
+    }
+
+    /**
+    * Returns the step of every sample row: multiples of the interval, then the last step if it is not one.
+    */
+    private int[] sampleSteps() {
+        int interval = settings.getSampleInterval();
+        List<Integer> steps = new ArrayList<>();
+        for (int step = 0; step <= settings.getSteps(); step += interval) {
+            steps.add(step);
+        }
+        if (settings.getSteps() % interval != 0) {
+            steps.add(settings.getSteps());
+        }
+        return steps.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,198 @@
+package com.tomtrotter.habitatsimulation.simulation.batch;
+
+import java.util.Arrays;
+
+/**
+* Streaming summary statistics of a sequence of values, updated one value at a time in constant memory.
+* <p>
+* The mean and variance use Welford's online algorithm. Quantiles are estimated with the P² algorithm
+* of Jain and Chlamtac, which tracks five markers per quantile instead of storing the values; the
+* estimate is exact for the first five values and approximate after that. Neither needs memory that
+* grows with the number of values, so a summary stays the same size however many replicates are folded
+* in. The order values arrive in can change the quantile estimates slightly.
+* <p>
+* Instances are not thread-safe; callers that share one must synchronise.
+*/
+public class RunningStatistics {
+
+    private final double[] levels;
+    private final QuantileEstimator[] quantiles;
+    private long count;
+    private double mean;
+    private double sumOfSquares;
+
+    /**
+    * Creates an empty summary that tracks the given quantiles.
+    *
+    * @param levels The quantile levels to estimate, each between 0.0 and 1.0 (e.g. 0.5 for the median).
+    * @throws IllegalArgumentException If a level is outside 0.0–1.0.
+    */
+    public RunningStatistics(double... levels) {
+        this.levels = levels.clone();
+        quantiles = new QuantileEstimator[levels.length];
+        for (int i = 0; i < levels.length; i++) {
+            if (!(levels[i] >= 0.0 && levels[i] <= 1.0)) {
+                throw new IllegalArgumentException("Quantile level must be between 0.0 and 1.0: " + levels[i]);
+            }
+            quantiles[i] = new QuantileEstimator(levels[i]);
+        }
+    }
+
+    /**
+    * Adds one value to the summary.
+    *
+    * @param value The value to add.
+    */
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        sumOfSquares += delta * (value - mean);
+
+        for (QuantileEstimator quantile : quantiles) {
+            quantile.add(value);
+        }
+    }
+
+    /**
+    * Returns the number of values added.
+    *
+    * @return The count.
+    */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+    * Returns the mean of the values added.
+    *
+    * @return The mean, or NaN if no value has been added.
+    */
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+    * Returns the sample variance of the values added.
+    *
+    * @return The unbiased variance, or NaN if fewer than two values have been added.
+    */
+    public double getVariance() {
+        return count < 2 ? Double.NaN : sumOfSquares / (count - 1);
+    }
+
+    /**
+    * Returns the quantile levels this summary tracks.
+    *
+    * @return A copy of the levels, in the order given to the constructor.
+    */
+    public double[] getQuantileLevels() {
+        return levels.clone();
+    }
+
+    /**
+    * Returns the estimate of one of the tracked quantiles.
+    *
+    * @param index The position of the level in {@link #getQuantileLevels()}.
+    * @return The estimated quantile, or NaN if no value has been added.
+    */
+    public double getQuantile(int index) {
+        return quantiles[index].get();
+    }
+
+    /**
+    * One P² estimator: five marker heights and positions that are nudged towards their
+    * desired positions as values arrive.
+    */
+    private static class QuantileEstimator {
+
+        private final double level;
+        private final double[] heights = new double[5];
+        private final double[] positions = new double[5];
+        private final double[] desired = new double[5];
+        private final double[] increments;
+        private int count;
+
+        QuantileEstimator(double level) {
+            this.level = level;
+            increments = new double[] {0.0, level / 2, level, (1 + level) / 2, 1.0};
+        }
+
+        void add(double value) {
+            if (count < 5) {
+                heights[count++] = value;
+                if (count == 5) {
+                    Arrays.sort(heights);
+                    for (int i = 0; i < 5; i++) {
+                        positions[i] = i + 1;
+                        desired[i] = 1 + 4 * increments[i];
+                    }
+                }
+                return;
+            }
+
+            // Find the cell the value falls in, widening the outer markers if needed.
+            int cell;
+            if (value < heights[0]) {
+                heights[0] = value;
+                cell = 0;
+            } else if (value >= heights[4]) {
+                heights[4] = value;
+                cell = 3;
+            } else {
+                cell = 0;
+                while (value >= heights[cell + 1]) {
+                    cell++;
+                }
+            }
+
+            for (int i = cell + 1; i < 5; i++) {
+                positions[i]++;
+            }
+            for (int i = 0; i < 5; i++) {
+                desired[i] += increments[i];
+            }
+            count++;
+
+            // Move each middle marker at most one position towards where it should be.
+            for (int i = 1; i <= 3; i++) {
+                double offset = desired[i] - positions[i];
+                if ((offset >= 1 && positions[i + 1] - positions[i] > 1)
+                        || (offset <= -1 && positions[i - 1] - positions[i] < -1)) {
+                    int step = offset > 0 ? 1 : -1;
+                    double height = parabolic(i, step);
+                    if (heights[i - 1] < height && height < heights[i + 1]) {
+                        heights[i] = height;
+                    } else {
+                        heights[i] += step * (heights[i + step] - heights[i]) / (positions[i + step] - positions[i]);
+                    }
+                    positions[i] += step;
+                }
+            }
+        }
+
+        private double parabolic(int i, int step) {
+            double below = positions[i] - positions[i - 1];
+            double above = positions[i + 1] - positions[i];
+            return heights[i] + step / (positions[i + 1] - positions[i - 1])
+                    * ((below + step) * (heights[i + 1] - heights[i]) / above
+                    + (above - step) * (heights[i] - heights[i - 1]) / below);
+        }
+
+        double get() {
+            if (count == 0) {
+                return Double.NaN;
+            }
+            if (count > 5) {
+                return heights[2];
+            }
+            // Too few values for the markers: interpolate between the sorted values.
+            double[] sorted = Arrays.copyOf(heights, count);
+            Arrays.sort(sorted);
+            double rank = level * (count - 1);
+            int lower = (int) Math.floor(rank);
+            int upper = Math.min(lower + 1, count - 1);
+            return sorted[lower] + (rank - lower) * (sorted[upper] - sorted[lower]);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.tomtrotter.habitatsimulation.simulation.batch;
+
+/**
+* Receives the population samples of a headless run as they are taken.
+*/
+@FunctionalInterface
+public interface SampleListener {
+
+    /**
+    * Called after the field has been counted.
+    *
+    * @param step The step the sample was taken after; zero for the initial population.
+    * @param counts One count per species, in the runner's column order.
+    */
+    void onSample(int step, int[] counts);
+
+}
@@ -1,12 +1,9 @@
 package com.tomtrotter.habitatsimulation.simulation.entities;
 
 import com.tomtrotter.habitatsimulation.simulation.environment.Field;
-import com.tomtrotter.habitatsimulation.simulation.environment.Location;
 import com.tomtrotter.habitatsimulation.core.domain.Prey;
 import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
-import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
 import com.tomtrotter.habitatsimulation.core.domain.Animal;
-import javafx.scene.paint.Color;
 
 /**
 * A simple model of a Deer in the habitat simulation.
@@ -16,42 +13,40 @@ import javafx.scene.paint.Color;
 
 public class Deer extends Animal implements Prey {
 
-    private static final String deerIcon = "🦌";
-
     /**
     * Creates a Deer instance. A Deer can either be a newborn (age 0, not hungry) or have a random age
     * and hunger level based on the first generation flag (`isGen1`).
     *
     * @param isGen1 If true, the deer will have a random age and hunger level. If false, it will start as a newborn.
     * @param field The field where the deer is located.
-    * @param location The location within the field where the deer will be placed.
+    * @param cell The cell within the field where the deer will be placed.
     * @param colour The colour representation of the deer in the simulation.
     * @param genetics The genetic material assigned to the deer.
     */
-    public Deer(boolean isGen1, Field field, Location location, Color colour, Genetics genetics) {
-        super(field, location, colour, genetics);
+    public Deer(boolean isGen1, Field field, int cell, int colour, Genetics genetics) {
+        super(field, cell, colour, genetics);
         // If initializing the simulation, set random ages and animal food levels.
         if(isGen1) {
             setAge(rand.nextInt(genetics.getMaxAge()));
-            setFoodLevel(rand.nextInt(SimulatorState.getInstance().getPlantFoodValue()));
+            setFoodLevel(rand.nextInt(field.getConfig().plantFoodValue()));
             disease.setInfected(rand.nextBoolean());
         }
         else {
             setAge(0);
-            setFoodLevel(SimulatorState.getInstance().getPlantFoodValue());
+            setFoodLevel(field.getConfig().plantFoodValue());
             disease.setInfected(false);
         }
     }
 
     /**
-    * Searches for food for the deer. In this case, it delegates the food search to the `graze()` method,
-    * Deer are herbivores that graze on plants.
+    * Searches for food for the deer. In this case, it delegates the food search to the `forage()` method,
+    * which eats what the food web lists for deer; by default deer are herbivores that graze on plants.
     *
-    * @return The food's location, or null if no food is found.
+    * @return The food's cell, or {@link Field#NO_CELL} if no food is found.
     */
     @Override
-    protected Location findFood() {
-        return graze(this);
+    protected int findFood() {
+        return forage();
     }
 
     /**
@@ -59,14 +54,14 @@ public class Deer extends Animal implements Prey {
     * from its parents.
     *
     * @param field The field where the newborn deer will be placed.
-    * @param location The location where the newborn deer will be placed.
+    * @param cell The cell where the newborn deer will be placed.
     * @param colour The colour representation of the newborn deer in the simulation.
     * @param genetics The genetic material passed on to the newborn deer.
     * @return A new instance of the `Deer` class, representing the newborn.
     */
     @Override
-    protected Animal createBaby(Field field, Location location, Color colour, Genetics genetics) {
-        return new Deer(false, field, location, colour, genetics);
+    protected Animal createBaby(Field field, int cell, int colour, Genetics genetics) {
+        return new Deer(false, field, cell, colour, genetics);
     }
 
     /**
@@ -77,7 +72,7 @@ public class Deer extends Animal implements Prey {
     */
     @Override
     public String getIcon() {
-        return deerIcon;
+        return getSpecies().getIcon();
     }
 
 }
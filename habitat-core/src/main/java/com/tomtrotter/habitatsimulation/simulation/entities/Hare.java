@@ -1,12 +1,9 @@
 package com.tomtrotter.habitatsimulation.simulation.entities;
 
 import com.tomtrotter.habitatsimulation.simulation.environment.Field;
-import com.tomtrotter.habitatsimulation.simulation.environment.Location;
 import com.tomtrotter.habitatsimulation.core.domain.Prey;
 import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
-import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
 import com.tomtrotter.habitatsimulation.core.domain.Animal;
-import javafx.scene.paint.Color;
 
 /**
 * A simple model of a Hare.
@@ -20,8 +17,6 @@ import javafx.scene.paint.Color;
 
 public class Hare extends Animal implements Prey {
 
-    private static final String hareIcon = "🐰";
-
     /**
     * Creates a Hare. A hare can be created as a newborn (age zero
     * and with whole food level) or with a random age and hunger level
@@ -29,35 +24,35 @@ public class Hare extends Animal implements Prey {
     *
     * @param isGen1 If true, the hare will have a random age, food level, and disease status.
     * @param field The field where the hare currently exists.
-    * @param location The hare's location within the field.
+    * @param cell The hare's cell within the field.
     * @param colour The colour of the hare in the simulation.
     * @param genetics The hare's genetic material.
     */
-    public Hare(boolean isGen1, Field field, Location location, Color colour, Genetics genetics) {
-        super(field, location, colour, genetics);
+    public Hare(boolean isGen1, Field field, int cell, int colour, Genetics genetics) {
+        super(field, cell, colour, genetics);
         // If initializing the simulation, set random ages and animal food levels.
         if(isGen1) {
             setAge(rand.nextInt(genetics.getMaxAge()));
-            setFoodLevel(rand.nextInt(SimulatorState.getInstance().getPlantFoodValue()));
+            setFoodLevel(rand.nextInt(field.getConfig().plantFoodValue()));
             disease.setInfected(rand.nextBoolean());
         }
         else {
             setAge(0);
-            setFoodLevel(SimulatorState.getInstance().getPlantFoodValue());
+            setFoodLevel(field.getConfig().plantFoodValue());
             disease.setInfected(false);
         }
     }
 
     /**
     * Determines where the hare should move to find food.
-    * Delegates the findFood() method to call graze(),
-    * which allows the hare to graze on available plants in the field.
+    * Delegates the findFood() method to forage(),
+    * which by default allows the hare to graze on available plants in the field.
     *
-    * @return The location where the hare finds food.
+    * @return The cell where the hare finds food, or {@link Field#NO_CELL} if none is found.
     */
     @Override
-    protected Location findFood() {
-        return graze(this);
+    protected int findFood() {
+        return forage();
     }
 
     /**
@@ -65,14 +60,14 @@ public class Hare extends Animal implements Prey {
     * This method is called when a hare successfully breeds.
     *
     * @param field The field where the new hare will be placed.
-    * @param location The location of the newborn hare within the field.
+    * @param cell The cell of the newborn hare within the field.
     * @param colour The colour of the newborn hare in the simulation.
     * @param genetics The genetic material passed to the newborn hare.
     * @return A new instance of a Hare.
     */
     @Override
-    protected Animal createBaby(Field field, Location location, Color colour, Genetics genetics) {
-        return new Hare(false, field, location, colour, genetics);
+    protected Animal createBaby(Field field, int cell, int colour, Genetics genetics) {
+        return new Hare(false, field, cell, colour, genetics);
     }
 
     /**
@@ -82,7 +77,7 @@ public class Hare extends Animal implements Prey {
     */
     @Override
     public String getIcon() {
-        return hareIcon;
+        return getSpecies().getIcon();
     }
 
 }
@@ -1,14 +1,9 @@
 package com.tomtrotter.habitatsimulation.simulation.entities;
 
-import java.util.List;
-
 import com.tomtrotter.habitatsimulation.core.domain.Animal;
 import com.tomtrotter.habitatsimulation.core.domain.Predator;
 import com.tomtrotter.habitatsimulation.simulation.environment.Field;
-import com.tomtrotter.habitatsimulation.simulation.environment.Location;
 import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
-import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
-import javafx.scene.paint.Color;
 
 /**
 * A simple model of a Leopard.
@@ -18,8 +13,6 @@ import javafx.scene.paint.Color;
 
 public class Leopard extends Animal implements Predator {
 
-    private static final String leopardIcon = "🐆";
-
     /**
     * Creates a Leopard. A leopard can be created as a newborn (age zero
     * and with whole food level) or with a random age and hunger level
@@ -27,43 +20,38 @@ public class Leopard extends Animal implements Predator {
     *
     * @param isGen1 If true, the leopard will have a random age, food level, and disease status.
     * @param field The field where the leopard currently exists.
-    * @param location The leopard's location within the field.
+    * @param cell The leopard's cell within the field.
     * @param colour The colour of the leopard in the simulation.
     * @param genetics The leopard's genetic material.
     */
-    public Leopard(boolean isGen1, Field field, Location location, Color colour, Genetics genetics) {
-        super(field, location, colour, genetics);
+    public Leopard(boolean isGen1, Field field, int cell, int colour, Genetics genetics) {
+        super(field, cell, colour, genetics);
         // If initializing the simulation, set random ages and animal food levels.
         if(isGen1) {
             setAge(rand.nextInt(genetics.getMaxAge()));
-            setFoodLevel(rand.nextInt(SimulatorState.getInstance().getPreyFoodValue()));
+            setFoodLevel(rand.nextInt(field.getConfig().preyFoodValue()));
             disease.setInfected(rand.nextBoolean());
         }
         else {
             setAge(0);
-            setFoodLevel(SimulatorState.getInstance().getPreyFoodValue());
+            setFoodLevel(field.getConfig().preyFoodValue());
             disease.setInfected(false);
         }
     }
 
     /**
     * Determines where the leopard should move to find food.
-    * Delegates the findFood() method to call the hunt() method,
-    * which allows the leopard to hunt prey like Deer, Wild Boar, or Hare
-    * in the field based on the leopard's age.
+    * Delegates the findFood() method to forage(), which hunts the prey the food web
+    * lists for leopards of the leopard's age.
     * <p>
-    * The leopard hunts smaller prey (Hare, Deer) if it is young.
+    * By default the leopard hunts smaller prey (Hare, Deer) if it is young.
     * Older leopards may hunt larger prey (Deer, Wild Boar, Hare).
     *
-    * @return The location where the leopard finds food.
+    * @return The cell where the leopard finds food, or {@link Field#NO_CELL} if none is found.
     */
     @Override
-    protected Location findFood() {
-        List<Class<? extends Animal>> huntOrder = isYoung()
-            ? List.of(Hare.class, Deer.class)
-            : List.of(Deer.class, Hare.class, WildBoar.class);
-            
-        return hunt(this, huntOrder);
+    protected int findFood() {
+        return forage();
     }
 
     /**
@@ -71,14 +59,14 @@ public class Leopard extends Animal implements Predator {
     * This method is called when a leopard successfully breeds.
     *
     * @param field The field where the new leopard will be placed.
-    * @param location The location of the newborn leopard within the field.
+    * @param cell The cell of the newborn leopard within the field.
     * @param colour The colour of the newborn leopard in the simulation.
     * @param genetics The genetic material passed to the newborn leopard.
     * @return A new instance of a Leopard.
     */
     @Override
-    protected Animal createBaby(Field field, Location location, Color colour, Genetics genetics) {
-        return new Leopard(false, field, location, colour, genetics);
+    protected Animal createBaby(Field field, int cell, int colour, Genetics genetics) {
+        return new Leopard(false, field, cell, colour, genetics);
     }
 
     /**
@@ -88,7 +76,7 @@ public class Leopard extends Animal implements Predator {
     */
     @Override
     public String getIcon() {
-        return leopardIcon;
+        return getSpecies().getIcon();
     }
 
 }
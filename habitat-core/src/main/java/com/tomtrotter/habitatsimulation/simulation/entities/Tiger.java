@@ -1,14 +1,9 @@
 package com.tomtrotter.habitatsimulation.simulation.entities;
 
-import java.util.List;
-
 import com.tomtrotter.habitatsimulation.core.domain.Animal;
 import com.tomtrotter.habitatsimulation.core.domain.Predator;
 import com.tomtrotter.habitatsimulation.simulation.environment.Field;
-import com.tomtrotter.habitatsimulation.simulation.environment.Location;
 import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
-import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
-import javafx.scene.paint.Color;
 
 /**
 * A simple model of a Tiger. A Tiger can age, move, eat prey (such as Deer, Wild Boar, Rabbit),
@@ -17,51 +12,44 @@ import javafx.scene.paint.Color;
 
 public class Tiger extends Animal implements Predator {
 
-    private static final String tigerIcon = "\uD83D\uDC2F";
-
     /**
     * Creates a Tiger. A tiger can be created as a newborn (age zero and not hungry)
     * or with a random age and food level based on whether it is from the initial generator
     *
     * @param isGen1 Determines whether the tiger is from the initial generation. If true, the tiger will have a random age, hunger level, and gene.
     * @param field The field currently occupied by the tiger.
-    * @param location The location of the tiger within tiger field.
+    * @param cell The cell of the tiger within tiger field.
     * @param colour The color that the tiger is represented by.
     * @param genetics The tiger's genetic code.
     */
-    public Tiger(boolean isGen1, Field field, Location location, Color colour, Genetics genetics) {
-        super(field, location, colour, genetics);
+    public Tiger(boolean isGen1, Field field, int cell, int colour, Genetics genetics) {
+        super(field, cell, colour, genetics);
         // If initializing the simulation, set random ages and animal food levels.
         if(isGen1) {
             setAge(rand.nextInt(genetics.getMaxAge()));
-            setFoodLevel(rand.nextInt(SimulatorState.getInstance().getPreyFoodValue()));
+            setFoodLevel(rand.nextInt(field.getConfig().preyFoodValue()));
             disease.setInfected(rand.nextBoolean());
         }
         else {
             setAge(0);
-            setFoodLevel(SimulatorState.getInstance().getPreyFoodValue());
+            setFoodLevel(field.getConfig().preyFoodValue());
             disease.setInfected(false);
         }
     }
 
     /**
      * Determines where the tiger should move to find food.
-     * Delegates the findFood() method to call the hunt() method,
-     * which allows the tiger to hunt prey like Deer, tigers, or hares
-     * in the tiger based on the tiger's age.
+     * Delegates the findFood() method to forage(), which hunts the prey the food web
+     * lists for tigers of the tiger's age.
      * <p>
-     * If the tiger is young, it hunts smaller prey (Hare, Deer).
+     * By default, if the tiger is young, it hunts smaller prey (Hare, Deer).
      * Older tigers may hunt larger prey (Deer, Wild tiger Hare).
      *
-     * @return The location where the tiger finds food.
+     * @return The cell where the tiger finds food, or {@link Field#NO_CELL} if none is found.
      */
     @Override
-    protected Location findFood() {
-        List<Class<? extends Animal>> huntOrder = isYoung()
-            ? List.of(Hare.class, Deer.class)
-            : List.of(WildBoar.class, Deer.class, Hare.class);
-            
-        return hunt(this, huntOrder);
+    protected int findFood() {
+        return forage();
     }
 
     /**
@@ -69,14 +57,14 @@ public class Tiger extends Animal implements Predator {
     * This method is called when a tiger successfully breeds
     *
     * @param field The field where the new tiger will be placed.
-    * @param location The location of the newborn tiger within the field.
+    * @param cell The cell of the newborn tiger within the field.
     * @param colour The colour of the newborn tiger in the simulation.
     * @param genetics The genetic material passed to the newborn tiger.
     * @return A new instance of a Tiger.
     */
     @Override
-    protected Animal createBaby(Field field, Location location, Color colour, Genetics genetics) {
-        return new Tiger(false, field, location, colour, genetics);
+    protected Animal createBaby(Field field, int cell, int colour, Genetics genetics) {
+        return new Tiger(false, field, cell, colour, genetics);
     }
 
     /**
@@ -86,7 +74,7 @@ public class Tiger extends Animal implements Predator {
     */
     @Override
     public String getIcon() {
-        return tigerIcon;
+        return getSpecies().getIcon();
     }
 
 }
@@ -1,15 +1,10 @@
 package com.tomtrotter.habitatsimulation.simulation.entities;
 
-import java.util.List;
-
 import com.tomtrotter.habitatsimulation.core.domain.Animal;
 import com.tomtrotter.habitatsimulation.core.domain.Predator;
 import com.tomtrotter.habitatsimulation.core.domain.Prey;
 import com.tomtrotter.habitatsimulation.simulation.environment.Field;
-import com.tomtrotter.habitatsimulation.simulation.environment.Location;
 import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
-import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
-import javafx.scene.paint.Color;
 
 /**
 * A simple model of a WildBoar. A wild boar ages, moves, eats plants, and can hunt prey.
@@ -19,7 +14,6 @@ import javafx.scene.paint.Color;
 public class WildBoar extends Animal implements Predator, Prey {
 
     private double HUNT_PROBABILITY = 0.2;
-    private static final String wildBoarIcon = "🐗";
 
     /**
     * Creates a WildBoar. A wild boar can be created as a newborn (age zero and not hungry)
@@ -27,38 +21,36 @@ public class WildBoar extends Animal implements Predator, Prey {
     *
     * @param isGen1 If true, the wild boar will have random age and hunger level.
     * @param field The field is currently occupied by wild boars.
-    * @param location The location within the field where the wild boar is placed.
+    * @param cell The cell within the field where the wild boar is placed.
     * @param colour The colour that the wild boar is represented by.
     * @param genetics The genetic code for the wild boar.
     */
-    public WildBoar(boolean isGen1, Field field, Location location, Color colour, Genetics genetics) {
-        super(field, location, colour, genetics);
+    public WildBoar(boolean isGen1, Field field, int cell, int colour, Genetics genetics) {
+        super(field, cell, colour, genetics);
         // If initializing the simulation, set random ages and animal food levels.
         if(isGen1) {
             setAge(rand.nextInt(genetics.getMaxAge()));
-            setFoodLevel(rand.nextInt(SimulatorState.getInstance().getPlantFoodValue()));
+            setFoodLevel(rand.nextInt(field.getConfig().plantFoodValue()));
             disease.setInfected(rand.nextBoolean());
         }
         else {
             setAge(0);
-            setFoodLevel(SimulatorState.getInstance().getPlantFoodValue());
+            setFoodLevel(field.getConfig().plantFoodValue());
             disease.setInfected(false);
         }
     }
 
     /**
-    * Delegates the findFood() call to either the hunt() or graze() method. The wild boar decides whether to hunt
-    * or graze based on a random probability. If it hunts, it attempts to find and eat a Hare. If it doesn't hunt, it grazes.
+    * Delegates the findFood() call to either the forage() or graze() method. The wild boar decides whether to hunt
+    * or graze based on a random probability. If it hunts, it eats the most preferred food the food web lists for
+    * wild boars, by default a Hare and otherwise a plant, in one pass. If it doesn't hunt, it grazes.
     *
-    * @return The location of the food if found, or null if no food is found.
+    * @return The cell of the food if found, or {@link Field#NO_CELL} if no food is found.
     */
     @Override
-    protected Location findFood() {
+    protected int findFood() {
         if (rand.nextDouble() < HUNT_PROBABILITY) {
-            Location huntingLocation = hunt(this, List.of(Hare.class));
-            if (huntingLocation != null) {
-                return huntingLocation;
-            }
+            return forage();
         }
         return graze(this);
     }
@@ -67,14 +59,14 @@ public class WildBoar extends Animal implements Predator, Prey {
     * Creates a new baby WildBoar.
     *
     * @param field The field where the baby wild boar will be created.
-    * @param location The field where the baby wild boar will be placed.
+    * @param cell The cell where the baby wild boar will be placed.
     * @param colour The colour of the baby wild boar.
     * @param genetics The genetic code for the baby wild boar.
     * @return A new WildBoar object representing the baby wild boar.
     */
     @Override
-    protected Animal createBaby(Field field, Location location, Color colour, Genetics genetics) {
-        return new WildBoar(false, field, location, colour, genetics);
+    protected Animal createBaby(Field field, int cell, int colour, Genetics genetics) {
+        return new WildBoar(false, field, cell, colour, genetics);
     }
 
     /**
@@ -93,6 +85,6 @@ public class WildBoar extends Animal implements Predator, Prey {
     */
     @Override
     public String getIcon() {
-        return wildBoarIcon;
+        return getSpecies().getIcon();
     }
 }
@@ -0,0 +1,162 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.GenomeColumns;
+
+/**
+* The state of the animals on a field, held in parallel primitive arrays indexed by cell: age,
+* food level, gender, infection and days infected, and the genome slots. The {@link Animal} on a
+* cell is a view that reads and writes its state here, so a pass over one kind of state touches
+* only the array holding it.
+* <p>
+* An animal's state follows it from cell to cell: placing an animal copies its state into the
+* columns at its new cell, and the cell it left forgets it. An animal that dies, or whose cell is
+* given to another organism or cleared, is given its state back and forgotten too, so the columns
+* keep no animal reachable that is no longer on the field. An animal off the field holds its state
+* itself.
+*/
+public final class AnimalColumns {
+
+    private final int[] ages;
+    private final double[] foodLevels;
+    private final boolean[] males;
+    private final boolean[] infected;
+    private final int[] daysInfected;
+    private final GenomeColumns genomes;
+    // The animal whose state is held in each cell, or null.
+    private final Animal[] owners;
+
+    /**
+    * Creates columns for every cell of a field.
+    *
+    * @param cells The number of cells.
+    */
+    public AnimalColumns(int cells) {
+        ages = new int[cells];
+        foodLevels = new double[cells];
+        males = new boolean[cells];
+        infected = new boolean[cells];
+        daysInfected = new int[cells];
+        genomes = new GenomeColumns(cells);
+        owners = new Animal[cells];
+    }
+
+    /**
+    * Copies the state held in one cell to another, genome apart.
+    *
+    * @param from The packed index of the cell to copy from.
+    * @param to The packed index of the cell to copy to.
+    */
+    public void copy(int from, int to) {
+        ages[to] = ages[from];
+        foodLevels[to] = foodLevels[from];
+        males[to] = males[from];
+        infected[to] = infected[from];
+        daysInfected[to] = daysInfected[from];
+    }
+
+    /**
+    * @param cell The packed cell index.
+    * @return The animal whose state is held in the cell, or null if there is none.
+    */
+    public Animal getOwner(int cell) {
+        return owners[cell];
+    }
+
+    /**
+    * Records the animal whose state is now held in a cell.
+    *
+    * @param cell The packed cell index.
+    * @param animal The animal, or null for none.
+    */
+    public void setOwner(int cell, Animal animal) {
+        owners[cell] = animal;
+    }
+
+    /**
+    * @return The genome slots, one per cell.
+    */
+    public GenomeColumns getGenomes() {
+        return genomes;
+    }
+
+    /**
+    * @param cell The packed cell index.
+    * @return The age of the animal in the cell.
+    */
+    public int getAge(int cell) {
+        return ages[cell];
+    }
+
+    /**
+    * @param cell The packed cell index.
+    * @param age The new age of the animal in the cell.
+    */
+    public void setAge(int cell, int age) {
+        ages[cell] = age;
+    }
+
+    /**
+    * @param cell The packed cell index.
+    * @return The food level of the animal in the cell.
+    */
+    public double getFoodLevel(int cell) {
+        return foodLevels[cell];
+    }
+
+    /**
+    * @param cell The packed cell index.
+    * @param foodLevel The new food level of the animal in the cell.
+    */
+    public void setFoodLevel(int cell, double foodLevel) {
+        foodLevels[cell] = foodLevel;
+    }
+
+    /**
+    * @param cell The packed cell index.
+    * @return True if the animal in the cell is male.
+    */
+    public boolean isMale(int cell) {
+        return males[cell];
+    }
+
+    /**
+    * @param cell The packed cell index.
+    * @param male True if the animal in the cell is male.
+    */
+    public void setMale(int cell, boolean male) {
+        males[cell] = male;
+    }
+
+    /**
+    * @param cell The packed cell index.
+    * @return True if the animal in the cell is infected.
+    */
+    public boolean isInfected(int cell) {
+        return infected[cell];
+    }
+
+    /**
+    * @param cell The packed cell index.
+    * @param isInfected True if the animal in the cell is infected.
+    */
+    public void setInfected(int cell, boolean isInfected) {
+        infected[cell] = isInfected;
+    }
+
+    /**
+    * @param cell The packed cell index.
+    * @return The number of days the animal in the cell has been infected.
+    */
+    public int getDaysInfected(int cell) {
+        return daysInfected[cell];
+    }
+
+    /**
+    * @param cell The packed cell index.
+    * @param days The new number of days the animal in the cell has been infected.
+    */
+    public void setDaysInfected(int cell, int days) {
+        daysInfected[cell] = days;
+    }
+}
@@ -1,7 +1,5 @@
 package com.tomtrotter.habitatsimulation.simulation.environment;
 
-import javafx.scene.paint.Color;
-
 /**
 * The Counter class tracks the number of participants of a specific type in the simulation.
 * Each counter has a unique name, an identifying icon, and a count of occurrences.
@@ -11,7 +9,7 @@ import javafx.scene.paint.Color;
 public class Counter {
     
     private final String name, icon;
-    private final Color colour;
+    private final int colour;
     private int count, disease, immune;
 
     /**
@@ -20,9 +18,9 @@ public class Counter {
     *
     * @param name The name representing the type of participant (e.g., species name).
     * @param icon A string representation (emoji or symbol) associated with this type.
-    * @param colour The colour representing this type.
+    * @param colour The palette index of the colour representing this type.
     */
-    public Counter(String name, String icon, Color colour) {
+    public Counter(String name, String icon, int colour) {
         this.name = name;
         this.icon = icon;
         this.colour = colour;
@@ -61,9 +59,9 @@ public class Counter {
     /**
     * Retrieves the colour associated with this counter.
     *
-    * @return The colour representing the participant type.
+    * @return The palette index of the colour representing the participant type.
     */
-    public Color getColour() {
+    public int getColour() {
         return colour;
     }
 
@@ -106,6 +104,17 @@ public class Counter {
         immune++;
     }
 
+    /**
+    * Replaces the counts, e.g. with totals that were kept elsewhere.
+    *
+    * @param count The number of participants of this type.
+    * @param disease The number of those that have a disease.
+    */
+    public void set(int count, int disease) {
+        this.count = count;
+        this.disease = disease;
+    }
+
     /**
     * Resets the count to zero, clearing the current tally of participants.
     */
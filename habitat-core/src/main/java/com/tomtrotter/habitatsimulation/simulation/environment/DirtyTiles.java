@@ -0,0 +1,121 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+* Records which parts of a field changed, so observers such as the canvas or a recorder can
+* process only those instead of the whole grid.
+* <p>
+* The field is divided into square tiles of {@link #TILE_SIZE} cells a side, numbered row-major.
+* Every placement and removal stamps the cell's tile with the current version, a single int
+* write, so marking is cheap and safe from any thread. An observer takes a {@link #snapshot} of
+* the stamps, which also starts a new version, and remembers the version it returned; the tiles
+* stamped above the version of its previous snapshot are those changed since, so observers do not
+* interfere with one another. Finding the dirty tiles costs one read per tile rather than per cell.
+* Take snapshots between steps, while no thread changes the field; a change made while a snapshot
+* is taken may be missed.
+*/
+public final class DirtyTiles {
+
+    /**
+    * The number of cells along each side of a tile. Changes in a step are scattered by moving
+    * animals, so small tiles keep the share of the field reported dirty close to what changed.
+    */
+    public static final int TILE_SIZE = 4;
+
+    private static final int TILE_SHIFT = Integer.numberOfTrailingZeros(TILE_SIZE);
+
+    private final int height;
+    private final int width;
+    private final int tilesWide;
+    // The version at which each tile last changed.
+    private final int[] stamps;
+    private final AtomicInteger version = new AtomicInteger(1);
+
+    /**
+    * Creates the tiles of a field, all dirty so every observer starts by processing the whole field.
+    *
+    * @param height The number of rows in the field.
+    * @param width The number of columns in the field.
+    */
+    DirtyTiles(int height, int width) {
+        this.height = height;
+        this.width = width;
+        tilesWide = (width + TILE_SIZE - 1) >> TILE_SHIFT;
+        int tilesHigh = (height + TILE_SIZE - 1) >> TILE_SHIFT;
+        stamps = new int[tilesWide * tilesHigh];
+        markAll();
+    }
+
+    /**
+    * Marks the tile of a cell as changed. Called by the field for every store, on the storing thread.
+    *
+    * @param cell The packed index of the cell that changed.
+    */
+    void mark(int cell) {
+        int row = cell / width;
+        int col = cell - row * width;
+        stamps[(row >> TILE_SHIFT) * tilesWide + (col >> TILE_SHIFT)] = version.get();
+    }
+
+    /**
+    * Marks every tile as changed, e.g. after the field was cleared.
+    */
+    void markAll() {
+        Arrays.fill(stamps, version.get());
+    }
+
+    /**
+    * Copies the version at which each tile last changed and starts a new version, for an observer
+    * that keeps its own copy of the stamps, such as a {@link FieldFrame}. A tile changed after the
+    * returned version if its stamp is greater than it.
+    *
+    * @param copy The buffer for the stamps, holding at least {@link #getTileCount()} entries.
+    * @return The version every change so far is stamped with at most.
+    */
+    public int snapshot(int[] copy) {
+        int upTo = version.getAndIncrement();
+        System.arraycopy(stamps, 0, copy, 0, stamps.length);
+        return upTo;
+    }
+
+    /**
+    * @return The number of tiles.
+    */
+    public int getTileCount() {
+        return stamps.length;
+    }
+
+    /**
+    * @param tile The tile number.
+    * @return The column of the tile's leftmost cells.
+    */
+    public int tileX(int tile) {
+        return (tile % tilesWide) << TILE_SHIFT;
+    }
+
+    /**
+    * @param tile The tile number.
+    * @return The row of the tile's topmost cells.
+    */
+    public int tileY(int tile) {
+        return (tile / tilesWide) << TILE_SHIFT;
+    }
+
+    /**
+    * @param tile The tile number.
+    * @return The number of columns in the tile; less than {@link #TILE_SIZE} along the field's right edge.
+    */
+    public int tileWidth(int tile) {
+        return Math.min(TILE_SIZE, width - tileX(tile));
+    }
+
+    /**
+    * @param tile The tile number.
+    * @return The number of rows in the tile; less than {@link #TILE_SIZE} along the field's bottom edge.
+    */
+    public int tileHeight(int tile) {
+        return Math.min(TILE_SIZE, height - tileY(tile));
+    }
+}
@@ -0,0 +1,571 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.core.domain.Organism;
+import com.tomtrotter.habitatsimulation.core.domain.Plant;
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorConfig;
+import com.tomtrotter.habitatsimulation.util.RandomStreams;
+import com.tomtrotter.habitatsimulation.util.Randomizer;
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+* The Field class represents a rectangular grid of positions that can hold organisms
+* like animals and plants. It provides methods to place, remove, and retrieve organisms,
+* as well as utilities for handling adjacent locations and identifying free spaces.
+* The field is the main simulation environment where organisms interact with each other
+* and the landscape.
+* <p>
+* This class includes methods to:
+* - Place and remove organisms (Animals and Plants)
+* - Get organisms at specific locations
+* - Get neighboring locations (adjacent, free, etc.)
+* - Shuffle and retrieve lists of animals or free spaces nearby
+* - Walk a neighbourhood in random order without allocating, through {@link NeighbourCursor}
+* <p>
+* Cells are stored row-major in flat, parallel arrays indexed by {@code row * width + col}:
+* one holding the organism itself and one holding a primitive species code, so scans that
+* only need to know what kind of organism occupies a cell never dereference the organism.
+* The state of the animals, their age, food level, gender, infection and genome, is held per cell
+* in the field's {@link AnimalColumns}, which the animal objects are views of.
+* <p>
+* Every change to a cell, and every infection or cure of an animal on the field, is reported to
+* the field's {@link PopulationCounts} as it happens, so population statistics never need a scan.
+* Changes to cells also mark the cells' {@link DirtyTiles}, so observers can redraw or record only
+* the parts of the field that changed.
+*/
+
+public class Field {
+
+    /** Species code of a cell that holds no organism. */
+    public static final byte EMPTY = SpeciesRegistry.EMPTY;
+    /** Species code of a cell that holds a plant. */
+    public static final byte PLANT = SpeciesRegistry.PLANT;
+    /** Cell index used for "no cell", e.g. an organism that has not been placed or a failed search. */
+    public static final int NO_CELL = -1;
+
+    private final int height;
+    private final int width;
+    private final Organism[] cells;
+    private final byte[] species;
+    private final PopulationCounts counts;
+    private final DirtyTiles dirtyTiles;
+    // Allocated when the first animal is placed, so fields of plants alone do without.
+    private AnimalColumns animals;
+    private final ThreadLocal<NeighbourCursor> cursors = ThreadLocal.withInitial(() -> new NeighbourCursor(this));
+    private RandomStreams randomStreams = new RandomStreams(Randomizer.getSeed());
+    private SimulatorConfig config = SimulatorConfig.DEFAULT;
+
+    /**
+    * Constructs a field with the specified dimensions.
+    * The field consists of animals and plants.
+    *
+    * @param height The number of rows in the field.
+    * @param width The number of columns in the field.
+    */
+    public Field(int height, int width) {
+        this.height = height;
+        this.width = width;
+        cells = new Organism[height * width];
+        species = new byte[height * width];
+        counts = new PopulationCounts(height * width);
+        dirtyTiles = new DirtyTiles(height, width);
+    }
+
+    /**
+    * Returns the live counts of the organisms on this field, per species.
+    *
+    * @return The field's population counts.
+    */
+    public PopulationCounts getCounts() {
+        return counts;
+    }
+
+    /**
+    * Returns the record of which tiles of this field changed, for observers that only process changes.
+    *
+    * @return The field's dirty tiles.
+    */
+    public DirtyTiles getDirtyTiles() {
+        return dirtyTiles;
+    }
+
+    /**
+    * Returns the per-cell state of the animals on this field.
+    *
+    * @return The field's animal columns.
+    */
+    public AnimalColumns getAnimalColumns() {
+        AnimalColumns columns = animals;
+        return columns != null ? columns : allocateAnimalColumns();
+    }
+
+    private synchronized AnimalColumns allocateAnimalColumns() {
+        if (animals == null) {
+            animals = new AnimalColumns(cells.length);
+        }
+        return animals;
+    }
+
+    /**
+    * Returns the source of the random streams given to organisms created on this field.
+    *
+    * @return The field's random streams.
+    */
+    public RandomStreams getRandomStreams() {
+        return randomStreams;
+    }
+
+    /**
+    * Sets the source of the random streams given to organisms created on this field.
+    *
+    * @param randomStreams The new random streams.
+    */
+    public void setRandomStreams(RandomStreams randomStreams) {
+        this.randomStreams = randomStreams;
+    }
+
+    /**
+    * Returns the model parameters organisms on this field run with.
+    *
+    * @return The field's configuration.
+    */
+    public SimulatorConfig getConfig() {
+        return config;
+    }
+
+    /**
+    * Sets the model parameters organisms on this field run with.
+    * Only call this between steps; a step reads one configuration throughout.
+    *
+    * @param config The new configuration.
+    */
+    public void setConfig(SimulatorConfig config) {
+        this.config = config;
+    }
+
+    /**
+    * Returns the species code used for organisms of the given class: its id in the
+    * {@link SpeciesRegistry}. Plants always map to {@link #PLANT} and no class maps to {@link #EMPTY}.
+    *
+    * @param type The organism class.
+    * @return The species code of the class.
+    */
+    public static byte speciesCodeOf(Class<? extends Organism> type) {
+        return (byte) SpeciesRegistry.idOf(type);
+    }
+
+    /**
+    * Converts a row and column into a packed cell index.
+    *
+    * @param row The row coordinate.
+    * @param col The column coordinate.
+    * @return The cell index, {@code row * width + col}.
+    */
+    public int index(int row, int col) {
+        return row * width + col;
+    }
+
+    /**
+    * Converts a location into a packed cell index.
+    *
+    * @param location The location to convert.
+    * @return The cell index of the location.
+    */
+    public int index(Location location) {
+        return index(location.getRow(), location.getCol());
+    }
+
+    /**
+    * Converts a packed cell index back into a location.
+    *
+    * @param cell The packed cell index.
+    * @return A new location for the cell.
+    */
+    public Location locationOf(int cell) {
+        return new Location(cell / width, cell % width);
+    }
+
+    /**
+    * @return The number of cells in the field, {@code height * width}.
+    */
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    /**
+    * Retrieves the organism stored in the given cell.
+    *
+    * @param cell The packed cell index.
+    * @return The organism in the cell, or null if it is empty.
+    */
+    public Organism getOrganismAt(int cell) {
+        return cells[cell];
+    }
+
+    /**
+    * Retrieves the species code of the organism stored in the given cell.
+    *
+    * @param cell The packed cell index.
+    * @return The species code, or {@link #EMPTY} if the cell is empty.
+    */
+    public byte getSpeciesCode(int cell) {
+        return species[cell];
+    }
+
+    /**
+    * Copies the species codes of a run of consecutive cells.
+    *
+    * @param cell The packed index of the first cell.
+    * @param codes The array to copy into, at the same index.
+    * @param length The number of cells.
+    */
+    void copySpeciesCodes(int cell, byte[] codes, int length) {
+        System.arraycopy(species, cell, codes, cell, length);
+    }
+
+    /**
+    * @param cell The packed cell index.
+    * @return True if the cell holds an animal, whether alive or not.
+    */
+    public boolean hasAnimal(int cell) {
+        return species[cell] > PLANT;
+    }
+
+    /**
+    * Stores an organism in a cell together with its species code, updates the population counts and
+    * marks the cell's tile dirty; an animal's state is moved into the animal columns at the cell.
+    * All placement and removal goes through here so the arrays, the counts and the dirty tiles never disagree.
+    */
+    private void store(int cell, Organism organism) {
+        byte code = organism == null ? EMPTY : (byte) organism.getSpeciesId();
+        counts.replaced(species[cell], isInfected(cells[cell]), code, isInfected(organism));
+        cells[cell] = organism;
+        species[cell] = code;
+        dirtyTiles.mark(cell);
+        if (organism instanceof Animal animal) {
+            animal.attach(getAnimalColumns(), cell);
+        } else if (animals != null) {
+            // An animal removed alive is on its way to another cell, and takes its state from here when placed.
+            Animal owner = animals.getOwner(cell);
+            if (owner != null && (organism != null || !owner.isAlive())) {
+                owner.detach(animals, cell);
+            }
+        }
+    }
+
+    /**
+    * @return True if the organism is an infected animal.
+    */
+    private static boolean isInfected(Organism organism) {
+        return organism instanceof Animal animal && animal.disease.isInfected();
+    }
+
+    /**
+    * Updates the population counts after an animal was infected or cured.
+    * Nothing changes unless the animal is the one stored in the cell.
+    *
+    * @param cell The packed index of the animal's cell.
+    * @param animal The animal whose infection changed.
+    * @param infected True if the animal is now infected.
+    */
+    public void infectionChanged(int cell, Animal animal, boolean infected) {
+        if (cell != NO_CELL && cells[cell] == animal) {
+            counts.infectionChanged(species[cell], infected);
+        }
+    }
+
+    /**
+    * Empties the field by removing all animals and plants from it.
+    */
+    public void clear() {
+        if (animals != null) {
+            for (int cell = 0; cell < cells.length; cell++) {
+                Animal owner = animals.getOwner(cell);
+                if (owner != null) {
+                    owner.detach(animals, cell);
+                }
+            }
+        }
+        Arrays.fill(cells, null);
+        Arrays.fill(species, EMPTY);
+        counts.clear();
+        dirtyTiles.markAll();
+    }
+
+    /**
+    * Removes an organism from the specified cell.
+    *
+    * @param cell The packed index of the cell to clear of an organism.
+    */
+    public void removeOrganism(int cell) {
+        store(cell, null);
+    }
+
+    /**
+    * Removes an organism from the specified location.
+    *
+    * @param location The location to clear of an organism.
+    */
+    public void removeOrganism(Location location) {
+        removeOrganism(index(location));
+    }
+
+    /**
+    * Places an organism in the specified cell.
+    * If an organism exists in that cell, it will be replaced.
+    *
+    * @param organism The organism to be placed.
+    * @param cell The packed index of the cell where the organism will be placed.
+    */
+    public void placeOrganism(Organism organism, int cell) {
+        store(cell, organism);
+    }
+
+    /**
+    * Places an organism at the specified location.
+    * If an organism exists at that location, it will be replaced.
+    *
+    * @param organism The organism to be placed.
+    * @param location The location where the organism will be placed.
+    */
+    public void placeOrganism(Organism organism, Location location) {
+        placeOrganism(organism, index(location));
+    }
+
+    /**
+     * Places an animal at the specified location.
+     * Overrides any existing organism at that location.
+     *
+     * @param animal The animal to be placed.
+     * @param location The location where the animal will be placed.
+     */
+    public void placeOrganism(Animal animal, Location location) {
+        placeOrganism((Organism) animal, index(location));
+    }
+
+    /**
+    * Places a plant at the specified location.
+    * Overrides any existing organism at that location.
+    *
+    * @param plant The plant to be placed.
+    * @param location The location where the plant will be placed.
+    */
+    public void placeOrganism(Plant plant, Location location) {
+        placeOrganism((Organism) plant, index(location));
+    }
+
+    /**
+    * Replaces a dead animal in the given cell with a new plant.
+    *
+    * @param cell The packed index of the cell where the dead animal was removed.
+    */
+    public void replaceDeadAnimal(int cell) {
+        removeOrganism(cell); // Remove the dead animal
+        new Plant(this, cell); // The plant places itself
+    }
+
+    /**
+    * Replaces a dead animal at the given location with a new plant.
+    *
+    * @param location The location where the dead animal was removed.
+    */
+    public void replaceDeadAnimal(Location location) {
+        replaceDeadAnimal(index(location));
+    }
+
+    /**
+    * Retrieves the organism at the specified row and column.
+    *
+    * @param row The row coordinate.
+    * @param col The column coordinate.
+    * @return The organism at the given location, or null if there is none.
+    */
+    public Organism getOrganismAt(int row, int col) {
+        return cells[index(row, col)];
+    }
+
+
+    /**
+    * Retrieves the organism at the specified location.
+    *
+    * @param location The location to check.
+    * @return The organism at the given location or null if there is none.
+    */
+    public Organism getOrganismAt(Location location) {
+        return cells[index(location)];
+    }
+
+    /**
+    * Retrieves the plant at the specified location.
+    * Returns null if there is no plant at that location.
+    *
+    * @param row The row coordinate.
+    * @param col The column coordinate.
+    * @return The plant at the specified location, or null if there is no plant.
+    */
+    public Plant getPlantAt(int row, int col) {
+        Organism organism = cells[index(row, col)];
+        if(organism instanceof Plant plant) {
+            return plant;
+        }
+        return null;
+    }
+
+    /**
+    * Retrieves the animal at the specified location.
+    * Returns null if there is no animal at that location.
+    *
+    * @param row The row coordinate.
+    * @param col The column coordinate.
+    * @return The animal at the specified location, or null if there is no animal.
+    */
+    public Animal getAnimalAt(int row, int col) {
+        Organism organism = cells[index(row, col)];
+        if(organism instanceof Animal animal) {
+            return animal;
+        }
+        return null;
+    }
+
+
+    /**
+    * Returns this thread's neighbour cursor, reset to walk the cells adjacent to the given cell
+    * in a random order. The cursor is reused by every call on the same thread, so the previous
+    * walk must be finished before starting another.
+    * <p>
+    * The order is drawn from the cursor's own generator, seeded from the field's seed, the current
+    * step and the cell, so it is the same for every walk of the cell during a step and no generator
+    * is built. Organisms should pass their own stream instead, through
+    * {@link #neighbours(int, RandomGenerator)}.
+    *
+    * @param cell The packed index of the centre cell.
+    * @return A cursor over the neighbouring cells.
+    */
+    public NeighbourCursor neighbours(int cell) {
+        return cursors.get().reset(cell, randomStreams.seedForCell(cell));
+    }
+
+    /**
+    * Returns this thread's neighbour cursor, reset to walk the cells adjacent to the given cell
+    * in an order drawn from the given stream. Passing the acting organism's own stream keeps the
+    * visiting order independent of what other threads are doing.
+    *
+    * @param cell The packed index of the centre cell.
+    * @param random The source of randomness for the visiting order.
+    * @return A cursor over the neighbouring cells.
+    */
+    public NeighbourCursor neighbours(int cell, RandomGenerator random) {
+        return cursors.get().reset(cell, random);
+    }
+
+    /**
+    * Returns this thread's neighbour cursor, reset to walk the cells adjacent to the given location.
+    *
+    * @param location The reference location.
+    * @return A cursor over the neighbouring cells.
+    * @see #neighbours(int)
+    */
+    public NeighbourCursor neighbours(Location location) {
+        assert location != null : "Null location passed to neighbours";
+        return neighbours(index(location));
+    }
+
+    /**
+    * Retrieves a shuffled list of locations adjacent to the given one.
+    * The list will not include the given location itself.
+    * Prefer {@link #neighbours(int)} on hot paths, as this allocates the list and its locations.
+    *
+    * @param location The reference location.
+    * @return A shuffled list of adjacent locations.
+    */
+    public List<Location> adjacentLocations(Location location) {
+        assert location != null : "Null location passed to adjacent locations";
+
+        NeighbourCursor neighbours = neighbours(location);
+        List<Location> locations = new ArrayList<>(neighbours.size());
+        while (neighbours.hasNext()) {
+            locations.add(locationOf(neighbours.next()));
+        }
+        return locations;
+    }
+
+    /**
+    * Retrieves a shuffled list of living animals in the neighboring locations.
+    *
+    * @param location The reference location.
+    * @return A shuffled list of living neighboring animals.
+    */
+    public List<Animal> getLivingNeighbours(Location location) {
+        assert location != null : "Null location passed to adjacent locations";
+        List<Animal> neighbours = new ArrayList<>();
+
+        NeighbourCursor cursor = neighbours(location);
+        while (cursor.hasNext()) {
+            int cell = cursor.next();
+            if (hasAnimal(cell) && cells[cell] instanceof Animal animal && animal.isAlive()) {
+                neighbours.add(animal);
+            }
+        }
+        return neighbours;
+    }
+
+    /**
+    * Returns the height (number of rows) of the field.
+    *
+    * @return The height of the field.
+    */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+    * Returns the width (number of columns) of the field.
+    *
+    * @return The width of the field.
+    */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+    * Retrieves a shuffled list of free adjacent locations where no animals are present.
+    *
+    * @param location The reference location.
+    * @return A list of free adjacent locations.
+    */
+    public List<Location> getFreeAdjacentLocations(Location location) {
+        List<Location> free = new ArrayList<>();
+        NeighbourCursor neighbours = neighbours(location);
+        while (neighbours.hasNext()) {
+            int cell = neighbours.next();
+            if (!hasAnimal(cell)) {
+                free.add(locationOf(cell));
+            }
+        }
+        return free;
+    }
+
+    /**
+    * Retrieves a single free adjacent location near the given location.
+    * If no free locations are available, returns null.
+    *
+    * @param location The reference location.
+    * @return A free adjacent location, or null if none are available.
+    */
+    public Location getFreeAdjacentLocation(Location location) {
+        NeighbourCursor neighbours = neighbours(location);
+        while (neighbours.hasNext()) {
+            int cell = neighbours.next();
+            if (!hasAnimal(cell)) {
+                return locationOf(cell);
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+
+/**
+* A copy of what a field looks like after a step: the species code of every cell, the population
+* counts and the generation, for a front end to draw while the simulation moves on.
+* <p>
+* The simulation thread captures a frame between steps and hands it over, e.g. through a
+* {@link com.tomtrotter.habitatsimulation.util.TripleBuffer}; once handed over it is not changed
+* until it is given back to be captured into again, so it can be read without locks while the
+* field changes. Frames are reused: a capture copies only the tiles of the field's
+* {@link DirtyTiles} changed since the frame was last captured from the same field. A frame also
+* keeps the tiles' stamps, so a renderer that drew an earlier frame of the field can tell which
+* tiles to redraw, however many frames it skipped.
+*/
+public final class FieldFrame {
+
+    private static final int SPECIES = SpeciesRegistry.MAX_ID + 1;
+
+    private final int height;
+    private final int width;
+    private final byte[] species;
+    private final int[] counts = new int[SPECIES];
+    private final int[] infected = new int[SPECIES];
+    private int[] stamps = new int[0];
+    private DirtyTiles tiles;
+    private int version;
+    private int generation;
+
+    /**
+    * Creates an empty frame for fields of the given size. It holds nothing until it is captured into.
+    *
+    * @param height The number of rows in the field.
+    * @param width The number of columns in the field.
+    */
+    public FieldFrame(int height, int width) {
+        this.height = height;
+        this.width = width;
+        species = new byte[height * width];
+    }
+
+    /**
+    * Copies the current state of a field into this frame. Only call this from the thread that
+    * steps the field, between steps, and not while the frame is being read.
+    *
+    * @param field The field, of this frame's size.
+    * @param generation The number of steps the field has taken.
+    * @throws IllegalArgumentException If the field's size differs from the frame's.
+    */
+    public void capture(Field field, int generation) {
+        if (field.getHeight() != height || field.getWidth() != width) {
+            throw new IllegalArgumentException("Field is " + field.getWidth() + "x" + field.getHeight()
+                    + " but the frame is " + width + "x" + height);
+        }
+        DirtyTiles source = field.getDirtyTiles();
+        int previous = version;
+        if (source != tiles) {
+            // Another field: every tile must be copied.
+            tiles = source;
+            stamps = new int[source.getTileCount()];
+            previous = 0;
+        }
+        version = source.snapshot(stamps);
+        for (int tile = 0; tile < stamps.length; tile++) {
+            if (stamps[tile] > previous) {
+                copyTile(field, tile);
+            }
+        }
+
+        PopulationCounts population = field.getCounts();
+        for (int id = 0; id < SpeciesRegistry.size(); id++) {
+            counts[id] = population.getCount(id);
+            infected[id] = population.getInfected(id);
+        }
+        this.generation = generation;
+    }
+
+    private void copyTile(Field field, int tile) {
+        int x = tiles.tileX(tile);
+        int y = tiles.tileY(tile);
+        int tileWidth = tiles.tileWidth(tile);
+        for (int row = y; row < y + tiles.tileHeight(tile); row++) {
+            field.copySpeciesCodes(row * width + x, species, tileWidth);
+        }
+    }
+
+    /**
+    * @return The number of rows in the field.
+    */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+    * @return The number of columns in the field.
+    */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+    * @return The number of steps the field had taken when captured.
+    */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+    * @param cell The packed cell index.
+    * @return The species code of the cell, or {@link Field#EMPTY} if it was empty.
+    */
+    public byte getSpeciesCode(int cell) {
+        return species[cell];
+    }
+
+    /**
+    * @param speciesId The species id; {@link SpeciesRegistry#EMPTY} counts the empty cells.
+    * @return The number of cells the species held.
+    */
+    public int getCount(int speciesId) {
+        return counts[speciesId];
+    }
+
+    /**
+    * @param speciesId The species id.
+    * @return The number of infected animals of the species on the field.
+    */
+    public int getInfected(int speciesId) {
+        return infected[speciesId];
+    }
+
+    /**
+    * Returns the tiles of the field the frame was captured from, which give the tiles' bounds and
+    * identify the field: frames of the same field return the same tiles.
+    *
+    * @return The field's dirty tiles, or null if the frame was never captured into.
+    */
+    public DirtyTiles getTiles() {
+        return tiles;
+    }
+
+    /**
+    * @return The version of the field's tiles this frame shows; pass it to {@link #changedSince} for a later frame.
+    */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+    * Tells whether a tile changed after an earlier frame of the same field was captured.
+    *
+    * @param tile The tile number.
+    * @param version The {@link #getVersion() version} of the earlier frame.
+    * @return True if the tile differs, or may differ, from the earlier frame.
+    */
+    public boolean changedSince(int tile, int version) {
+        return stamps[tile] > version;
+    }
+}
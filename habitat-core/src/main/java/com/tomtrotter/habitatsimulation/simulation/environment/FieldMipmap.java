@@ -0,0 +1,257 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+/**
+* A pyramid of ever coarser summaries of a captured field, so a zoomed-out view can draw one
+* summary per pixel instead of reading every cell under it.
+* <p>
+* Level 0 is the frame itself. Each block of level {@code L} covers {@code 2^L} cells a side and
+* holds the species code seen most often among its four blocks of the level below, with ties
+* going to the higher code so that sparse animals are not always hidden by plants or empty
+* ground; where a level has an odd size, its last row or column is counted twice. The levels go
+* up until one block covers the whole field.
+* <p>
+* {@link #update} keeps the pyramid current incrementally: only the blocks over tiles that
+* changed since the previous frame, as recorded by the frame's {@link DirtyTiles} stamps, are
+* recomputed, and each changed block queues its parent once, so an update costs in proportion
+* to what changed. The pyramid reads level 0 from the last frame given to it, so it is valid as
+* long as that frame is.
+*/
+public final class FieldMipmap {
+
+    private final int height;
+    private final int width;
+    // Per level from 1: the block codes, row-major; level 0 is the frame.
+    private final byte[][] levels;
+    private final int[] levelWidths;
+    private final int[] levelHeights;
+    // Per level from 2: blocks waiting to be recomputed, and which blocks are already waiting.
+    private final int[][] queues;
+    private final int[] queued;
+    private final boolean[][] waiting;
+    private FieldFrame frame;
+    private DirtyTiles tiles;
+    private int version;
+
+    /**
+    * Creates an empty pyramid for fields of the given size. It holds nothing until updated.
+    *
+    * @param height The number of rows in the field.
+    * @param width The number of columns in the field.
+    */
+    public FieldMipmap(int height, int width) {
+        this.height = height;
+        this.width = width;
+        int count = 1;
+        while ((1 << (count - 1)) < Math.max(height, width)) {
+            count++;
+        }
+        levelWidths = new int[count];
+        levelHeights = new int[count];
+        queues = new int[count][];
+        queued = new int[count];
+        waiting = new boolean[count][];
+        levels = new byte[count][];
+        levelWidths[0] = width;
+        levelHeights[0] = height;
+        for (int level = 1; level < count; level++) {
+            levelWidths[level] = (levelWidths[level - 1] + 1) / 2;
+            levelHeights[level] = (levelHeights[level - 1] + 1) / 2;
+            int blocks = levelWidths[level] * levelHeights[level];
+            levels[level] = new byte[blocks];
+            if (level >= 2) {
+                queues[level] = new int[blocks];
+                waiting[level] = new boolean[blocks];
+            }
+        }
+    }
+
+    /**
+    * Brings the pyramid up to date with a frame of the field. Only the blocks over tiles changed
+    * since the previous frame of the same field are recomputed; a frame of another field is taken whole.
+    *
+    * @param frame The latest frame, of this pyramid's size.
+    * @throws IllegalArgumentException If the frame's size differs from the pyramid's.
+    */
+    public void update(FieldFrame frame) {
+        if (frame.getHeight() != height || frame.getWidth() != width) {
+            throw new IllegalArgumentException("Frame is " + frame.getWidth() + "x" + frame.getHeight()
+                    + " but the mipmap is " + width + "x" + height);
+        }
+        this.frame = frame;
+        boolean whole = frame.getTiles() != tiles;
+        tiles = frame.getTiles();
+        if (whole) {
+            rebuild();
+        } else if (getLevelCount() > 1) {
+            for (int tile = 0; tile < tiles.getTileCount(); tile++) {
+                if (frame.changedSince(tile, version)) {
+                    updateFirstLevel(tile);
+                }
+            }
+            for (int level = 2; level < getLevelCount(); level++) {
+                for (int i = 0; i < queued[level]; i++) {
+                    int block = queues[level][i];
+                    waiting[level][block] = false;
+                    recompute(level, block);
+                }
+                queued[level] = 0;
+            }
+        }
+        version = frame.getVersion();
+    }
+
+    /**
+    * Recomputes every level in turn, row by row, for a frame of another field.
+    */
+    private void rebuild() {
+        for (int level = 1; level < getLevelCount(); level++) {
+            int below = level - 1;
+            int belowWidth = levelWidths[below];
+            byte[] blocks = levels[level];
+            int block = 0;
+            for (int row = 0; row < levelHeights[below]; row += 2) {
+                int up = row * belowWidth;
+                int down = Math.min(row + 1, levelHeights[below] - 1) * belowWidth;
+                for (int col = 0; col < belowWidth; col += 2) {
+                    int right = Math.min(col + 1, belowWidth - 1);
+                    blocks[block++] = majority(
+                            getSpeciesCode(below, up + col), getSpeciesCode(below, up + right),
+                            getSpeciesCode(below, down + col), getSpeciesCode(below, down + right));
+                }
+            }
+        }
+    }
+
+    /**
+    * Recomputes the level-1 blocks over a tile of the field straight from the frame, and queues the
+    * one level-2 block over the tile.
+    */
+    private void updateFirstLevel(int tile) {
+        int x = tiles.tileX(tile);
+        int y = tiles.tileY(tile);
+        int lastX = x + tiles.tileWidth(tile) - 1;
+        int lastY = y + tiles.tileHeight(tile) - 1;
+        byte[] level = levels[1];
+        int levelWidth = levelWidths[1];
+        for (int row = y; row <= lastY; row += 2) {
+            int down = Math.min(row + 1, lastY) * width;
+            int up = row * width;
+            for (int col = x; col <= lastX; col += 2) {
+                int right = Math.min(col + 1, lastX);
+                level[(row >> 1) * levelWidth + (col >> 1)] = majority(
+                        frame.getSpeciesCode(up + col), frame.getSpeciesCode(up + right),
+                        frame.getSpeciesCode(down + col), frame.getSpeciesCode(down + right));
+            }
+        }
+        if (getLevelCount() > 2) {
+            // Tiles start on multiples of four cells, so each lies under a single level-2 block.
+            queue(2, (y >> 2) * levelWidths[2] + (x >> 2));
+        }
+    }
+
+    private void queue(int level, int block) {
+        if (!waiting[level][block]) {
+            waiting[level][block] = true;
+            queues[level][queued[level]++] = block;
+        }
+    }
+
+    /**
+    * Sets a block of level 2 or above to the most common code among its children and queues its parent.
+    */
+    private void recompute(int level, int block) {
+        int below = level - 1;
+        int col = (block % levelWidths[level]) * 2;
+        int row = (block / levelWidths[level]) * 2;
+        // A level below of odd size has its last row or column counted twice.
+        int right = Math.min(col + 1, levelWidths[below] - 1);
+        int up = row * levelWidths[below];
+        int down = Math.min(row + 1, levelHeights[below] - 1) * levelWidths[below];
+        levels[level][block] = majority(
+                getSpeciesCode(below, up + col), getSpeciesCode(below, up + right),
+                getSpeciesCode(below, down + col), getSpeciesCode(below, down + right));
+
+        if (level + 1 < getLevelCount()) {
+            queue(level + 1, (row / 4) * levelWidths[level + 1] + col / 4);
+        }
+    }
+
+    /**
+    * @return The code seen most often among four, the higher code on a tie.
+    */
+    static byte majority(byte a, byte b, byte c, byte d) {
+        if (a == b && c == d) {
+            // Mostly uniform ground: two pairs, or one code four times.
+            return a >= c ? a : c;
+        }
+        byte best = a;
+        int bestCount = count(a, a, b, c, d);
+        int count = count(b, a, b, c, d);
+        if (count > bestCount || (count == bestCount && b > best)) {
+            best = b;
+            bestCount = count;
+        }
+        count = count(c, a, b, c, d);
+        if (count > bestCount || (count == bestCount && c > best)) {
+            best = c;
+            bestCount = count;
+        }
+        count = count(d, a, b, c, d);
+        if (count > bestCount || (count == bestCount && d > best)) {
+            best = d;
+        }
+        return best;
+    }
+
+    private static int count(byte code, byte a, byte b, byte c, byte d) {
+        return (code == a ? 1 : 0) + (code == b ? 1 : 0) + (code == c ? 1 : 0) + (code == d ? 1 : 0);
+    }
+
+    /**
+    * @return The number of levels, including level 0, the field itself.
+    */
+    public int getLevelCount() {
+        return levelWidths.length;
+    }
+
+    /**
+    * @param level The level.
+    * @return The number of blocks across the level.
+    */
+    public int getWidth(int level) {
+        return levelWidths[level];
+    }
+
+    /**
+    * @param level The level.
+    * @return The number of blocks down the level.
+    */
+    public int getHeight(int level) {
+        return levelHeights[level];
+    }
+
+    /**
+    * Returns the summary held by a block.
+    *
+    * @param level The level; 0 reads the last frame.
+    * @param block The row-major index of the block in its level.
+    * @return The most common species code under the block.
+    */
+    public byte getSpeciesCode(int level, int block) {
+        return level == 0 ? frame.getSpeciesCode(block) : levels[level][block];
+    }
+
+    /**
+    * Returns the coarsest level whose blocks are no larger than a pixel, for a view at a given zoom.
+    *
+    * @param cellsPerPixel The number of cells along each side of a pixel.
+    * @return The level to draw from.
+    */
+    public int levelFor(double cellsPerPixel) {
+        int level = 0;
+        while (level + 1 < getLevelCount() && (1 << (level + 1)) <= cellsPerPixel) {
+            level++;
+        }
+        return level;
+    }
+}
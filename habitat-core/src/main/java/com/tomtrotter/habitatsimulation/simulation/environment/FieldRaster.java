@@ -0,0 +1,86 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.simulation.species.Species;
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+import com.tomtrotter.habitatsimulation.util.Palette;
+
+import java.util.Arrays;
+
+/**
+* Turns a view of a field into an image, each pixel the packed 0xAARRGGBB colour of a species, for
+* a front end to upload in a single call.
+* <p>
+* Only species codes are read, from the {@link FieldMipmap} of a captured {@link FieldFrame}, so
+* rendering is one table lookup per pixel with no organisms touched. Empty cells are white. The
+* colour table is rebuilt when a species is registered after the raster was created.
+* <p>
+* {@link #render(Viewport, FieldMipmap, int[])} renders only what a {@link Viewport} shows, each
+* pixel from the mipmap level whose blocks are about a pixel in size, so its cost depends on the
+* view and not on the field; at one cell per pixel it draws the frame itself. Pixels the field does
+* not reach are left transparent.
+*/
+public final class FieldRaster {
+
+    private int[] colours = new int[0];
+    // The block shown in each column of pixels of a viewport, or -1 outside the field.
+    private int[] columnBlocks = new int[0];
+
+    /**
+    * Writes the colour of every pixel of a view of a field into a buffer, row by row. Each pixel
+    * shows the summary of the block of cells at its centre from the coarsest level of the mipmap
+    * whose blocks are no larger than a pixel.
+    *
+    * @param viewport The part of the field to render and its size in pixels.
+    * @param mipmap The summaries of the field, updated with its latest frame.
+    * @param argb The buffer, holding at least one entry per pixel of the view.
+    * @throws IllegalArgumentException If the buffer is too small for the view.
+    */
+    public void render(Viewport viewport, FieldMipmap mipmap, int[] argb) {
+        int viewWidth = viewport.getViewWidth();
+        int viewHeight = viewport.getViewHeight();
+        if (argb.length < viewWidth * viewHeight) {
+            throw new IllegalArgumentException("Buffer of " + argb.length + " pixels is too small for a "
+                    + viewWidth + "x" + viewHeight + " view");
+        }
+        int level = mipmap.levelFor(viewport.getCellsPerPixel());
+        int levelWidth = mipmap.getWidth(level);
+        if (columnBlocks.length < viewWidth) {
+            columnBlocks = new int[viewWidth];
+        }
+        for (int x = 0; x < viewWidth; x++) {
+            int column = viewport.columnAt(x);
+            columnBlocks[x] = column >= 0 && column < viewport.getFieldWidth() ? column >> level : -1;
+        }
+        int[] table = colourTable();
+        for (int y = 0; y < viewHeight; y++) {
+            int row = viewport.rowAt(y);
+            int start = y * viewWidth;
+            if (row < 0 || row >= viewport.getFieldHeight()) {
+                Arrays.fill(argb, start, start + viewWidth, 0);
+                continue;
+            }
+            int blockRow = (row >> level) * levelWidth;
+            for (int x = 0; x < viewWidth; x++) {
+                int block = columnBlocks[x];
+                argb[start + x] = block < 0 ? 0 : table[mipmap.getSpeciesCode(level, blockRow + block)];
+            }
+        }
+    }
+
+    /**
+    * Returns the packed colour of every species id, rebuilding the table if new species were registered.
+    */
+    private int[] colourTable() {
+        if (colours.length != SpeciesRegistry.size()) {
+            int[] table = new int[SpeciesRegistry.size()];
+            table[SpeciesRegistry.EMPTY] = Palette.argb(Palette.WHITE);
+            for (Species species : SpeciesRegistry.all()) {
+                if (species.getId() < table.length) {
+                    table[species.getId()] = Palette.argb(species.getColour());
+                }
+            }
+            colours = table;
+        }
+        return colours;
+    }
+}
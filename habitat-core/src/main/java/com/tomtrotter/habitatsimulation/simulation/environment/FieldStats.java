@@ -0,0 +1,234 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.simulation.species.Species;
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+
+/**
+* Collects and provides statistical data on the state of a field.
+* It dynamically tracks and maintains counts for different classes of animals and plants.
+* <p>
+* Counters are held in an array indexed by species id and are filled from the field's
+* {@link PopulationCounts}, which the field keeps current as organisms are placed, removed,
+* infected and cured. Generating the statistics after a step therefore costs O(species), not a
+* scan of every cell; species names are only used by the methods that report on one species.
+* They can also be filled from a {@link FieldFrame} with {@link #update}, for a front end drawing
+* frames while the field moves on.
+*/
+
+public class FieldStats {
+
+    private Counter[] counters;
+    private boolean countsValid;
+
+    /**
+    * Constructs a FieldStats object.
+    * Initializes the counters for tracking animals and plants.
+    */
+    public FieldStats() {
+        counters = new Counter[SpeciesRegistry.size()];
+        countsValid = true;
+    }
+
+    /**
+     * Retrieves a set of the animals and plants in the field.
+     *
+     * @return A set containing each species in the field.
+     */
+    public Set<String> getSpecies() {
+        Set<String> names = new LinkedHashSet<>();
+        for (Counter counter : counters) {
+            if (counter != null) {
+                names.add(counter.getName());
+            }
+        }
+        return names;
+    }
+
+    /**
+    * Retrieves the population details an animal or plant in the field.
+    *
+    * @param field The field to analyze.
+    * @return A string containing the descriptions of a species and their count.
+    */
+    public String getSpeciesDetails(Field field, String species) {
+        if (!countsValid) {
+            generateCounts(field);
+        }
+        StringBuilder buffer = new StringBuilder();
+        Counter info = counterNamed(species);
+        buffer.append(" ");
+        buffer.append(info.getName());
+        buffer.append(": ");
+        buffer.append(info.getCount());
+        return buffer.toString();
+    }
+
+    /**
+     * Retrieves a string for the animal or plants icon in the field.
+     *
+     * @param field The field to analyze.
+     * @return A string containing a species icon.
+     */
+    public String getSpeciesIcon(Field field, String species) {
+        if (!countsValid) {
+            generateCounts(field);
+        }
+        Counter speciesInfo = counterNamed(species);
+        return speciesInfo.getIcon();
+    }
+
+    /**
+     * Retrieves a colour for the animal or plants icon in the field.
+     *
+     * @param field The field to analyze.
+     * @return The palette index of the colour for the species.
+     */
+    public int getSpeciesColour(Field field, String species) {
+        if (!countsValid) {
+            generateCounts(field);
+        }
+        Counter speciesInfo = counterNamed(species);
+        return speciesInfo.getColour();
+    }
+
+    /**
+    * Retrieves the disease details an animal or plant in the field.
+    *
+    * @param field The field to analyze.
+    * @return A string containing the descriptions of a species and their disease count.
+    */
+    public String getSpeciesDisease(Field field, String species) {
+        if (!countsValid) {
+            generateCounts(field);
+        }
+        StringBuilder buffer = new StringBuilder();
+        Counter info = counterNamed(species);
+        buffer.append(" ");
+        buffer.append(info.getName());
+        buffer.append(": ");
+        buffer.append(info.getDisease());
+        return buffer.toString();
+    }
+
+
+    /**
+    * Resets all counters and invalidates the current set of statistics.
+    * This ensures that new counts will be generated when needed.
+    */
+    public void reset() {
+        countsValid = false;
+        for (Counter count : counters) {
+            if (count != null) {
+                count.reset();
+            }
+        }
+    }
+
+    /**
+    * Returns the counter of a species, creating it the first time the species is counted.
+    *
+    * @param species The species to count.
+    * @return The species' counter.
+    */
+    private Counter counterFor(Species species) {
+        int id = species.getId();
+        if (id >= counters.length) {
+            counters = Arrays.copyOf(counters, SpeciesRegistry.size());
+        }
+        Counter count = counters[id];
+        if (count == null) {
+            // We do not have a counter for this species yet. Create one.
+            String icon = species.getIcon() == null ? "" : species.getIcon();
+            count = new Counter(species.getName(), icon, species.getColour());
+            counters[id] = count;
+        }
+        return count;
+    }
+
+    /**
+    * Returns the counter of the species with the given name.
+    *
+    * @param name The species name.
+    * @return The counter, or null if the species has not been counted.
+    */
+    private Counter counterNamed(String name) {
+        Species species = SpeciesRegistry.byName(name);
+        return species == null || species.getId() >= counters.length ? null : counters[species.getId()];
+    }
+
+    /**
+    * Marks the current count as complete, making the statistics valid.
+    */
+    public void countFinished() {
+        countsValid = true;
+    }
+
+    /**
+    * Determines if the simulation should continue running.
+    * The simulation is considered viable if more than one species has a nonzero count.
+    * The simulation stops all the animals from dying.
+    *
+    * @param field The field to check for population viability.
+    * @return true if there is more than one species alive, false otherwise.
+    */
+    public boolean isViable(Field field) {
+        int nonZero = 0;
+        if (!countsValid) {
+            generateCounts(field);
+        }
+        for (int id = SpeciesRegistry.PLANT + 1; id < counters.length; id++) {
+            Counter info = counters[id];
+            if (info != null && info.getCount() > 0) {
+                nonZero++;
+            }
+        }
+        return nonZero >= 1;
+    }
+
+    /**
+    * Fills the statistics from the counts captured in a frame and makes them valid, so the methods
+    * reporting on one species describe the frame rather than the field until the next reset.
+    *
+    * @param frame The frame to take the counts from.
+    */
+    public void update(FieldFrame frame) {
+        fill(frame::getCount, frame::getInfected);
+    }
+
+    /**
+    * Generates and updates the counts of animals and plants in the field.
+    * This method reads the field's live counts once per registered species. A species gets a
+    * counter once it has been seen on the field and keeps it, at zero, after it dies out.
+    *
+    * @param field The field for which the statistics are generated.
+    */
+    private void generateCounts(Field field) {
+        PopulationCounts population = field.getCounts();
+        fill(population::getCount, population::getInfected);
+    }
+
+    /**
+    * Sets every counter from per-species counts and makes the statistics valid.
+    *
+    * @param counts The number of cells held by a species id.
+    * @param infected The number of infected animals of a species id.
+    */
+    private void fill(IntUnaryOperator counts, IntUnaryOperator infected) {
+        reset();
+        for (int id = SpeciesRegistry.PLANT; id < SpeciesRegistry.size(); id++) {
+            int count = counts.applyAsInt(id);
+            Species species = SpeciesRegistry.byId(id);
+            if (species == null || (count == 0 && (id >= counters.length || counters[id] == null))) {
+                continue;
+            }
+            counterFor(species).set(count, infected.applyAsInt(id));
+        }
+        countsValid = true;
+    }
+
+}
@@ -36,4 +36,34 @@ public class Location {
         return column;
     }
 
+    /**
+    * Two locations are equal if they have the same row and column.
+    *
+    * @param obj The object to compare with.
+    * @return true if the object is a location with the same row and column.
+    */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof Location other) {
+            return row == other.getRow() && column == other.getCol();
+        }
+        return false;
+    }
+
+    /**
+    * @return A hash code built from the row and column.
+    */
+    @Override
+    public int hashCode() {
+        return (row << 16) + column;
+    }
+
+    /**
+    * @return The location as "row,column".
+    */
+    @Override
+    public String toString() {
+        return row + "," + column;
+    }
+
 }
@@ -0,0 +1,151 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import java.util.random.RandomGenerator;
+
+/**
+* A reusable cursor over the cells adjacent to a given cell, visited in a random order.
+* <p>
+* The eight neighbour offsets are computed once per field, and the random order is produced by a
+* lazy Fisher-Yates shuffle: each call to {@link #next()} draws at most one random number and swaps
+* the chosen cell into place. A caller that stops early (for example after the first plant it finds)
+* only pays for the cells it actually visited, and walking a neighbourhood never allocates.
+* <p>
+* Cursors are handed out by {@link Field#neighbours(int)}, one per thread, and are reset by every call
+* to it, so a caller must finish with one neighbourhood before asking the field for another.
+*/
+
+public final class NeighbourCursor {
+
+    private static final int[] ROW_OFFSETS = {-1, -1, -1, 0, 0, 1, 1, 1};
+    private static final int[] COL_OFFSETS = {-1, 0, 1, -1, 1, -1, 0, 1};
+
+    private final int height;
+    private final int width;
+    private final int[] offsets = new int[ROW_OFFSETS.length];
+    private final int[] cells = new int[ROW_OFFSETS.length];
+
+    private final SeededGenerator seeded = new SeededGenerator();
+    private RandomGenerator random;
+    private int size;
+    private int position;
+    private int shuffled;
+
+    /**
+    * Creates a cursor for the given field.
+    *
+    * @param field The field whose neighbourhoods this cursor walks.
+    */
+    NeighbourCursor(Field field) {
+        this.height = field.getHeight();
+        this.width = field.getWidth();
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = ROW_OFFSETS[i] * width + COL_OFFSETS[i];
+        }
+    }
+
+    /**
+    * Points the cursor at the neighbourhood of the given cell, visited in an order drawn from the
+    * cursor's own generator, seeded afresh.
+    *
+    * @param cell The packed index of the centre cell.
+    * @param seed The seed of the visiting order.
+    * @return This cursor.
+    */
+    NeighbourCursor reset(int cell, long seed) {
+        seeded.state = seed;
+        return reset(cell, seeded);
+    }
+
+    /**
+    * Points the cursor at the neighbourhood of the given cell.
+    *
+    * @param cell The packed index of the centre cell.
+    * @param random The source of randomness for the visiting order.
+    * @return This cursor.
+    */
+    NeighbourCursor reset(int cell, RandomGenerator random) {
+        this.random = random;
+        position = 0;
+        shuffled = 0;
+        size = 0;
+
+        int row = cell / width;
+        int col = cell - row * width;
+        if (row > 0 && row < height - 1 && col > 0 && col < width - 1) {
+            // Interior cell, every offset is valid.
+            for (int offset : offsets) {
+                cells[size++] = cell + offset;
+            }
+            return this;
+        }
+
+        for (int i = 0; i < offsets.length; i++) {
+            int nextRow = row + ROW_OFFSETS[i];
+            int nextCol = col + COL_OFFSETS[i];
+            if (nextRow >= 0 && nextRow < height && nextCol >= 0 && nextCol < width) {
+                cells[size++] = cell + offsets[i];
+            }
+        }
+        return this;
+    }
+
+    /**
+    * @return True if there are neighbouring cells left to visit.
+    */
+    public boolean hasNext() {
+        return position < size;
+    }
+
+    /**
+    * Returns the next neighbouring cell in random order.
+    *
+    * @return The packed index of the next neighbouring cell.
+    */
+    public int next() {
+        if (position >= size) {
+            throw new IllegalStateException("No neighbouring cells left to visit");
+        }
+        if (position == shuffled) {
+            int remaining = size - position;
+            if (remaining > 1) {
+                int chosen = position + random.nextInt(remaining);
+                int swap = cells[chosen];
+                cells[chosen] = cells[position];
+                cells[position] = swap;
+            }
+            shuffled++;
+        }
+        return cells[position++];
+    }
+
+    /**
+    * Restarts the walk from the first neighbour. Cells that have already been visited are
+    * replayed in the same order, so several passes over a neighbourhood see one consistent shuffle.
+    */
+    public void rewind() {
+        position = 0;
+    }
+
+    /**
+    * @return The number of cells in the neighbourhood (eight, or fewer at the edges of the field).
+    */
+    public int size() {
+        return size;
+    }
+
+    /**
+    * A SplitMix64 generator that can be seeded again, so a keyed visiting order needs no new generator.
+    */
+    private static final class SeededGenerator implements RandomGenerator {
+
+        private long state;
+
+        @Override
+        public long nextLong() {
+            long z = state += 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
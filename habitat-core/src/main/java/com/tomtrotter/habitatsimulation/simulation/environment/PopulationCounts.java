@@ -0,0 +1,114 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+* The number of cells of a field held by each species, and how many of those hold an infected
+* animal, kept up to date as the field changes instead of being recounted from the grid.
+* <p>
+* The field reports every placement and removal and every change of infection of an animal it
+* holds, each as an O(1) update of an array indexed by species id. Empty cells are counted under
+* {@link SpeciesRegistry#EMPTY}, so every update moves a cell from one species to another.
+* <p>
+* Each thread that changes the field adds to its own array of differences, so the tiled engine
+* updates counts in parallel without locks or shared cache lines. Reading a count sums one entry
+* per thread that has ever written, which makes reading all the statistics after a step cost
+* O(species) rather than O(cells). Reads are exact between steps; during a step they may lag.
+*/
+public final class PopulationCounts {
+
+    private static final int SPECIES = SpeciesRegistry.MAX_ID + 1;
+
+    // Per thread: cells per species in [0, SPECIES), infected animals per species in [SPECIES, 2 * SPECIES).
+    private final List<int[]> tallies = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<int[]> local = ThreadLocal.withInitial(this::newTally);
+    private final int cellCount;
+
+    /**
+    * Creates the counts of an empty field.
+    *
+    * @param cellCount The number of cells in the field.
+    */
+    PopulationCounts(int cellCount) {
+        this.cellCount = cellCount;
+        clear();
+    }
+
+    private int[] newTally() {
+        int[] tally = new int[SPECIES * 2];
+        tallies.add(tally);
+        return tally;
+    }
+
+    /**
+    * Records that a cell changed hands. Called by the field for every store, on the storing thread.
+    *
+    * @param removed The species id previously in the cell, or {@link SpeciesRegistry#EMPTY}.
+    * @param removedInfected True if the previous occupant was an infected animal.
+    * @param placed The species id now in the cell, or {@link SpeciesRegistry#EMPTY}.
+    * @param placedInfected True if the new occupant is an infected animal.
+    */
+    void replaced(int removed, boolean removedInfected, int placed, boolean placedInfected) {
+        int[] tally = local.get();
+        tally[removed]--;
+        tally[placed]++;
+        if (removedInfected) {
+            tally[SPECIES + removed]--;
+        }
+        if (placedInfected) {
+            tally[SPECIES + placed]++;
+        }
+    }
+
+    /**
+    * Records that an animal on the field was infected or cured.
+    *
+    * @param speciesId The animal's species id.
+    * @param infected True if the animal is now infected.
+    */
+    void infectionChanged(int speciesId, boolean infected) {
+        local.get()[SPECIES + speciesId] += infected ? 1 : -1;
+    }
+
+    /**
+    * Resets the counts to those of an empty field. Only call this while no other thread changes the field.
+    */
+    void clear() {
+        for (int[] tally : tallies) {
+            Arrays.fill(tally, 0);
+        }
+        local.get()[SpeciesRegistry.EMPTY] = cellCount;
+    }
+
+    /**
+    * Returns the number of cells held by a species.
+    *
+    * @param speciesId The species id; {@link SpeciesRegistry#EMPTY} counts the empty cells.
+    * @return The number of cells.
+    */
+    public int getCount(int speciesId) {
+        int count = 0;
+        for (int[] tally : tallies) {
+            count += tally[speciesId];
+        }
+        return count;
+    }
+
+    /**
+    * Returns the number of infected animals of a species on the field.
+    *
+    * @param speciesId The species id.
+    * @return The number of infected animals.
+    */
+    public int getInfected(int speciesId) {
+        int infected = 0;
+        for (int[] tally : tallies) {
+            infected += tally[SPECIES + speciesId];
+        }
+        return infected;
+    }
+}
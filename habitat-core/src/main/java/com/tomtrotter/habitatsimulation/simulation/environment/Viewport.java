@@ -0,0 +1,206 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+/**
+* The part of a field shown in a view of a given size in pixels, and how far it is zoomed.
+* <p>
+* The view shows the cells from an origin, in cells with fractions, at a number of cells per
+* pixel: above one the view is zoomed out and each pixel stands for a block of cells, below one
+* each cell covers several pixels. Zooming out stops once the whole field fits the view, and
+* zooming in once a cell covers {@link #MAX_PIXELS_PER_CELL} pixels, unless cells are already
+* larger when the field fits. The origin is kept so the view never leaves the field; along a side
+* where the whole field fits, the field is centred.
+*/
+public final class Viewport {
+
+    /** The most pixels a cell may cover along each side. */
+    public static final double MAX_PIXELS_PER_CELL = 32;
+
+    private final int fieldHeight;
+    private final int fieldWidth;
+    private int viewWidth;
+    private int viewHeight;
+    private double originX;
+    private double originY;
+    private double cellsPerPixel;
+
+    /**
+    * Creates a viewport showing the whole field.
+    *
+    * @param fieldHeight The number of rows in the field.
+    * @param fieldWidth The number of columns in the field.
+    * @param viewWidth The width of the view in pixels.
+    * @param viewHeight The height of the view in pixels.
+    * @throws IllegalArgumentException If the view has no pixels.
+    */
+    public Viewport(int fieldHeight, int fieldWidth, int viewWidth, int viewHeight) {
+        this.fieldHeight = fieldHeight;
+        this.fieldWidth = fieldWidth;
+        setViewSize(viewWidth, viewHeight);
+        fit();
+    }
+
+    /**
+    * Changes the size of the view, keeping the cell at its centre and the zoom, as far as the field allows.
+    *
+    * @param viewWidth The width of the view in pixels.
+    * @param viewHeight The height of the view in pixels.
+    * @throws IllegalArgumentException If the view has no pixels.
+    */
+    public void setViewSize(int viewWidth, int viewHeight) {
+        if (viewWidth <= 0 || viewHeight <= 0) {
+            throw new IllegalArgumentException("View must have pixels: " + viewWidth + "x" + viewHeight);
+        }
+        double centreX = originX + this.viewWidth * cellsPerPixel / 2;
+        double centreY = originY + this.viewHeight * cellsPerPixel / 2;
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        cellsPerPixel = Math.min(cellsPerPixel, getFitCellsPerPixel());
+        originX = centreX - viewWidth * cellsPerPixel / 2;
+        originY = centreY - viewHeight * cellsPerPixel / 2;
+        clamp();
+    }
+
+    /**
+    * Zooms out until the whole field fits the view.
+    */
+    public void fit() {
+        cellsPerPixel = getFitCellsPerPixel();
+        clamp();
+    }
+
+    /**
+    * Zooms about a point of the view, which keeps showing the same cell.
+    *
+    * @param factor How much larger cells are drawn afterwards; above one zooms in, below one zooms out.
+    * @param x The horizontal position of the point, in pixels from the view's left.
+    * @param y The vertical position of the point, in pixels from the view's top.
+    */
+    public void zoom(double factor, double x, double y) {
+        double cellX = originX + x * cellsPerPixel;
+        double cellY = originY + y * cellsPerPixel;
+        double fit = getFitCellsPerPixel();
+        cellsPerPixel = Math.max(Math.min(fit, 1 / MAX_PIXELS_PER_CELL), Math.min(fit, cellsPerPixel / factor));
+        originX = cellX - x * cellsPerPixel;
+        originY = cellY - y * cellsPerPixel;
+        clamp();
+    }
+
+    /**
+    * Moves the field under the view, e.g. as it is dragged.
+    *
+    * @param dx How far to move the field to the right, in pixels.
+    * @param dy How far to move the field down, in pixels.
+    */
+    public void pan(double dx, double dy) {
+        originX -= dx * cellsPerPixel;
+        originY -= dy * cellsPerPixel;
+        clamp();
+    }
+
+    /**
+    * Keeps the view over the field, or centres the field along a side it fits.
+    */
+    private void clamp() {
+        originX = clamp(originX, fieldWidth, viewWidth * cellsPerPixel);
+        originY = clamp(originY, fieldHeight, viewHeight * cellsPerPixel);
+    }
+
+    private static double clamp(double origin, int cells, double extent) {
+        if (extent >= cells) {
+            return (cells - extent) / 2;
+        }
+        return Math.max(0, Math.min(cells - extent, origin));
+    }
+
+    /**
+    * @return The number of cells per pixel at which the whole field fits the view.
+    */
+    public double getFitCellsPerPixel() {
+        return Math.max((double) fieldWidth / viewWidth, (double) fieldHeight / viewHeight);
+    }
+
+    /**
+    * Returns the column of the field shown at the centre of a column of pixels.
+    *
+    * @param x The column of pixels.
+    * @return The column of the field, which is outside the field if the field does not reach the pixel.
+    */
+    public int columnAt(int x) {
+        return (int) Math.floor(originX + (x + 0.5) * cellsPerPixel);
+    }
+
+    /**
+    * Returns the row of the field shown at the centre of a row of pixels.
+    *
+    * @param y The row of pixels.
+    * @return The row of the field, which is outside the field if the field does not reach the pixel.
+    */
+    public int rowAt(int y) {
+        return (int) Math.floor(originY + (y + 0.5) * cellsPerPixel);
+    }
+
+    /**
+    * @param column A column of the field, or the boundary to its left.
+    * @return The horizontal position of the column's left edge in the view, in pixels.
+    */
+    public double toViewX(double column) {
+        return (column - originX) / cellsPerPixel;
+    }
+
+    /**
+    * @param row A row of the field, or the boundary above it.
+    * @return The vertical position of the row's top edge in the view, in pixels.
+    */
+    public double toViewY(double row) {
+        return (row - originY) / cellsPerPixel;
+    }
+
+    /**
+    * @return The column of the field at the view's left edge, with the fraction of the cell.
+    */
+    public double getOriginX() {
+        return originX;
+    }
+
+    /**
+    * @return The row of the field at the view's top edge, with the fraction of the cell.
+    */
+    public double getOriginY() {
+        return originY;
+    }
+
+    /**
+    * @return The number of cells along each side of a pixel.
+    */
+    public double getCellsPerPixel() {
+        return cellsPerPixel;
+    }
+
+    /**
+    * @return The number of rows in the field.
+    */
+    public int getFieldHeight() {
+        return fieldHeight;
+    }
+
+    /**
+    * @return The number of columns in the field.
+    */
+    public int getFieldWidth() {
+        return fieldWidth;
+    }
+
+    /**
+    * @return The width of the view in pixels.
+    */
+    public int getViewWidth() {
+        return viewWidth;
+    }
+
+    /**
+    * @return The height of the view in pixels.
+    */
+    public int getViewHeight() {
+        return viewHeight;
+    }
+}
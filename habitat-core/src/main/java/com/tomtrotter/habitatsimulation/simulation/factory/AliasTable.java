@@ -0,0 +1,97 @@
+package com.tomtrotter.habitatsimulation.simulation.factory;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A table for drawing an index with probability proportional to its weight in constant time,
+ * built with Vose's alias method.
+ * <p>
+ * Each of the {@code n} columns holds a threshold and an alias. A sample picks a column uniformly
+ * and keeps it if the fractional part of the same draw falls below the threshold, otherwise it
+ * takes the alias. Sampling uses one random double and allocates nothing, however many weights
+ * there are; building the table is linear in their number.
+ */
+public final class AliasTable {
+
+    private final double[] threshold;
+    private final int[] alias;
+
+    /**
+     * Builds a table for the given weights.
+     *
+     * @param weights The relative weight of each index; none may be negative and at least one must be positive.
+     * @throws IllegalArgumentException If the weights are empty, negative, not finite, or all zero.
+     */
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        double total = 0.0;
+        for (double weight : weights) {
+            if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and non-negative: " + weight);
+            }
+            total += weight;
+        }
+        if (n == 0 || total <= 0.0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        threshold = new double[n];
+        alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            threshold[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is full up to rounding error.
+        while (largeCount > 0) {
+            int more = large[--largeCount];
+            threshold[more] = 1.0;
+            alias[more] = more;
+        }
+        while (smallCount > 0) {
+            int less = small[--smallCount];
+            threshold[less] = 1.0;
+            alias[less] = less;
+        }
+    }
+
+    /**
+     * @return The number of indices the table draws from.
+     */
+    public int size() {
+        return threshold.length;
+    }
+
+    /**
+     * Draws an index with probability proportional to its weight.
+     *
+     * @param rand The source of randomness; exactly one double is drawn.
+     * @return An index between 0 and {@link #size()} - 1.
+     */
+    public int sample(RandomGenerator rand) {
+        double scaled = rand.nextDouble() * threshold.length;
+        int column = (int) scaled;
+        return scaled - column < threshold[column] ? column : alias[column];
+    }
+}
@@ -0,0 +1,25 @@
+package com.tomtrotter.habitatsimulation.simulation.factory;
+
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
+
+/**
+ * Creates an animal of one species. Every species' constructor has this shape, so a reference
+ * such as {@code Tiger::new} can be registered with the {@link OrganismFactory} directly.
+ */
+@FunctionalInterface
+public interface AnimalConstructor {
+
+    /**
+     * Creates an animal.
+     *
+     * @param isGen1 Whether the animal belongs to the initial generation and gets a random age and food level.
+     * @param field The field the animal lives in.
+     * @param cell The packed index of the animal's cell.
+     * @param colour The palette index the animal is drawn with.
+     * @param genetics The animal's genetic code.
+     * @return The new animal.
+     */
+    Animal create(boolean isGen1, Field field, int cell, int colour, Genetics genetics);
+}
\ No newline at end of file
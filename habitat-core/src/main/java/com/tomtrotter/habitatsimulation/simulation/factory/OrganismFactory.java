@@ -0,0 +1,149 @@
+package com.tomtrotter.habitatsimulation.simulation.factory;
+
+import com.tomtrotter.habitatsimulation.core.domain.Plant;
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.entities.Hare;
+import com.tomtrotter.habitatsimulation.simulation.entities.Tiger;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
+import com.tomtrotter.habitatsimulation.simulation.species.Species;
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * The OrganismFactory class is responsible for creating instances of animals and plants in the simulation.
+ * It can create various types of predators, prey, and plants based on weighted probabilities.
+ * <p>
+ * Species are created through the {@link SpeciesRegistry}, which maps each species name used in
+ * the configuration's weight maps to its constructor and colour. The weights are turned into
+ * {@link AliasTable}s once per configuration, so choosing a species takes one random draw and no
+ * allocation however many organisms are placed; the tables are rebuilt only when the field's
+ * configuration changes.
+ */
+public class OrganismFactory {
+
+    private static final Species DEFAULT_PREDATOR = SpeciesRegistry.of(Tiger.class);
+    private static final Species DEFAULT_PREY = SpeciesRegistry.of(Hare.class);
+
+    private final RandomGenerator rand;
+    private final Field field;
+
+    private SimulatorConfig tablesConfig;
+    private SpeciesTable predators;
+    private SpeciesTable prey;
+
+    /**
+     * Constructs an OrganismFactory with the given random number generator and field.
+     *
+     * @param rand The random number generator used for weighted randomization.
+     * @param field The field where the created organisms will be placed.
+     */
+    public OrganismFactory(RandomGenerator rand, Field field) {
+        this.rand = rand;
+        this.field = field;
+    }
+
+    /**
+     * Creates a weighted random predator in the specified cell.
+     * The probability of each predator type is based on its weight in the field's configuration.
+     *
+     * @param cell The packed index of the cell where the predator will be placed.
+     * @return A weighted randomly selected predator.
+     */
+    public Animal createRandomPredator(int cell) {
+        refreshTables();
+        return create(predators, DEFAULT_PREDATOR, cell);
+    }
+
+    /**
+     * Creates a weighted random prey in the specified cell.
+     * The probability of each prey type is based on its weight in the field's configuration.
+     *
+     * @param cell The packed index of the cell where the prey will be placed.
+     * @return A weighted randomly selected prey.
+     */
+    public Animal createRandomPrey(int cell) {
+        refreshTables();
+        return create(prey, DEFAULT_PREY, cell);
+    }
+
+    /**
+     * Creates a plant in the specified cell.
+     *
+     * @param cell The packed index of the cell where the plant will be placed.
+     * @return A new Plant instance.
+     */
+    public Plant createPlant(int cell) {
+        return new Plant(field, cell);
+    }
+
+    /**
+     * Draws a species from a table and creates it, or the fallback species if no weight is positive.
+     */
+    private Animal create(SpeciesTable table, Species fallback, int cell) {
+        Species species = table == null ? fallback : table.species[table.alias.sample(rand)];
+        return species.getConstructor().create(true, field, cell, species.getColour(), new Genetics(rand));
+    }
+
+    /**
+     * Rebuilds the alias tables if the field's configuration has been replaced since they were built.
+     */
+    private void refreshTables() {
+        SimulatorConfig config = field.getConfig();
+        if (config != tablesConfig) {
+            predators = SpeciesTable.of(config.predatorWeights(), "predator");
+            prey = SpeciesTable.of(config.preyWeights(), "prey");
+            tablesConfig = config;
+        }
+    }
+
+    /**
+     * The species with a positive weight in one weight map, and an alias table to draw them by weight.
+     */
+    private static final class SpeciesTable {
+
+        private final Species[] species;
+        private final AliasTable alias;
+
+        private SpeciesTable(Species[] species, AliasTable alias) {
+            this.species = species;
+            this.alias = alias;
+        }
+
+        /**
+         * Builds a table from a weight map.
+         *
+         * @param weights The relative weight of each species name.
+         * @param role The kind of species, for error messages.
+         * @return The table, or null if no weight is positive.
+         * @throws IllegalStateException If a species with a positive weight is not registered or has no constructor.
+         */
+        static SpeciesTable of(Map<String, Double> weights, String role) {
+            List<Species> species = new ArrayList<>();
+            List<Double> positive = new ArrayList<>();
+            for (Map.Entry<String, Double> entry : weights.entrySet()) {
+                if (entry.getValue() > 0) {
+                    Species registered = SpeciesRegistry.byName(entry.getKey());
+                    if (registered == null || registered.getConstructor() == null) {
+                        throw new IllegalStateException("Unknown " + role + " type: " + entry.getKey());
+                    }
+                    species.add(registered);
+                    positive.add(entry.getValue());
+                }
+            }
+            if (species.isEmpty()) {
+                return null;
+            }
+            double[] table = new double[positive.size()];
+            for (int i = 0; i < table.length; i++) {
+                table[i] = positive.get(i);
+            }
+            return new SpeciesTable(species.toArray(new Species[0]), new AliasTable(table));
+        }
+    }
+}
\ No newline at end of file
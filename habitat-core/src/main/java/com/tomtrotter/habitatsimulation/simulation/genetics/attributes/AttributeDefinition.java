@@ -9,6 +9,9 @@ import java.util.function.BiFunction;
 * Represents the definition of a genetic attribute used in the simulation.
 * This class encapsulates metadata about an attribute, such as its type,
 * valid range, default value, mutation behavior, and validation logic.
+* <p>
+* A definition does not change once built, so it can be read from any thread; its list of
+* mutations is an unmodifiable copy.
 *
 * @param <T> The data type of the attribute (e.g., Integer, Double).
 */
@@ -46,7 +49,7 @@ public class AttributeDefinition<T> {
             double mutationProbability) {
         this.attribute = attribute;
         this.type = type;
-        this.possibleMutations = possibleMutations;
+        this.possibleMutations = List.copyOf(possibleMutations);
         this.validator = validator;
         this.minValue = minValue;
         this.maxValue = maxValue;
@@ -69,7 +72,7 @@ public class AttributeDefinition<T> {
     }
 
     /**
-    * @return A list of mutation strategies applicable to this attribute.
+    * @return An unmodifiable list of mutation strategies applicable to this attribute.
     */
     public List<MutationType<T>> getPossibleMutations() {
         return possibleMutations;
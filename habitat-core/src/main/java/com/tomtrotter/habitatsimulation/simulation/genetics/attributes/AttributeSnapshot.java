@@ -0,0 +1,143 @@
+package com.tomtrotter.habitatsimulation.simulation.genetics.attributes;
+
+import com.tomtrotter.habitatsimulation.util.BernoulliSampler;
+
+import java.util.Map;
+
+/**
+* An immutable view of the attribute definitions and active flags held by the
+* {@link GeneticAttributeManager} at one point in time.
+* <p>
+* Everything is precomputed when the snapshot is built: definitions are held in an array indexed
+* by {@link Attributes#ordinal()}, the active attributes in ordinal order and as a bit mask. Reading
+* a snapshot takes no lock and allocates nothing. When every active attribute mutates with the same
+* probability, the snapshot also holds a {@link BernoulliSampler} for it. The manager builds a new snapshot, with the next
+* version number, whenever an attribute is registered, given a new mutation or switched on or off.
+*/
+public final class AttributeSnapshot {
+
+    private final long version;
+    private final AttributeDefinition<?>[] definitions;
+    private final Attributes[] active;
+    private final long activeMask;
+    private final BernoulliSampler mutationSampler;
+
+    /**
+    * Builds a snapshot from the manager's current state.
+    *
+    * @param version          The version number of this snapshot.
+    * @param definitionsByKey The registered definitions.
+    * @param activeByKey      The active flag of each attribute.
+    */
+    AttributeSnapshot(long version, Map<Attributes, AttributeDefinition<?>> definitionsByKey,
+                      Map<Attributes, Boolean> activeByKey) {
+        Attributes[] all = Attributes.values();
+        this.version = version;
+        definitions = new AttributeDefinition<?>[all.length];
+
+        long mask = 0;
+        int count = 0;
+        for (Attributes attr : all) {
+            definitions[attr.ordinal()] = definitionsByKey.get(attr);
+            if (activeByKey.getOrDefault(attr, false)) {
+                mask |= 1L << attr.ordinal();
+                count++;
+            }
+        }
+
+        active = new Attributes[count];
+        int next = 0;
+        for (Attributes attr : all) {
+            if ((mask & (1L << attr.ordinal())) != 0) {
+                active[next++] = attr;
+            }
+        }
+        activeMask = mask;
+        mutationSampler = uniformMutationSampler();
+    }
+
+    /**
+    * Builds a sampler for the mutation probability shared by every active attribute.
+    *
+    * @return The sampler, or null if the active attributes mutate with different probabilities.
+    */
+    private BernoulliSampler uniformMutationSampler() {
+        double probability = Double.NaN;
+        for (Attributes attr : active) {
+            AttributeDefinition<?> definition = definitions[attr.ordinal()];
+            if (definition == null) {
+                return null;
+            }
+            if (Double.isNaN(probability)) {
+                probability = definition.getMutationProbability();
+            } else if (definition.getMutationProbability() != probability) {
+                return null;
+            }
+        }
+        return Double.isNaN(probability) ? null : new BernoulliSampler(probability);
+    }
+
+    /**
+    * @return The version number, increased each time the manager's state changes.
+    */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+    * Retrieves the definition of an attribute.
+    *
+    * @param attribute The attribute whose definition is requested.
+    * @param <T>       The type of the attribute.
+    * @return The definition, or null if the attribute is not registered.
+    */
+    @SuppressWarnings("unchecked")
+    public <T> AttributeDefinition<T> getDefinition(Attributes attribute) {
+        return (AttributeDefinition<T>) definitions[attribute.ordinal()];
+    }
+
+    /**
+    * Checks whether an attribute is active.
+    *
+    * @param attribute The attribute to check.
+    * @return True if the attribute is active.
+    */
+    public boolean isActive(Attributes attribute) {
+        return (activeMask & (1L << attribute.ordinal())) != 0;
+    }
+
+    /**
+    * @return The active attributes as a bit mask: bit {@code i} is set when the attribute with ordinal
+    *         {@code i} is active.
+    */
+    public long getActiveMask() {
+        return activeMask;
+    }
+
+    /**
+    * Returns a sampler for the mutation probability of the active attributes, which lets a genome,
+    * or a whole litter, skip straight to the attributes that mutate.
+    *
+    * @return The sampler, or null if the active attributes do not share one mutation probability.
+    */
+    public BernoulliSampler getMutationSampler() {
+        return mutationSampler;
+    }
+
+    /**
+    * @return The number of active attributes.
+    */
+    public int getActiveCount() {
+        return active.length;
+    }
+
+    /**
+    * Returns one of the active attributes, in ordinal order.
+    *
+    * @param index The position among the active attributes, from zero to {@link #getActiveCount()} - 1.
+    * @return The active attribute.
+    */
+    public Attributes getActive(int index) {
+        return active[index];
+    }
+}
@@ -12,13 +12,17 @@ import java.util.*;
 * registering new attributes, toggling attribute activation, and providing access to definitions.
 * <p>
 * It acts as the central configuration point for the genetic system and is used globally.
+* <p>
+* Changes are made under the manager's lock and each one publishes a new immutable
+* {@link AttributeSnapshot}. Readers on the simulation's hot path go through {@link #snapshot()},
+* which is a single volatile read.
 */
 public class GeneticAttributeManager {
 
-    private static GeneticAttributeManager instance;
+    private final Map<Attributes, AttributeDefinition<?>> attributeDefinitions = new EnumMap<>(Attributes.class);
+    private final Map<Attributes, Boolean> activeAttributes = new EnumMap<>(Attributes.class);
 
-    private final Map<Attributes, AttributeDefinition<?>> attributeDefinitions = new HashMap<>();
-    private final Map<Attributes, Boolean> activeAttributes = new HashMap<>();
+    private volatile AttributeSnapshot snapshot;
 
     /**
     * Private constructor to enforce singleton usage.
@@ -28,21 +32,44 @@ public class GeneticAttributeManager {
         initializeDefaultAttributes();
     }
 
+    /**
+    * Holds the singleton; the class loader creates it on first use, without locking afterwards.
+    */
+    private static class Holder {
+        private static final GeneticAttributeManager INSTANCE = new GeneticAttributeManager();
+    }
+
     /**
     * Retrieves the singleton instance of the manager.
     *
     * @return The singleton instance of {@code GeneticAttributeManager}.
     */
-    public static synchronized GeneticAttributeManager getInstance() {
-        if (instance == null) {
-            instance = new GeneticAttributeManager();
-        }
-        return instance;
+    public static GeneticAttributeManager getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+    * Returns the current definitions and active attributes as an immutable snapshot.
+    *
+    * @return The latest snapshot.
+    */
+    public AttributeSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+    * Publishes a new snapshot of the current state. Called with the manager's lock held.
+    */
+    private void publish() {
+        AttributeSnapshot previous = snapshot;
+        snapshot = new AttributeSnapshot(previous == null ? 0 : previous.getVersion() + 1,
+                attributeDefinitions, activeAttributes);
     }
 
     /**
     * Initializes a default set of core genetic attributes with predefined mutation types,
-    * validation logic, ranges, and default values.
+    * ranges, and default values. The increment mutations reject results outside the range
+    * themselves, so these attributes need no separate validator.
     */
     private void initializeDefaultAttributes() {
         // BREEDING_AGE
@@ -50,10 +77,6 @@ public class GeneticAttributeManager {
                 new GeneticsBuilder<>(Attributes.BREEDING_AGE, Integer.class)
                         .addMutationType(MutationFactory.intIncrement(1))
                         .addMutationType(MutationFactory.intIncrement(-1))
-                        .setValidator((value, mutation) -> {
-                            int newValue = mutation.apply(value);
-                            return newValue >= 12 && newValue <= 90;
-                        })
                         .setRange(12, 90)
                         .setDefaultValue(20)
                         .build()
@@ -63,10 +86,6 @@ public class GeneticAttributeManager {
                 new GeneticsBuilder<>(Attributes.MAX_AGE, Integer.class)
                         .addMutationType(MutationFactory.intIncrement(1))
                         .addMutationType(MutationFactory.intIncrement(-1))
-                        .setValidator((value, mutation) -> {
-                            int newValue = mutation.apply(value);
-                            return newValue >= 10 && newValue <= 120;
-                        })
                         .setRange(10, 120)
                         .setDefaultValue(60)
                         .build()
@@ -76,10 +95,6 @@ public class GeneticAttributeManager {
                 new GeneticsBuilder<>(Attributes.BREEDING_PROBABILITY, Double.class)
                         .addMutationType(MutationFactory.doubleIncrement(0.01))
                         .addMutationType(MutationFactory.doubleIncrement(-0.01))
-                        .setValidator((value, mutation) -> {
-                            double newValue = mutation.apply(value);
-                            return newValue >= 0 && newValue <= 1.0;
-                        })
                         .setRange(0.0, 1.0)
                         .setDefaultValue(0.2)
                         .build()
@@ -89,10 +104,6 @@ public class GeneticAttributeManager {
                 new GeneticsBuilder<>(Attributes.MAX_LITTER_SIZE, Integer.class)
                         .addMutationType(MutationFactory.intIncrement(1))
                         .addMutationType(MutationFactory.intIncrement(-1))
-                        .setValidator((value, mutation) -> {
-                            int newValue = mutation.apply(value);
-                            return newValue >= 1 && newValue <= 12;
-                        })
                         .setRange(1, 12)
                         .setDefaultValue(4)
                         .build()
@@ -102,10 +113,6 @@ public class GeneticAttributeManager {
                 new GeneticsBuilder<>(Attributes.DISEASE_PROBABILITY, Double.class)
                         .addMutationType(MutationFactory.doubleIncrement(0.01))
                         .addMutationType(MutationFactory.doubleIncrement(-0.01))
-                        .setValidator((value, mutation) -> {
-                            double newValue = mutation.apply(value);
-                            return newValue >= 0 && newValue <= 1.0;
-                        })
                         .setRange(0.0, 1.0)
                         .setDefaultValue(0.1)
                         .build()
@@ -115,10 +122,6 @@ public class GeneticAttributeManager {
                 new GeneticsBuilder<>(Attributes.METABOLISM, Double.class)
                         .addMutationType(MutationFactory.doubleIncrement(0.01))
                         .addMutationType(MutationFactory.doubleIncrement(-0.01))
-                        .setValidator((value, mutation) -> {
-                            double newValue = mutation.apply(value);
-                            return newValue >= 0.25 && newValue <= 1.0;
-                        })
                         .setRange(0.25, 1.0)
                         .setDefaultValue(0.5)
                         .build()
@@ -126,6 +129,7 @@ public class GeneticAttributeManager {
         for (Attributes attr : Attributes.values()) {
             activeAttributes.put(attr, true);
         }
+        publish();
     }
 
     /**
@@ -134,9 +138,10 @@ public class GeneticAttributeManager {
     * @param definition The attribute definition to register.
     * @param <T>        The type of the attribute.
     */
-    public <T> void registerAttribute(AttributeDefinition<T> definition) {
+    public synchronized <T> void registerAttribute(AttributeDefinition<T> definition) {
         attributeDefinitions.put(definition.getAttribute(), definition);
         activeAttributes.putIfAbsent(definition.getAttribute(), false);
+        publish();
     }
 
     /**
@@ -145,11 +150,13 @@ public class GeneticAttributeManager {
     * @param attribute The attribute to activate or deactivate.
     * @param active    True to activate, false to deactivate.
     */
-    public void setAttributeActive(Attributes attribute, boolean active) {
+    public synchronized void setAttributeActive(Attributes attribute, boolean active) {
         if (!attributeDefinitions.containsKey(attribute)) {
             throw new IllegalArgumentException("Unknown attribute: " + attribute);
         }
-        activeAttributes.put(attribute, active);
+        if (activeAttributes.put(attribute, active) != active) {
+            publish();
+        }
     }
 
     /**
@@ -159,31 +166,31 @@ public class GeneticAttributeManager {
     * @return True if the attribute is active, false otherwise.
     */
     public boolean isAttributeActive(Attributes attribute) {
-        return activeAttributes.getOrDefault(attribute, false);
+        return snapshot.isActive(attribute);
     }
 
     /**
     * Returns a set of all currently active attributes.
+    * Hot paths should read {@link #snapshot()} instead, which does not build a set.
     *
     * @return Set of active attributes.
     */
     public Set<Attributes> getActiveAttributes() {
-        Set<Attributes> active = new HashSet<>();
-        for (Map.Entry<Attributes, Boolean> entry : activeAttributes.entrySet()) {
-            if (entry.getValue()) {
-                active.add(entry.getKey());
-            }
+        AttributeSnapshot current = snapshot;
+        Set<Attributes> active = EnumSet.noneOf(Attributes.class);
+        for (int i = 0; i < current.getActiveCount(); i++) {
+            active.add(current.getActive(i));
         }
         return active;
     }
 
     /**
-    * Returns a read-only view of all attribute definitions.
+    * Returns a copy of all attribute definitions.
     *
     * @return Map of attributes to their definitions.
     */
-    public Map<Attributes, AttributeDefinition<?>> getAttributeDefinitions() {
-        return Collections.unmodifiableMap(attributeDefinitions);
+    public synchronized Map<Attributes, AttributeDefinition<?>> getAttributeDefinitions() {
+        return Collections.unmodifiableMap(new EnumMap<>(attributeDefinitions));
     }
 
     /**
@@ -193,26 +200,32 @@ public class GeneticAttributeManager {
     * @param <T>       The type of the attribute.
     * @return The attribute definition for the given attribute.
     */
-    @SuppressWarnings("unchecked")
     public <T> AttributeDefinition<T> getAttributeDefinition(Attributes attribute) {
-        return (AttributeDefinition<T>) attributeDefinitions.get(attribute);
+        return snapshot.getDefinition(attribute);
     }
 
     /**
-    * Adds a mutation type to an existing attribute.
+    * Adds a mutation type to an existing attribute. The attribute's definition is replaced by a copy
+    * with the extra mutation and a new snapshot is published, so readers of an older snapshot keep
+    * seeing the mutations it was built with.
     *
     * @param attribute The attribute to which the mutation should be added.
     * @param mutation  The mutation logic to add.
     * @param <T>       The type of the attribute.
     * @throws IllegalArgumentException If the attribute is not registered.
     */
-    public <T> void addMutationType(Attributes attribute, MutationType<T> mutation) {
+    public synchronized <T> void addMutationType(Attributes attribute, MutationType<T> mutation) {
         @SuppressWarnings("unchecked")
         AttributeDefinition<T> definition = (AttributeDefinition<T>) attributeDefinitions.get(attribute);
         if (definition == null) {
             throw new IllegalArgumentException("Unknown attribute: " + attribute);
         }
-        definition.getPossibleMutations().add(mutation);
+        List<MutationType<T>> mutations = new ArrayList<>(definition.getPossibleMutations());
+        mutations.add(mutation);
+        attributeDefinitions.put(attribute, new AttributeDefinition<>(attribute, definition.getType(), mutations,
+                definition.getValidator(), definition.getMinValue(), definition.getMaxValue(),
+                definition.getDefaultValue(), definition.getMutationProbability()));
+        publish();
     }
 
 }
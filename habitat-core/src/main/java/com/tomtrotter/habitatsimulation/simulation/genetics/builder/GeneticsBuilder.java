@@ -2,6 +2,8 @@ package com.tomtrotter.habitatsimulation.simulation.genetics.builder;
 
 import com.tomtrotter.habitatsimulation.simulation.genetics.attributes.AttributeDefinition;
 import com.tomtrotter.habitatsimulation.simulation.genetics.attributes.Attributes;
+import com.tomtrotter.habitatsimulation.simulation.genetics.mutation.DoubleMutation;
+import com.tomtrotter.habitatsimulation.simulation.genetics.mutation.IntMutation;
 import com.tomtrotter.habitatsimulation.simulation.genetics.mutation.MutationType;
 import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
 
@@ -49,6 +51,9 @@ public class GeneticsBuilder<T> {
 
     /**
     * Sets the validation function that checks whether a mutation is valid for a given value.
+    * Only boxed mutations are validated; {@link IntMutation} and {@link DoubleMutation} strategies
+    * enforce the range themselves. Without a validator, a boxed mutation is accepted when its
+    * result lies within the range.
     *
     * @param validator A BiFunction that takes the current value and a mutation and returns true if valid.
     * @return This builder instance for method chaining.
@@ -99,10 +104,35 @@ public class GeneticsBuilder<T> {
     * @return The constructed AttributeDefinition instance.
     */
     public AttributeDefinition<T> build() {
+        BiFunction<T, MutationType<T>, Boolean> checks = validator;
+        if (checks == null) {
+            T min = minValue;
+            T max = maxValue;
+            checks = (value, mutation) -> withinRange(mutation.apply(value), min, max);
+        }
         return new AttributeDefinition<>(
-                attribute, type, possibleMutations, validator, minValue, maxValue,
+                attribute, type, possibleMutations, checks, minValue, maxValue,
                 defaultValue, mutationProbability
         );
     }
 
+    /**
+    * The default validation: checks that a mutated value lies within a range.
+    *
+    * @param result The mutated value.
+    * @param min    The minimum permissible value, or null for none.
+    * @param max    The maximum permissible value, or null for none.
+    * @param <T>    The attribute type.
+    * @return True if the value is within the range, or cannot be compared.
+    */
+    @SuppressWarnings("unchecked")
+    private static <T> boolean withinRange(T result, T min, T max) {
+        if (!(result instanceof Comparable<?>)) {
+            return true;
+        }
+        Comparable<T> comparable = (Comparable<T>) result;
+        return (min == null || comparable.compareTo(min) >= 0)
+                && (max == null || comparable.compareTo(max) <= 0);
+    }
+
 }
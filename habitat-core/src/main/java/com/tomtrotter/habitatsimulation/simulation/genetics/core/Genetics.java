@@ -0,0 +1,746 @@
+package com.tomtrotter.habitatsimulation.simulation.genetics.core;
+
+import com.tomtrotter.habitatsimulation.simulation.genetics.attributes.AttributeDefinition;
+import com.tomtrotter.habitatsimulation.simulation.genetics.attributes.AttributeSnapshot;
+import com.tomtrotter.habitatsimulation.simulation.genetics.attributes.Attributes;
+import com.tomtrotter.habitatsimulation.simulation.genetics.attributes.GeneticAttributeManager;
+import com.tomtrotter.habitatsimulation.simulation.genetics.mutation.DoubleMutation;
+import com.tomtrotter.habitatsimulation.simulation.genetics.mutation.IntMutation;
+import com.tomtrotter.habitatsimulation.simulation.genetics.mutation.MutationStrategy;
+import com.tomtrotter.habitatsimulation.simulation.genetics.mutation.MutationType;
+import com.tomtrotter.habitatsimulation.util.BernoulliSampler;
+import com.tomtrotter.habitatsimulation.util.Randomizer;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+* Represents the genetic blueprint of an entity.
+* Supports random initialization, mutation, inheritance (breeding), and validation
+* using attribute definitions from the global {@link GeneticAttributeManager}. Each operation reads
+* the manager's current {@link AttributeSnapshot} once and works from its precomputed tables.
+* <p>
+* Values are stored unboxed in two primitive arrays indexed by {@link Attributes#ordinal()}:
+* integer and boolean attributes (as 0 or 1) in one, double attributes in the other, chosen by
+* {@link AttributeDefinition#getType()}. A bit mask records which attributes hold a value. The typed
+* getters such as {@link #getMaxAge()} read an array slot directly, with no hashing or unboxing.
+* <p>
+* The arrays are a slot of {@link GenomeColumns}. A new genome has columns of its own, reused from
+* a genome that moved out of them where possible; the genome of an animal on a field is moved into
+* the field's columns, at the animal's cell, so the genomes of a field lie side by side in a few
+* large arrays and the object is only a view of its slot.
+*/
+public class Genetics {
+
+    private static final Attributes[] ATTRIBUTES = Attributes.values();
+
+    static {
+        if (ATTRIBUTES.length > Long.SIZE) {
+            throw new IllegalStateException("The presence mask holds at most " + Long.SIZE + " attributes");
+        }
+    }
+
+    // The slot holding the values: in the genome's own columns, or in a field's while its animal is on the field.
+    private GenomeColumns columns = GenomeColumns.single();
+    private int slot;
+    private int base;
+
+    private final RandomGenerator rand;
+
+    /**
+    * Constructs a new Genetics object by copying values from another instance.
+    * Only active attributes are copied. The copy draws its mutations from the same stream as the original.
+    *
+    * @param genetics The genetics instance to copy from.
+    */
+    public Genetics(Genetics genetics) {
+        rand = genetics.rand;
+        copyFrom(genetics);
+        columns.present[slot] &= attributes().getActiveMask();
+    }
+
+    /**
+    * Constructs a new Genetics object with randomly generated attribute values.
+    * Only attributes marked as active will be initialized. The values and later mutations are drawn from
+    * the shared {@link Randomizer} generator; simulations pass their own stream to {@link #Genetics(RandomGenerator)}.
+    */
+    public Genetics() {
+        this(Randomizer.getRandom());
+    }
+
+    /**
+    * Constructs a new Genetics object with attribute values drawn from the given stream.
+    * The stream is also used by {@link #mutate()}.
+    * Only attributes marked as active will be initialized.
+    *
+    * @param rand The source of randomness for this instance.
+    */
+    public Genetics(RandomGenerator rand) {
+        this(rand, true);
+    }
+
+    /**
+    * Constructs a Genetics object bound to the given stream, optionally leaving it empty
+    * so that breeding can fill it in without drawing attribute values it would discard.
+    *
+    * @param rand      The source of randomness for this instance.
+    * @param randomize Whether to generate random values for the active attributes.
+    */
+    private Genetics(RandomGenerator rand, boolean randomize) {
+        this.rand = rand;
+        if (randomize) {
+            generateRandomAttributes();
+        }
+    }
+
+    /**
+    * Randomly generates valid values for all active attributes,
+    * based on their type and value range.
+    */
+    private void generateRandomAttributes() {
+        AttributeSnapshot snapshot = attributes();
+        for (int i = 0; i < snapshot.getActiveCount(); i++) {
+            generateRandomAttribute(snapshot, snapshot.getActive(i));
+        }
+    }
+
+    /**
+    * Generates a valid random value for a specific attribute,
+    * based on its defined type (Integer, Double, Boolean).
+    *
+    * @param snapshot  The attribute definitions to use.
+    * @param attribute The attribute to generate.
+    * @param <T>       The attribute type.
+    */
+    @SuppressWarnings("unchecked")
+    private <T> void generateRandomAttribute(AttributeSnapshot snapshot, Attributes attribute) {
+        AttributeDefinition<T> definition = snapshot.getDefinition(attribute);
+        if (definition == null) {
+            return;
+        }
+
+        int index = attribute.ordinal();
+        Class<T> type = definition.getType();
+
+        if (type == Integer.class) {
+            AttributeDefinition<Integer> intDef = (AttributeDefinition<Integer>) definition;
+            int minValue = intDef.getMinValue();
+            int maxValue = intDef.getMaxValue();
+            columns.ints[base + index] = rand.nextInt(minValue, maxValue + 1);
+        } else if (type == Double.class) {
+            AttributeDefinition<Double> doubleDef = (AttributeDefinition<Double>) definition;
+            double minValue = doubleDef.getMinValue();
+            double maxValue = doubleDef.getMaxValue();
+            columns.doubles[base + index] = minValue + (maxValue - minValue) * rand.nextDouble();
+        } else if (type == Boolean.class) {
+            columns.ints[base + index] = rand.nextBoolean() ? 1 : 0;
+        } else {
+            throw new UnsupportedOperationException("Unsupported attribute type: " + type.getName());
+        }
+
+        columns.present[slot] |= 1L << index;
+    }
+
+    /**
+    * Checks if this instance contains a value for the specified attribute.
+    *
+    * @param attribute The attribute to check.
+    * @return true if a value is present; false otherwise.
+    */
+    public boolean hasAttribute(Attributes attribute) {
+        return (columns.present[slot] & (1L << attribute.ordinal())) != 0;
+    }
+
+    /**
+    * Retrieves the value of a given attribute. If no value is set,
+    * returns the default value defined in its AttributeDefinition.
+    *
+    * @param attribute The attribute to retrieve.
+    * @param <T>       The expected type of the attribute.
+    * @return The attribute's value.
+    */
+    @SuppressWarnings("unchecked")
+    public <T> T getAttribute(Attributes attribute) {
+        if (!hasAttribute(attribute)) {
+            AttributeDefinition<T> definition = attributes().getDefinition(attribute);
+            if (definition != null) {
+                return definition.getDefaultValue();
+            }
+            throw new IllegalStateException("Attribute is not initialized: " + attribute);
+        }
+
+        return getAttributeValue(attribute);
+    }
+
+    /**
+    * Retrieves the internal value of an attribute without default fallback, boxed to its defined type.
+    * Used internally for mutation and breeding logic.
+    *
+    * @param attribute The attribute to retrieve.
+    * @param <T>       The expected type of the attribute.
+    * @return The raw value or null if unset.
+    */
+    @SuppressWarnings("unchecked")
+    private <T> T getAttributeValue(Attributes attribute) {
+        if (!hasAttribute(attribute)) {
+            return null;
+        }
+        int index = attribute.ordinal();
+        Class<?> type = attributes().getDefinition(attribute).getType();
+        if (type == Double.class) {
+            return (T) Double.valueOf(columns.doubles[base + index]);
+        }
+        if (type == Boolean.class) {
+            return (T) Boolean.valueOf(columns.ints[base + index] != 0);
+        }
+        return (T) Integer.valueOf(columns.ints[base + index]);
+    }
+
+    /**
+    * Stores a boxed value in the slot for its type and marks the attribute as present.
+    *
+    * @param attribute The attribute to store.
+    * @param value     The value, of the attribute's defined type.
+    */
+    private void putAttributeValue(Attributes attribute, Object value) {
+        int index = attribute.ordinal();
+        if (value instanceof Double doubleValue) {
+            columns.doubles[base + index] = doubleValue;
+        } else if (value instanceof Boolean booleanValue) {
+            columns.ints[base + index] = booleanValue ? 1 : 0;
+        } else {
+            columns.ints[base + index] = (Integer) value;
+        }
+        columns.present[slot] |= 1L << index;
+    }
+
+    /**
+    * Copies one attribute's value, whatever its type, from another instance.
+    *
+    * @param index  The ordinal of the attribute.
+    * @param source The instance to copy from.
+    */
+    private void inherit(int index, Genetics source) {
+        columns.ints[base + index] = source.columns.ints[source.base + index];
+        columns.doubles[base + index] = source.columns.doubles[source.base + index];
+        columns.present[slot] |= 1L << index;
+    }
+
+    /**
+    * Copies every value and the presence mask of another instance into this one.
+    *
+    * @param source The instance to copy from.
+    */
+    private void copyFrom(Genetics source) {
+        System.arraycopy(source.columns.ints, source.base, columns.ints, base, GenomeColumns.STRIDE);
+        System.arraycopy(source.columns.doubles, source.base, columns.doubles, base, GenomeColumns.STRIDE);
+        columns.present[slot] = source.columns.present[source.slot];
+    }
+
+    /**
+    * Moves this genome's values into a slot of the given columns, from where it reads them
+    * afterwards. The slot it leaves is not cleared; columns of its own are kept for the next genome.
+    *
+    * @param target     The columns to move into.
+    * @param targetSlot The slot in those columns.
+    */
+    public void moveTo(GenomeColumns target, int targetSlot) {
+        if (target == columns && targetSlot == slot) {
+            return;
+        }
+        int targetBase = targetSlot * GenomeColumns.STRIDE;
+        System.arraycopy(columns.ints, base, target.ints, targetBase, GenomeColumns.STRIDE);
+        System.arraycopy(columns.doubles, base, target.doubles, targetBase, GenomeColumns.STRIDE);
+        target.present[targetSlot] = columns.present[slot];
+        GenomeColumns.release(columns);
+        columns = target;
+        slot = targetSlot;
+        base = targetBase;
+    }
+
+    /**
+    * Returns the current attribute definitions and active flags.
+    *
+    * @return The manager's latest snapshot.
+    */
+    private static AttributeSnapshot attributes() {
+        return GeneticAttributeManager.getInstance().snapshot();
+    }
+
+    /**
+    * Assigns a value to an attribute after validating:
+    * - That the attribute is active
+    * - That the value matches the expected type
+    * - That numeric values fall within the defined range
+    *
+    * @param attribute The attribute to set.
+    * @param value     The new value.
+    * @param <T>       The expected type.
+    * @throws IllegalStateException    If the attribute is inactive or missing a definition.
+    * @throws IllegalArgumentException If the value type is incorrect or out of bounds.
+    */
+    public <T> void setAttribute(Attributes attribute, T value) {
+        AttributeSnapshot snapshot = attributes();
+        if (!snapshot.isActive(attribute)) {
+            throw new IllegalStateException("Cannot set inactive attribute: " + attribute);
+        }
+
+        AttributeDefinition<T> definition = snapshot.getDefinition(attribute);
+        if (definition == null) {
+            throw new IllegalStateException("No definition found for attribute: " + attribute);
+        }
+
+        Class<T> expectedType = definition.getType();
+        if (value != null && !expectedType.isInstance(value)) {
+            throw new IllegalArgumentException("Invalid type for attribute " + attribute +
+                    ". Expected: " + expectedType.getSimpleName() +
+                    ", Got: " + value.getClass().getSimpleName()
+            );
+        }
+
+        if (expectedType == Integer.class && value != null) {
+            Integer intValue = (Integer) value;
+            Integer min = (Integer) definition.getMinValue();
+            Integer max = (Integer) definition.getMaxValue();
+
+            if ((min != null && intValue < min) || (max != null && intValue > max)) {
+                throw new IllegalArgumentException(
+                        "Value " + intValue + " for attribute " + attribute +
+                                " is outside allowed range [" + min + ", " + max + "]"
+                );
+            }
+        } else if (expectedType == Double.class && value != null) {
+            Double doubleValue = (Double) value;
+            Double min = (Double) definition.getMinValue();
+            Double max = (Double) definition.getMaxValue();
+
+            if ((min != null && doubleValue < min) || (max != null && doubleValue > max)) {
+                throw new IllegalArgumentException(
+                        "Value " + doubleValue + " for attribute " + attribute +
+                                " is outside allowed range [" + min + ", " + max + "]"
+                );
+            }
+        }
+
+        if (value == null) {
+            columns.present[slot] &= ~(1L << attribute.ordinal());
+        } else {
+            putAttributeValue(attribute, value);
+        }
+    }
+
+    /**
+    * Attempts to apply mutations to all active attributes in this instance,
+    * based on each attribute's defined mutation probability.
+    *
+    * @return This mutated Genetics instance.
+    */
+    public Genetics mutate() {
+        return mutate(rand);
+    }
+
+    /**
+    * Attempts to apply mutations to all active attributes in this instance,
+    * drawing every decision from the given stream.
+    *
+    * @param rand The source of randomness for the mutations.
+    * @return This mutated Genetics instance.
+    */
+    public Genetics mutate(RandomGenerator rand) {
+        return mutate(rand, attributes());
+    }
+
+    /**
+    * Attempts to apply mutations to the given active attributes in this instance.
+    * When the attributes share one mutation probability, only the attributes that mutate draw:
+    * the sampler jumps from one to the next instead of rolling each in turn.
+    *
+    * @param rand     The source of randomness for the mutations.
+    * @param snapshot The attribute definitions and active flags to use.
+    * @return This mutated Genetics instance.
+    */
+    private Genetics mutate(RandomGenerator rand, AttributeSnapshot snapshot) {
+        BernoulliSampler sampler = snapshot.getMutationSampler();
+        if (sampler != null) {
+            int traits = snapshot.getActiveCount();
+            for (long trial = sampler.nextGap(rand); trial < traits; trial += 1L + sampler.nextGap(rand)) {
+                mutateActive(snapshot.getActive((int) trial), snapshot, rand);
+            }
+            return this;
+        }
+
+        for (int i = 0; i < snapshot.getActiveCount(); i++) {
+            Attributes attr = snapshot.getActive(i);
+            if (hasAttribute(attr)) {
+                AttributeDefinition<?> definition = snapshot.getDefinition(attr);
+                if (rand.nextDouble() < definition.getMutationProbability()) {
+                    applyMutation(attr, definition, rand);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+    * Mutates several genomes as one run of trials, one per genome and active attribute in that
+    * order. With a shared mutation probability the sampler skips straight from one mutating
+    * attribute to the next, across genome boundaries; otherwise each genome is mutated in turn.
+    *
+    * @param genomes  The genomes to mutate.
+    * @param rand     The source of randomness for the mutations.
+    * @param snapshot The attribute definitions and active flags to use.
+    */
+    private static void mutateAll(Genetics[] genomes, RandomGenerator rand, AttributeSnapshot snapshot) {
+        BernoulliSampler sampler = snapshot.getMutationSampler();
+        if (sampler == null) {
+            for (Genetics genome : genomes) {
+                genome.mutate(rand, snapshot);
+            }
+            return;
+        }
+
+        int traits = snapshot.getActiveCount();
+        long trials = (long) genomes.length * traits;
+        for (long trial = sampler.nextGap(rand); trial < trials; trial += 1L + sampler.nextGap(rand)) {
+            genomes[(int) (trial / traits)].mutateActive(snapshot.getActive((int) (trial % traits)), snapshot, rand);
+        }
+    }
+
+    /**
+    * Applies a mutation to an attribute whose mutation trial succeeded, if this instance holds it.
+    *
+    * @param attribute The attribute to mutate.
+    * @param snapshot  The attribute definitions to use.
+    * @param rand      The source of randomness for choosing the mutation.
+    */
+    private void mutateActive(Attributes attribute, AttributeSnapshot snapshot, RandomGenerator rand) {
+        if (hasAttribute(attribute)) {
+            applyMutation(attribute, snapshot.getDefinition(attribute), rand);
+        }
+    }
+
+    /**
+    * Applies a random mutation to a single attribute, if:
+    * - A mutation is available
+    * - The current value is valid
+    * - The validator allows the mutation
+    * <p>
+    * {@link IntMutation} and {@link DoubleMutation} strategies are applied to the stored primitive
+    * directly: the result is computed once, kept within the attribute's range by the strategy,
+    * and nothing is boxed. Other mutations go through the definition's validator.
+    *
+    * @param attribute   The attribute to mutate.
+    * @param definition  Its definition, including type and validator.
+    * @param rand        The source of randomness for choosing the mutation.
+    * @param <T>         The attribute type.
+    */
+    @SuppressWarnings("unchecked")
+    private <T> void applyMutation(Attributes attribute, AttributeDefinition<?> definition, RandomGenerator rand) {
+        AttributeDefinition<T> typedDef = (AttributeDefinition<T>) definition;
+
+        List<MutationType<T>> mutations = typedDef.getPossibleMutations();
+        if (mutations.isEmpty()) {
+            return;
+        }
+
+        MutationType<T> mutation = mutations.get(rand.nextInt(mutations.size()));
+        MutationStrategy<T> strategy = mutation.getStrategy();
+        int index = attribute.ordinal();
+
+        if (strategy instanceof IntMutation intMutation && definition.getType() == Integer.class) {
+            columns.ints[base + index] = intMutation.mutate(columns.ints[base + index],
+                    (Integer) definition.getMinValue(), (Integer) definition.getMaxValue());
+            return;
+        }
+        if (strategy instanceof DoubleMutation doubleMutation && definition.getType() == Double.class) {
+            columns.doubles[base + index] = doubleMutation.mutate(columns.doubles[base + index],
+                    (Double) definition.getMinValue(), (Double) definition.getMaxValue());
+            return;
+        }
+
+        T currentValue = getAttributeValue(attribute);
+        if (typedDef.getValidator().apply(currentValue, mutation)) {
+            T newValue = mutation.apply(currentValue);
+            putAttributeValue(attribute, newValue);
+        }
+    }
+
+    /**
+    * Breeds two Genetics instances to create an offspring with mixed attributes.
+    * Each attribute is inherited randomly from either parent, drawing from the first parent's stream.
+    *
+    * @param parentA The first parent.
+    * @param parentB The second parent.
+    * @return A new Genetics instance representing the offspring.
+    * @throws IllegalArgumentException If either parent is null.
+    */
+    public static Genetics breed(Genetics parentA, Genetics parentB) {
+        if (parentA == null) {
+            throw new IllegalArgumentException("Both parents must be non-null");
+        }
+        return breed(parentA, parentB, parentA.rand);
+    }
+
+    /**
+    * Breeds two Genetics instances, drawing each inheritance choice from the given stream.
+    *
+    * @param parentA The first parent.
+    * @param parentB The second parent.
+    * @param rand    The source of randomness for the inheritance choices.
+    * @return A new Genetics instance representing the offspring.
+    * @throws IllegalArgumentException If either parent is null.
+    */
+    public static Genetics breed(Genetics parentA, Genetics parentB, RandomGenerator rand) {
+        if (parentA == null || parentB == null) {
+            throw new IllegalArgumentException("Both parents must be non-null");
+        }
+
+        Genetics offspring = new Genetics(rand, false);
+        offspring.crossover(parentA, parentB, attributes().getActiveMask(), rand);
+        return offspring;
+    }
+
+    /**
+    * Breeds a whole litter in one pass. One crossover of the parents is shared by the litter; each
+    * child starts as a copy of it and is then mutated on its own. No intermediate genome is built and
+    * no attribute value is drawn only to be overwritten.
+    * <p>
+    * The litter is mutated as one run of trials, one per child and active attribute, so with rare
+    * mutations most children draw nothing at all. Each attribute of each child still mutates with
+    * its own probability, as it would after {@link #breed(Genetics, Genetics, RandomGenerator)}
+    * followed by {@code copy().mutate(rand)}.
+    *
+    * @param parentA The first parent.
+    * @param parentB The second parent.
+    * @param size    The number of offspring.
+    * @param rand    The source of randomness for the inheritance choices and mutations.
+    * @return The offspring, in birth order.
+    * @throws IllegalArgumentException If either parent is null or the size is negative.
+    */
+    public static Genetics[] breedLitter(Genetics parentA, Genetics parentB, int size, RandomGenerator rand) {
+        if (parentA == null || parentB == null) {
+            throw new IllegalArgumentException("Both parents must be non-null");
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("Litter size must not be negative: " + size);
+        }
+
+        Genetics[] litter = new Genetics[size];
+        if (size == 0) {
+            return litter;
+        }
+
+        AttributeSnapshot snapshot = attributes();
+        Genetics first = new Genetics(rand, false);
+        first.crossover(parentA, parentB, snapshot.getActiveMask(), rand);
+        litter[0] = first;
+        for (int i = 1; i < size; i++) {
+            Genetics sibling = new Genetics(rand, false);
+            sibling.copyFrom(first);
+            litter[i] = sibling;
+        }
+        mutateAll(litter, rand, snapshot);
+        return litter;
+    }
+
+    /**
+    * Fills this empty instance with a random choice of each active attribute from the two parents.
+    *
+    * @param parentA The first parent.
+    * @param parentB The second parent.
+    * @param active  The mask of active attributes.
+    * @param rand    The source of randomness for the inheritance choices.
+    */
+    private void crossover(Genetics parentA, Genetics parentB, long active, RandomGenerator rand) {
+        long fromA = parentA.columns.present[parentA.slot] & active;
+        long fromB = parentB.columns.present[parentB.slot] & active;
+
+        for (int index = 0; index < ATTRIBUTES.length; index++) {
+            long bit = 1L << index;
+            if ((fromA & fromB & bit) != 0) {
+                inherit(index, rand.nextBoolean() ? parentA : parentB);
+            } else if ((fromA & bit) != 0) {
+                inherit(index, parentA);
+            } else if ((fromB & bit) != 0) {
+                inherit(index, parentB);
+            }
+        }
+    }
+
+    /**
+    * Breeds two Genetics instances using advanced options, drawing from the first parent's stream:
+    * - Parent bias controls inheritance likelihood (0.0 to 1.0)
+    * - Blending averages numeric values (Integer, Double) if enabled
+    *
+    * @param parentA        First parent.
+    * @param parentB        Second parent.
+    * @param parentABias    Weight towards parentA (e.g. 0.7 = 70% from A).
+    * @param blendNumerics  Whether to average numeric values.
+    * @return A new Genetics instance with blended/inherited traits.
+    * @throws IllegalArgumentException If bias is outside 0.0–1.0 or parents are null.
+    */
+    public static Genetics breedAdvanced(Genetics parentA, Genetics parentB, double parentABias, boolean blendNumerics) {
+        if (parentA == null) {
+            throw new IllegalArgumentException("Both parents must be non-null");
+        }
+        return breedAdvanced(parentA, parentB, parentABias, blendNumerics, parentA.rand);
+    }
+
+    /**
+    * Breeds two Genetics instances using advanced options, drawing each inheritance
+    * choice from the given stream.
+    *
+    * @param parentA        First parent.
+    * @param parentB        Second parent.
+    * @param parentABias    Weight towards parentA (e.g. 0.7 = 70% from A).
+    * @param blendNumerics  Whether to average numeric values.
+    * @param rand           The source of randomness for the inheritance choices.
+    * @return A new Genetics instance with blended/inherited traits.
+    * @throws IllegalArgumentException If bias is outside 0.0–1.0 or parents are null.
+    */
+    public static Genetics breedAdvanced(Genetics parentA, Genetics parentB, double parentABias, boolean blendNumerics,
+                                         RandomGenerator rand) {
+        if (parentA == null || parentB == null) {
+            throw new IllegalArgumentException("Both parents must be non-null");
+        }
+
+        if (parentABias < 0.0 || parentABias > 1.0) {
+            throw new IllegalArgumentException("Parent bias must be between 0.0 and 1.0");
+        }
+
+        Genetics offspring = new Genetics(rand, false);
+
+        AttributeSnapshot snapshot = attributes();
+        long active = snapshot.getActiveMask();
+
+        for (Attributes attr : ATTRIBUTES) {
+            int index = attr.ordinal();
+            long bit = 1L << index;
+            boolean inA = (parentA.columns.present[parentA.slot] & active & bit) != 0;
+            boolean inB = (parentB.columns.present[parentB.slot] & active & bit) != 0;
+            if (!inA && !inB) {
+                continue;
+            }
+
+            if (!inA) {
+                offspring.inherit(index, parentB);
+                continue;
+            }
+            if (!inB) {
+                offspring.inherit(index, parentA);
+                continue;
+            }
+
+            AttributeDefinition<?> definition = snapshot.getDefinition(attr);
+            if (definition == null) {
+                continue;
+            }
+
+            Class<?> type = definition.getType();
+
+            if (blendNumerics && (type == Integer.class || type == Double.class)) {
+                if (type == Integer.class) {
+                    int intA = parentA.columns.ints[parentA.base + index];
+                    int intB = parentB.columns.ints[parentB.base + index];
+                    offspring.columns.ints[offspring.base + index] = (int) Math.round(intA * parentABias + intB * (1.0 - parentABias));
+                } else {
+                    double doubleA = parentA.columns.doubles[parentA.base + index];
+                    double doubleB = parentB.columns.doubles[parentB.base + index];
+                    offspring.columns.doubles[offspring.base + index] = doubleA * parentABias + doubleB * (1.0 - parentABias);
+                }
+                offspring.columns.present[offspring.slot] |= bit;
+            } else {
+                offspring.inherit(index, (rand.nextDouble() < parentABias) ? parentA : parentB);
+            }
+        }
+
+        return offspring;
+    }
+
+    /**
+    * Returns the value of the MAX_AGE attribute.
+    *
+    * @return Maximum age.
+    */
+    public int getBreedingAge() {
+        return intAttribute(Attributes.BREEDING_AGE);
+    }
+
+    /**
+    * Returns the value of the BREEDING_PROBABILITY attribute.
+    *
+    * @return Breeding probability.
+    */
+    public int getMaxAge() {
+        return intAttribute(Attributes.MAX_AGE);
+    }
+
+    /**
+    * Returns the value of the MAX_LITTER_SIZE attribute.
+    *
+    * @return Maximum number of offspring per birth.
+    */
+    public double getBreedingProbability() {
+        return doubleAttribute(Attributes.BREEDING_PROBABILITY);
+    }
+
+    /**
+    * Returns the value of the DISEASE_PROBABILITY attribute.
+    *
+    * @return Chance of disease.
+    */
+    public int getMaxLitterSize() {
+        return intAttribute(Attributes.MAX_LITTER_SIZE);
+    }
+
+    /**
+    * Returns the value of the DISEASE_PROBABILITY attribute.
+    *
+    * @return Chance of disease.
+    */
+    public double getDiseaseProbability() {
+        return doubleAttribute(Attributes.DISEASE_PROBABILITY);
+    }
+
+    /**
+    * Returns the value of the METABOLISM attribute.
+    *
+    * @return Metabolism rate.
+    */
+    public double getMetabolism() {
+        return doubleAttribute(Attributes.METABOLISM);
+    }
+
+    /**
+    * Reads an integer attribute straight from its slot, falling back to the default value if unset.
+    *
+    * @param attribute The attribute to read.
+    * @return The attribute's value.
+    */
+    private int intAttribute(Attributes attribute) {
+        int index = attribute.ordinal();
+        return (columns.present[slot] & (1L << index)) != 0 ? columns.ints[base + index] : this.<Integer>getAttribute(attribute);
+    }
+
+    /**
+    * Reads a double attribute straight from its slot, falling back to the default value if unset.
+    *
+    * @param attribute The attribute to read.
+    * @return The attribute's value.
+    */
+    private double doubleAttribute(Attributes attribute) {
+        int index = attribute.ordinal();
+        return (columns.present[slot] & (1L << index)) != 0 ? columns.doubles[base + index] : this.<Double>getAttribute(attribute);
+    }
+
+    /**
+    * Creates a deep copy of this Genetics instance,
+    * preserving values only for active attributes.
+    *
+    * @return A new, cloned Genetics object.
+    */
+    public Genetics copy() {
+        return new Genetics(this);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.tomtrotter.habitatsimulation.simulation.genetics.core;
+
+import com.tomtrotter.habitatsimulation.simulation.genetics.attributes.Attributes;
+
+import java.util.ArrayDeque;
+
+/**
+* Primitive storage for a number of genomes, one slot each, laid out as {@link Genetics} reads it:
+* a run of {@link Attributes} ordinals per slot in an integer array and in a double array, and
+* one presence mask per slot.
+* <p>
+* A {@link Genetics} is a view of one slot. A genome on its own has columns of a single slot,
+* taken from {@link #single()}; the genome of an animal on a field lives in the field's columns,
+* in the slot of the animal's cell, and moves with the animal through
+* {@link Genetics#moveTo(GenomeColumns, int)}. Single-slot columns a genome moves out of are kept
+* by the thread that moved it and handed to the next genome created or detached there, so a
+* genome that is bred and placed straight away leaves no columns behind.
+*/
+public final class GenomeColumns {
+
+    /** The number of values each slot holds per array: one per attribute. */
+    public static final int STRIDE = Attributes.values().length;
+
+    // The most single-slot columns each thread keeps for reuse.
+    private static final int MAX_SPARES = 256;
+    private static final ThreadLocal<ArrayDeque<GenomeColumns>> SPARES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    final int[] ints;
+    final double[] doubles;
+    // Per slot: bit i is set when the attribute with ordinal i holds a value.
+    final long[] present;
+    // True for the columns of a genome on its own, which are reused once it moves out.
+    private final boolean single;
+
+    /**
+    * Creates empty storage.
+    *
+    * @param slots The number of genomes it holds.
+    */
+    public GenomeColumns(int slots) {
+        this(slots, false);
+    }
+
+    private GenomeColumns(int slots, boolean single) {
+        ints = new int[slots * STRIDE];
+        doubles = new double[slots * STRIDE];
+        present = new long[slots];
+        this.single = single;
+    }
+
+    /**
+    * Returns empty columns of a single slot for a genome on its own, reusing ones released on this
+    * thread if there are any.
+    *
+    * @return The columns, holding no values.
+    */
+    public static GenomeColumns single() {
+        GenomeColumns spare = SPARES.get().pollLast();
+        if (spare == null) {
+            return new GenomeColumns(1, true);
+        }
+        spare.present[0] = 0;
+        return spare;
+    }
+
+    /**
+    * Keeps columns taken from {@link #single()} for reuse once their genome has moved out of them.
+    * Other columns are left alone.
+    *
+    * @param columns The columns no genome reads any more.
+    */
+    static void release(GenomeColumns columns) {
+        if (columns.single) {
+            ArrayDeque<GenomeColumns> spares = SPARES.get();
+            if (spares.size() < MAX_SPARES) {
+                spares.addLast(columns);
+            }
+        }
+    }
+
+    /**
+    * @return The number of genomes held.
+    */
+    public int getSlotCount() {
+        return present.length;
+    }
+}
@@ -0,0 +1,21 @@
+package com.tomtrotter.habitatsimulation.simulation.genetics.mutation;
+
+/**
+* What a primitive mutation does when its result falls outside the attribute's range.
+*
+* @see IntMutation
+* @see DoubleMutation
+*/
+public enum BoundsPolicy {
+
+    /**
+    * Moves the result to the nearest bound.
+    */
+    CLAMP,
+
+    /**
+    * Discards the mutation and keeps the original value.
+    */
+    REJECT
+
+}
\ No newline at end of file
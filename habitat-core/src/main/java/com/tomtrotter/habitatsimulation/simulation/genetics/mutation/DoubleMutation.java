@@ -0,0 +1,34 @@
+package com.tomtrotter.habitatsimulation.simulation.genetics.mutation;
+
+/**
+* A mutation strategy for double attributes that works on primitive values.
+* The result is computed once and kept within the attribute's range by the strategy itself,
+* so no validator has to apply the mutation a second time and nothing is boxed.
+*
+* @see MutationStrategy
+* @see BoundsPolicy
+*/
+public interface DoubleMutation extends MutationStrategy<Double> {
+
+    /**
+    * Applies this mutation to a value, keeping the result within the given range.
+    *
+    * @param value The original value
+    * @param min   The smallest allowed result
+    * @param max   The largest allowed result
+    * @return The mutated value, or the original value if the mutation was rejected
+    */
+    double mutate(double value, double min, double max);
+
+    /**
+    * Applies this mutation without any bounds.
+    *
+    * @param value The original value
+    * @return The mutated value
+    */
+    @Override
+    default Double mutate(Double value) {
+        return mutate(value.doubleValue(), Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.tomtrotter.habitatsimulation.simulation.genetics.mutation;
+
+/**
+* A mutation strategy for integer attributes that works on primitive values.
+* The result is computed once and kept within the attribute's range by the strategy itself,
+* so no validator has to apply the mutation a second time and nothing is boxed.
+*
+* @see MutationStrategy
+* @see BoundsPolicy
+*/
+public interface IntMutation extends MutationStrategy<Integer> {
+
+    /**
+    * Applies this mutation to a value, keeping the result within the given range.
+    *
+    * @param value The original value
+    * @param min   The smallest allowed result
+    * @param max   The largest allowed result
+    * @return The mutated value, or the original value if the mutation was rejected
+    */
+    int mutate(int value, int min, int max);
+
+    /**
+    * Applies this mutation without any bounds.
+    *
+    * @param value The original value
+    * @return The mutated value
+    */
+    @Override
+    default Integer mutate(Integer value) {
+        return mutate(value.intValue(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+}
\ No newline at end of file
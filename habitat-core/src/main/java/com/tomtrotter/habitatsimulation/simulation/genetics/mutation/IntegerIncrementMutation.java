@@ -0,0 +1,77 @@
+package com.tomtrotter.habitatsimulation.simulation.genetics.mutation;
+
+/**
+* A mutation strategy that modifies an integer value by adding a specified increment.
+* This strategy can increase or decrease an integer value by a fixed amount,
+* determined by the increment provided during construction. A result outside the
+* attribute's range is clamped or rejected according to the strategy's {@link BoundsPolicy}.
+*
+* @see IntMutation
+*/
+public class IntegerIncrementMutation implements IntMutation {
+    private final int increment;
+    private final BoundsPolicy policy;
+    private final String name;
+
+    /**
+    * Creates a new integer increment mutation with the specified change amount.
+    *
+    * Results outside the attribute's range are rejected.
+    *
+    * @param increment The amount to add to the original value (can be positive or negative)
+    */
+    public IntegerIncrementMutation(int increment) {
+        this(increment, BoundsPolicy.REJECT);
+    }
+
+    /**
+    * Creates a new integer increment mutation with the specified change amount and bounds policy.
+    *
+    * @param increment The amount to add to the original value (can be positive or negative)
+    * @param policy    What to do when the result falls outside the attribute's range
+    */
+    public IntegerIncrementMutation(int increment, BoundsPolicy policy) {
+        this.increment = increment;
+        this.policy = policy;
+        this.name = (increment >= 0 ? "+" : "") + increment;
+    }
+
+    /**
+    * Adds the configured increment to the given integer value.
+    *
+    * @param value The original integer value to modify
+    * @param min   The smallest allowed result
+    * @param max   The largest allowed result
+    * @return The original value plus the increment, clamped or left unchanged if out of range
+    */
+    @Override
+    public int mutate(int value, int min, int max) {
+        int result = value + increment;
+        if (result < min) {
+            return policy == BoundsPolicy.CLAMP ? min : value;
+        }
+        if (result > max) {
+            return policy == BoundsPolicy.CLAMP ? max : value;
+        }
+        return result;
+    }
+
+    /**
+    * @return What this mutation does with results outside the attribute's range.
+    */
+    public BoundsPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+    * Returns a descriptive name for this mutation strategy.
+    * The name includes the increment with a sign prefix (+ or -).
+    *
+    * @return A string representing the increment (e.g., "+1" or "-5")
+    */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+}
\ No newline at end of file
@@ -10,6 +10,8 @@ public class MutationFactory {
     /**
     * Creates a mutation type that increments an integer value by a specified amount.
     *
+    * Results outside the attribute's range are rejected.
+    *
     * @param increment The amount to add to the original integer value
     * @return A MutationType that applies an integer increment mutation
     */
@@ -17,9 +19,23 @@ public class MutationFactory {
         return new MutationType<>(new IntegerIncrementMutation(increment));
     }
 
+    /**
+    * Creates a mutation type that increments an integer value by a specified amount,
+    * handling results outside the attribute's range with the given policy.
+    *
+    * @param increment The amount to add to the original integer value
+    * @param policy    Whether out-of-range results are clamped or rejected
+    * @return A MutationType that applies a primitive integer increment mutation
+    */
+    public static MutationType<Integer> intIncrement(int increment, BoundsPolicy policy) {
+        return new MutationType<>(new IntegerIncrementMutation(increment, policy));
+    }
+
     /**
     * Creates a mutation type that increments a double value by a specified amount.
     *
+    * Results outside the attribute's range are rejected.
+    *
     * @param increment The amount to add to the original double value
     * @return A MutationType that applies a double increment mutation
     */
@@ -27,6 +43,18 @@ public class MutationFactory {
         return new MutationType<>(new DoubleIncrementMutation(increment));
     }
 
+    /**
+    * Creates a mutation type that increments a double value by a specified amount,
+    * handling results outside the attribute's range with the given policy.
+    *
+    * @param increment The amount to add to the original double value
+    * @param policy    Whether out-of-range results are clamped or rejected
+    * @return A MutationType that applies a primitive double increment mutation
+    */
+    public static MutationType<Double> doubleIncrement(double increment, BoundsPolicy policy) {
+        return new MutationType<>(new DoubleIncrementMutation(increment, policy));
+    }
+
     /**
     * Creates a mutation type that toggles a boolean value.
     *
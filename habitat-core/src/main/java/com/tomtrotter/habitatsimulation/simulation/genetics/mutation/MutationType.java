@@ -57,6 +57,16 @@ public class MutationType<T> {
         return strategy.getName();
     }
 
+    /**
+    * Gets the strategy this mutation delegates to. Genetics checks for {@link IntMutation}
+    * and {@link DoubleMutation} strategies and applies them to primitive values directly.
+    *
+    * @return The underlying mutation strategy
+    */
+    public MutationStrategy<T> getStrategy() {
+        return strategy;
+    }
+
     /**
     * Applies this mutation to a value.
     * The mutation logic is delegated to the underlying strategy.
@@ -0,0 +1,291 @@
+package com.tomtrotter.habitatsimulation.simulation.simulation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+* Controls how a simulator is stepped: playing at a target number of steps per second or as fast
+* as possible, paused, or one step at a time, and measures the rate actually achieved.
+* <p>
+* One thread runs the simulation by calling {@link #advance()} in a loop; every other method may
+* be called from any thread, e.g. from a user interface. {@code advance} waits for the step's turn
+* and then takes it. A paused runner parks until it is played, stepped or stopped, and a runner
+* waiting for the next step at a target rate parks until it is due, so neither spins; every
+* control call unparks the runner so the change takes effect at once. At the target rate steps
+* are due at fixed intervals; a step that runs late makes the next one due at once, without a
+* burst of steps to catch up. Headless runs use a controller that was never given a target rate,
+* which steps without waiting.
+*/
+
+public class RunController {
+
+    /** Target rate meaning "as fast as possible". */
+    public static final double UNLIMITED = 0;
+
+    private static final long RATE_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final Simulator simulator;
+    private final LongSupplier clock;
+    private final Parker parker;
+    private final AtomicInteger pendingSteps = new AtomicInteger();
+    private volatile double targetStepsPerSecond = UNLIMITED;
+    private volatile boolean paused;
+    private volatile boolean stopped;
+    private volatile Thread runner;
+    private volatile double achievedStepsPerSecond;
+
+    // Only touched by the running thread.
+    // When the last played step was due, or was taken if it was not paced.
+    private long slot;
+    private long windowStart;
+    private int windowSteps;
+    private long stepNanos;
+    private boolean wasWaiting = true;
+
+    /**
+    * Creates a controller that plays a simulator as fast as possible.
+    *
+    * @param simulator The simulator to step.
+    */
+    public RunController(Simulator simulator) {
+        this(simulator, System::nanoTime, new Parker() {
+            @Override
+            public void park(Object blocker) {
+                LockSupport.park(blocker);
+            }
+
+            @Override
+            public void parkNanos(Object blocker, long nanos) {
+                LockSupport.parkNanos(blocker, nanos);
+            }
+        });
+    }
+
+    /**
+    * Creates a controller that reads the time from a clock and waits through a parker, e.g. so a
+    * test can check the schedule against a clock of its own.
+    *
+    * @param simulator The simulator to step.
+    * @param clock The current time in nanoseconds, as {@link System#nanoTime()} gives it.
+    * @param parker Parks the running thread while it waits.
+    */
+    RunController(Simulator simulator, LongSupplier clock, Parker parker) {
+        this.simulator = simulator;
+        this.clock = clock;
+        this.parker = parker;
+    }
+
+    /**
+    * Parks the running thread as {@link LockSupport} does; control calls wake it with {@link LockSupport#unpark}.
+    */
+    interface Parker {
+
+        /**
+        * Parks until woken.
+        *
+        * @param blocker The object the thread is waiting on.
+        */
+        void park(Object blocker);
+
+        /**
+        * Parks until woken or until a time has passed.
+        *
+        * @param blocker The object the thread is waiting on.
+        * @param nanos The most nanoseconds to wait.
+        */
+        void parkNanos(Object blocker, long nanos);
+    }
+
+    /**
+    * Waits until the next step is due and takes it. Call this in a loop from the one thread running the simulation.
+    *
+    * @return True if a step was taken; false if the controller was stopped, in which case no step is taken.
+    */
+    public boolean advance() {
+        runner = Thread.currentThread();
+        boolean single = false;
+        while (true) {
+            if (stopped) {
+                return false;
+            }
+            if (paused) {
+                if (takePendingStep()) {
+                    single = true;
+                    break;
+                }
+                wasWaiting = true;
+                parker.park(this);
+                continue;
+            }
+            long wait = waitNanos();
+            if (wait <= 0) {
+                break;
+            }
+            parker.parkNanos(this, wait);
+        }
+
+        long start = clock.getAsLong();
+        if (single) {
+            // A single step while paused neither counts towards the rate nor moves the schedule.
+            simulator.simulateOneStep();
+            stepNanos += clock.getAsLong() - start;
+            return true;
+        }
+        if (wasWaiting) {
+            // Resumed, or the first step: measure the rate afresh and do not catch up on the time paused.
+            windowStart = start;
+            windowSteps = 0;
+            slot = start;
+            wasWaiting = false;
+        } else {
+            schedule(start);
+        }
+        simulator.simulateOneStep();
+        long end = clock.getAsLong();
+        stepNanos += end - start;
+        recordRate(end);
+        return true;
+    }
+
+    /**
+    * @return The nanoseconds until the next step is due at the target rate; zero or less if it is due now.
+    */
+    private long waitNanos() {
+        double target = targetStepsPerSecond;
+        return target <= UNLIMITED ? 0 : slot + intervalNanos(target) - clock.getAsLong();
+    }
+
+    private static long intervalNanos(double stepsPerSecond) {
+        return (long) (TimeUnit.SECONDS.toNanos(1) / stepsPerSecond);
+    }
+
+    private boolean takePendingStep() {
+        int pending = pendingSteps.get();
+        while (pending > 0) {
+            if (pendingSteps.compareAndSet(pending, pending - 1)) {
+                return true;
+            }
+            pending = pendingSteps.get();
+        }
+        return false;
+    }
+
+    /**
+    * Records when the step starting now was due: one interval after the previous one, so paced steps
+    * do not drift, unless it starts more than an interval late, in which case the schedule restarts now.
+    */
+    private void schedule(long start) {
+        double target = targetStepsPerSecond;
+        if (target <= UNLIMITED) {
+            slot = start;
+            return;
+        }
+        long due = slot + intervalNanos(target);
+        slot = start - due < intervalNanos(target) ? due : start;
+    }
+
+    private void recordRate(long now) {
+        windowSteps++;
+        long elapsed = now - windowStart;
+        if (elapsed >= RATE_WINDOW_NANOS) {
+            achievedStepsPerSecond = windowSteps * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            windowStart = now;
+            windowSteps = 0;
+        }
+    }
+
+    /**
+    * Plays the simulation, resuming it if it was paused.
+    */
+    public void play() {
+        paused = false;
+        pendingSteps.set(0);
+        LockSupport.unpark(runner);
+    }
+
+    /**
+    * Pauses the simulation after the step in progress, if any. The runner parks until played, stepped or stopped.
+    */
+    public void pause() {
+        paused = true;
+        achievedStepsPerSecond = 0;
+        LockSupport.unpark(runner);
+    }
+
+    /**
+    * Pauses the simulation, if it is playing, and lets it take one more step.
+    */
+    public void step() {
+        paused = true;
+        achievedStepsPerSecond = 0;
+        pendingSteps.incrementAndGet();
+        LockSupport.unpark(runner);
+    }
+
+    /**
+    * Stops the simulation for good: the runner's current or next call to {@link #advance()} returns false.
+    */
+    public void stop() {
+        stopped = true;
+        LockSupport.unpark(runner);
+    }
+
+    /**
+    * Sets the rate the simulation plays at.
+    *
+    * @param stepsPerSecond The target number of steps per second, or {@link #UNLIMITED} to step as fast as possible.
+    * @throws IllegalArgumentException If the rate is negative or not a number.
+    */
+    public void setTargetStepsPerSecond(double stepsPerSecond) {
+        if (!(stepsPerSecond >= 0)) {
+            throw new IllegalArgumentException("Target steps per second must not be negative: " + stepsPerSecond);
+        }
+        targetStepsPerSecond = stepsPerSecond;
+        LockSupport.unpark(runner);
+    }
+
+    /**
+    * @return The target number of steps per second, or {@link #UNLIMITED}.
+    */
+    public double getTargetStepsPerSecond() {
+        return targetStepsPerSecond;
+    }
+
+    /**
+    * @return The number of steps per second achieved over roughly the last half second of play; zero while paused.
+    */
+    public double getAchievedStepsPerSecond() {
+        return achievedStepsPerSecond;
+    }
+
+    /**
+    * @return The total time spent inside steps, in nanoseconds, excluding any waiting between them.
+    *         Read it on the running thread.
+    */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+    * @return True if the simulation is paused.
+    */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+    * @return True if the controller was stopped.
+    */
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+    * @return The simulator this controller steps.
+    */
+    public Simulator getSimulator() {
+        return simulator;
+    }
+}
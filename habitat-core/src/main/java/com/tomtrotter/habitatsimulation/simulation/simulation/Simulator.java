@@ -0,0 +1,249 @@
+package com.tomtrotter.habitatsimulation.simulation.simulation;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.random.RandomGenerator;
+
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.factory.OrganismFactory;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorConfig;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
+import com.tomtrotter.habitatsimulation.util.BernoulliSampler;
+import com.tomtrotter.habitatsimulation.util.RandomStreams;
+import com.tomtrotter.habitatsimulation.util.Randomizer;
+
+/**
+* A simple predator-prey simulator, based on a rectangular field
+* containing predators and prey.
+* <p>
+* All randomness is drawn from streams derived from a single seed and keyed by cell and step,
+* so the same seed gives the same run every time with the serial engine, and the same run on the
+* tiled engine whatever its number of threads. The two engines let animals act in different orders,
+* so a serial run and a tiled run of one seed differ step by step but not statistically.
+* <p>
+* Each simulator owns its model parameters as an immutable {@link SimulatorConfig}. A new configuration
+* can be handed over from any thread at any time; it takes effect as a whole at the start of the next
+* step, so several simulators with different parameters can run side by side in one process.
+* <p>
+* The serial engine keeps the live animals in one array list that it compacts while the animals act:
+* survivors slide down over the dead in the same sweep, so a step is linear in the population however
+* many die. Newborns gather in a buffer that is reused from step to step.
+* <p>
+* A simulator running on the tiled engine holds its worker threads until it is {@link #close() closed}.
+*/
+
+public class Simulator implements AutoCloseable {
+
+    private static final double PREDATOR_CREATION_PROBABILITY = 0.03;
+    private static final double PREY_CREATION_PROBABILITY = 0.09;
+
+    private final ArrayList<Animal> animals;
+    private final ArrayList<Animal> newborns;
+    private final Field field;
+    private final RandomStreams seedStreams;
+    private final TiledStepEngine engine;
+    private volatile SimulatorConfig nextConfig;
+    private RandomStreams randomStreams;
+    private int runs;
+    private int step;
+
+    /**
+    * Create a simulation field with the given size.
+    * Steps run serially, one animal at a time in list order.
+    * @param height Height of the field. Must be greater than zero.
+    * @param width Width of the field. Must be greater than zero.
+    */
+    public Simulator(int height, int width) {
+        this(height, width, 0, Randomizer.getSeed());
+    }
+
+    /**
+    * Create a simulation field with the given size whose steps run on the
+    * tiled parallel engine.
+    * @param height Height of the field. Must be greater than zero.
+    * @param width Width of the field. Must be greater than zero.
+    * @param threads The number of worker threads, or zero to run steps serially.
+    * @see TiledStepEngine
+    */
+    public Simulator(int height, int width, int threads) {
+        this(height, width, threads, Randomizer.getSeed());
+    }
+
+    /**
+    * Create a simulation field with the given size and seed, configured from the current settings.
+    * The seed and the engine determine the run: any number of threads above zero gives the same run
+    * on the tiled engine, while zero runs the serial engine, which gives another.
+    * @param height Height of the field. Must be greater than zero.
+    * @param width Width of the field. Must be greater than zero.
+    * @param threads The number of worker threads, or zero to run steps serially.
+    * @param seed The master seed for every random stream in the simulation.
+    */
+    public Simulator(int height, int width, int threads, long seed) {
+        this(height, width, threads, seed, SimulatorState.getInstance().snapshot());
+    }
+
+    /**
+    * Create a simulation field with the given size, seed and model parameters.
+    * @param height Height of the field. Must be greater than zero.
+    * @param width Width of the field. Must be greater than zero.
+    * @param threads The number of worker threads, or zero to run steps serially.
+    * @param seed The master seed for every random stream in the simulation.
+    * @param config The model parameters the simulation starts with.
+    */
+    public Simulator(int height, int width, int threads, long seed, SimulatorConfig config) {
+        animals = new ArrayList<>();
+        newborns = new ArrayList<>();
+        field = new Field(height, width);
+        field.setConfig(config);
+        nextConfig = config;
+        engine = threads == 0 ? null : new TiledStepEngine(field, threads, TiledStepEngine.DEFAULT_TILE_SIZE);
+        seedStreams = new RandomStreams(seed);
+
+        reset();
+    }
+
+    /**
+    * Run the simulation from its current state for a single step.
+    * Iterate over the whole field, updating the state of each
+    * animal.
+    */
+    public void simulateOneStep() {
+        field.setConfig(nextConfig);
+        step++;
+        randomStreams.setEpoch(step);
+        if (engine != null) {
+            engine.step(animals);
+            return;
+        }
+
+        // Each animal that is still alive after its turn moves down to the next kept slot.
+        int size = animals.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Animal animal = animals.get(i);
+            animal.act(newborns);
+            if (animal.isAlive()) {
+                animals.set(kept++, animal);
+            }
+        }
+        animals.subList(kept, size).clear();
+
+        animals.ensureCapacity(kept + newborns.size());
+        for (int i = 0; i < newborns.size(); i++) {
+            animals.add(newborns.get(i));
+        }
+        newborns.clear();
+    }
+
+    /**
+    * Shuts down the worker threads of the tiled engine, if steps run on it. The simulator cannot step afterwards.
+    */
+    @Override
+    public void close() {
+        if (engine != null) {
+            engine.close();
+        }
+    }
+
+    /**
+    * Reset the simulation to a starting position.
+    * Each reset starts a new run with its own streams, so the population differs from the last one.
+    */
+    public void reset() {
+        step = 0;
+        field.setConfig(nextConfig);
+        randomStreams = seedStreams.derive(runs++);
+        field.setRandomStreams(randomStreams);
+        animals.clear();
+        populate();
+        // Sized for a step in which every animal has one young; it grows if ever needed.
+        newborns.ensureCapacity(animals.size());
+    }
+
+    /**
+    * Randomly populate the field with animals.
+    * <p>
+    * A cell holds an animal with probability {@code PREY_CREATION_PROBABILITY}, and that animal is
+    * a predator with probability {@code PREDATOR_CREATION_PROBABILITY} overall. Rather than rolling
+    * every cell, the sampler jumps straight to the next cell that gets an animal; only those cells
+    * draw, once more, to pick predator or prey. Every other empty cell gets a plant.
+    */
+    private void populate() {
+        field.clear();
+        // The step-zero stream that belongs to no cell drives the initial layout.
+        RandomGenerator rand = randomStreams.forCell(Field.NO_CELL);
+        OrganismFactory factory = new OrganismFactory(rand, field);
+        BernoulliSampler animalCells = new BernoulliSampler(PREY_CREATION_PROBABILITY);
+
+        long nextAnimal = animalCells.nextGap(rand);
+        for (int cell = 0; cell < field.getCellCount(); cell++) {
+            if (cell == nextAnimal) {
+                if (rand.nextDouble() * PREY_CREATION_PROBABILITY < PREDATOR_CREATION_PROBABILITY) {
+                    Animal predator = factory.createRandomPredator(cell);
+                    animals.add(predator);
+                } else {
+                    Animal prey = factory.createRandomPrey(cell);
+                    animals.add(prey);
+                }
+                nextAnimal = cell + 1L + animalCells.nextGap(rand);
+            } else if (field.getSpeciesCode(cell) == Field.EMPTY) {
+                factory.createPlant(cell);
+            }
+        }
+    }
+
+    /**
+    * Pause for a given time.
+    * @param millisecond The time to pause for, in milliseconds.
+    */
+    public void delay(int millisecond) {
+        try {
+            Thread.sleep(millisecond);
+        }
+        catch (InterruptedException ie) {
+            // wake up
+        }
+    }
+
+    /**
+    * Returns the model parameters the current step runs with.
+    * @return the current configuration.
+    */
+    public SimulatorConfig getConfig() {
+        return field.getConfig();
+    }
+
+    /**
+    * Replaces the model parameters. Safe to call from any thread, including while a step is running;
+    * the new configuration takes effect at the start of the next step or reset.
+    * @param config the new configuration.
+    */
+    public void setConfig(SimulatorConfig config) {
+        nextConfig = config;
+    }
+
+    /**
+    * Returns the field.
+    * @return the field.
+    */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+    * Returns generation number.
+    * @return the generation number.
+    */
+    public int getStep() {
+        return step;
+    }
+
+    /**
+    * Returns a list of animals.
+    * @return the list of animals.
+    */
+    public List<Animal> getAnimals() {
+        return animals;
+    }
+}
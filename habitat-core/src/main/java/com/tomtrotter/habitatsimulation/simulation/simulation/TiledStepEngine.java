@@ -0,0 +1,182 @@
+package com.tomtrotter.habitatsimulation.simulation.simulation;
+
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+* A parallel step engine that splits the field into square tiles and runs the animals of
+* many tiles at once on a ForkJoin pool.
+* <p>
+* An animal only ever reads or writes cells within one step of its own cell, so two animals
+* whose tiles are at least one whole tile apart can never touch the same cell. Tiles are
+* therefore coloured like a 2x2 checkerboard, and a step runs in four phases, one per colour:
+* within a phase every tile has the same colour, no two tiles are adjacent, and all of them
+* run in parallel without locking. Phases run one after another, so tiles that do border each
+* other never run at the same time.
+* <p>
+* Animals are assigned to the tile of the cell they start the step in and act exactly once,
+* even if they move into another tile during the step. Newborns are collected per tile and
+* appended, in tile order, after the survivors. Because animals act in tile order rather than
+* list order, a tiled run is not step-for-step identical to the serial engine, but it follows
+* the same rules, so population dynamics are statistically the same.
+* <p>
+* The engine owns its pool's worker threads; {@link #close()} it once it is no longer used.
+*/
+
+public class TiledStepEngine implements AutoCloseable {
+
+    /** Default edge length of a tile, in cells. */
+    public static final int DEFAULT_TILE_SIZE = 32;
+
+    private static final int COLOURS = 4;
+
+    private final Field field;
+    private final ForkJoinPool pool;
+    private final int tileSize;
+    private final int tileColumns;
+    private final List<List<Animal>> residents = new ArrayList<>();
+    private final List<List<Animal>> newborns = new ArrayList<>();
+    private final int[][] tilesByColour = new int[COLOURS][];
+
+    /**
+    * Creates a tiled engine for the given field.
+    *
+    * @param field The field the animals live in.
+    * @param parallelism The number of worker threads. Must be at least one.
+    * @param tileSize The edge length of a tile, in cells. Must be at least two so that
+    *                 same-coloured tiles are never within one cell of each other.
+    */
+    public TiledStepEngine(Field field, int parallelism, int tileSize) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        if (tileSize < 2) {
+            throw new IllegalArgumentException("Tile size must be at least 2: " + tileSize);
+        }
+        this.field = field;
+        this.pool = new ForkJoinPool(parallelism);
+        this.tileSize = tileSize;
+
+        int tileRows = (field.getHeight() + tileSize - 1) / tileSize;
+        tileColumns = (field.getWidth() + tileSize - 1) / tileSize;
+
+        int[] counts = new int[COLOURS];
+        for (int tile = 0; tile < tileRows * tileColumns; tile++) {
+            residents.add(new ArrayList<>());
+            newborns.add(new ArrayList<>());
+            counts[colourOf(tile)]++;
+        }
+        for (int colour = 0; colour < COLOURS; colour++) {
+            tilesByColour[colour] = new int[counts[colour]];
+            counts[colour] = 0;
+        }
+        for (int tile = 0; tile < tileRows * tileColumns; tile++) {
+            int colour = colourOf(tile);
+            tilesByColour[colour][counts[colour]++] = tile;
+        }
+    }
+
+    /**
+    * @return The number of worker threads used by this engine.
+    */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+    * Runs one simulation step. On return the list holds the surviving animals followed by
+    * the surviving newborns, both in tile order.
+    *
+    * @param animals The live animals at the start of the step; updated in place.
+    */
+    public void step(List<Animal> animals) {
+        for (Animal animal : animals) {
+            residents.get(tileOf(animal.getCell())).add(animal);
+        }
+
+        for (int[] tiles : tilesByColour) {
+            pool.invoke(new TileRange(tiles, 0, tiles.length));
+        }
+
+        animals.clear();
+        collectSurvivors(residents, animals);
+        // Young born next to a later phase's tile can be eaten before the step ends.
+        collectSurvivors(newborns, animals);
+    }
+
+    /**
+    * Shuts down the engine's worker threads. A step already running finishes; no further steps can run.
+    */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+    * Moves the living animals of every tile, in tile order, into the given list and empties the tiles.
+    */
+    private static void collectSurvivors(List<List<Animal>> tiles, List<Animal> animals) {
+        for (List<Animal> tile : tiles) {
+            for (Animal animal : tile) {
+                if (animal.isAlive()) {
+                    animals.add(animal);
+                }
+            }
+            tile.clear();
+        }
+    }
+
+    /**
+    * Lets every animal that started the step in the given tile act.
+    */
+    private void actTile(int tile) {
+        List<Animal> born = newborns.get(tile);
+        for (Animal animal : residents.get(tile)) {
+            animal.act(born);
+        }
+    }
+
+    private int tileOf(int cell) {
+        int row = cell / field.getWidth();
+        int col = cell - row * field.getWidth();
+        return (row / tileSize) * tileColumns + col / tileSize;
+    }
+
+    private int colourOf(int tile) {
+        int tileRow = tile / tileColumns;
+        int tileCol = tile % tileColumns;
+        return (tileRow & 1) * 2 + (tileCol & 1);
+    }
+
+    /**
+    * Runs a range of same-coloured tiles, splitting it in half until a single tile is left.
+    */
+    private class TileRange extends RecursiveAction {
+
+        private final int[] tiles;
+        private final int from;
+        private final int to;
+
+        TileRange(int[] tiles, int from, int to) {
+            this.tiles = tiles;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                actTile(tiles[from]);
+            } else if (to > from) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new TileRange(tiles, from, middle), new TileRange(tiles, middle, to));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.tomtrotter.habitatsimulation.simulation.species;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+* Who eats whom: for every species and life stage, the species it eats in priority order.
+* <p>
+* The web is a table indexed by species id and stage, so an animal finds its diet with one array
+* read and then chooses its food in a single pass over its neighbours. Diets are data, not code:
+* they are given by species name, e.g. from the {@code diet.<Species>} keys of a parameter file,
+* and a species with no entry eats nothing. Webs are immutable; {@link #withDiet} returns a copy.
+*/
+public final class FoodWeb {
+
+    /**
+    * The life stages a diet can differ by.
+    */
+    public enum Stage {
+        /** Below breeding age. */
+        YOUNG,
+        /** At or above breeding age. */
+        ADULT
+    }
+
+    private static final int STAGES = Stage.values().length;
+
+    /**
+    * The built-in diets. Young cats take small prey and adults larger prey; a wild boar takes
+    * a hare before a plant when it hunts; hares and deer graze.
+    */
+    public static final FoodWeb DEFAULT = new FoodWeb()
+            .withDiet("Tiger", Stage.YOUNG, List.of("Hare", "Deer"))
+            .withDiet("Tiger", Stage.ADULT, List.of("WildBoar", "Deer", "Hare"))
+            .withDiet("Leopard", Stage.YOUNG, List.of("Hare", "Deer"))
+            .withDiet("Leopard", Stage.ADULT, List.of("Deer", "Hare", "WildBoar"))
+            .withDiet("WildBoar", List.of("Hare", "Plant"))
+            .withDiet("Hare", List.of("Plant"))
+            .withDiet("Deer", List.of("Plant"));
+
+    // Indexed by species id * STAGES + stage ordinal; never null.
+    private final PreyPreference[] diets;
+
+    /**
+    * Creates an empty web, in which nothing eats.
+    */
+    public FoodWeb() {
+        diets = new PreyPreference[(SpeciesRegistry.MAX_ID + 1) * STAGES];
+        Arrays.fill(diets, PreyPreference.NONE);
+    }
+
+    private FoodWeb(PreyPreference[] diets) {
+        this.diets = diets;
+    }
+
+    /**
+    * Returns the diet of a species at a life stage.
+    *
+    * @param speciesId The id of the species eating.
+    * @param young True for the young stage, false for adults.
+    * @return The species it eats in priority order; {@link PreyPreference#NONE} if it eats nothing.
+    */
+    public PreyPreference dietOf(int speciesId, boolean young) {
+        return diets[speciesId * STAGES + (young ? Stage.YOUNG : Stage.ADULT).ordinal()];
+    }
+
+    /**
+    * Returns a copy of this web with the diet of one species at one stage replaced.
+    *
+    * @param eater The name of the species eating.
+    * @param stage The life stage the diet applies to.
+    * @param foods The names of the species it eats, highest priority first; {@code Plant} for plants.
+    * @return The new web.
+    * @throws IllegalArgumentException If any name is not a registered species.
+    */
+    public FoodWeb withDiet(String eater, Stage stage, List<String> foods) {
+        Species species = SpeciesRegistry.byName(eater);
+        if (species == null) {
+            throw new IllegalArgumentException("Unknown species: " + eater);
+        }
+        PreyPreference[] copy = diets.clone();
+        copy[species.getId() * STAGES + stage.ordinal()] = PreyPreference.ofNames(foods);
+        return new FoodWeb(copy);
+    }
+
+    /**
+    * Returns a copy of this web with the diet of one species replaced at every stage.
+    *
+    * @param eater The name of the species eating.
+    * @param foods The names of the species it eats, highest priority first; {@code Plant} for plants.
+    * @return The new web.
+    * @throws IllegalArgumentException If any name is not a registered species.
+    */
+    public FoodWeb withDiet(String eater, List<String> foods) {
+        FoodWeb web = this;
+        for (Stage stage : Stage.values()) {
+            web = web.withDiet(eater, stage, foods);
+        }
+        return web;
+    }
+}
@@ -0,0 +1,112 @@
+package com.tomtrotter.habitatsimulation.simulation.species;
+
+import com.tomtrotter.habitatsimulation.core.domain.Organism;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+* The species an animal eats, in priority order, precomputed as lookups by species id.
+* <p>
+* A bit mask over species ids answers "is this food at all" with one shift, and a rank table
+* indexed by species id gives its priority, so choosing among the neighbours takes no class checks.
+* Plants are a species like any other, so one preference can mix grazing and hunting.
+* Preferences are immutable and are built once, typically as entries of a {@link FoodWeb}.
+*/
+public final class PreyPreference {
+
+    /** The rank of a species that is not eaten. */
+    public static final int NOT_PREY = Integer.MAX_VALUE;
+
+    /** A preference that eats nothing. */
+    public static final PreyPreference NONE = new PreyPreference(new int[0]);
+    /** A preference that eats plants only. */
+    public static final PreyPreference PLANTS = new PreyPreference(new int[] {SpeciesRegistry.PLANT});
+
+    private final long[] mask = new long[(SpeciesRegistry.MAX_ID >> 6) + 1];
+    private final int[] ranks = new int[SpeciesRegistry.MAX_ID + 1];
+    private final int size;
+
+    private PreyPreference(int[] speciesIds) {
+        Arrays.fill(ranks, NOT_PREY);
+        int rank = 0;
+        for (int id : speciesIds) {
+            if (ranks[id] == NOT_PREY) {
+                ranks[id] = rank++;
+                mask[id >> 6] |= 1L << id;
+            }
+        }
+        size = rank;
+    }
+
+    /**
+    * Builds a preference from prey classes in priority order. A class listed twice keeps its first rank.
+    *
+    * @param preyTypes The prey classes, highest priority first.
+    * @return The preference.
+    */
+    @SafeVarargs
+    public static PreyPreference of(Class<? extends Organism>... preyTypes) {
+        return of(List.of(preyTypes));
+    }
+
+    /**
+    * Builds a preference from prey classes in priority order. A class listed twice keeps its first rank.
+    *
+    * @param preyTypes The prey classes, highest priority first.
+    * @return The preference.
+    */
+    public static PreyPreference of(List<? extends Class<? extends Organism>> preyTypes) {
+        int[] ids = new int[preyTypes.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = SpeciesRegistry.idOf(preyTypes.get(i));
+        }
+        return new PreyPreference(ids);
+    }
+
+    /**
+    * Builds a preference from registered species names in priority order, e.g. {@code Plant} or {@code Hare}.
+    *
+    * @param names The species names, highest priority first.
+    * @return The preference.
+    * @throws IllegalArgumentException If a name is not a registered species.
+    */
+    public static PreyPreference ofNames(List<String> names) {
+        int[] ids = new int[names.size()];
+        for (int i = 0; i < ids.length; i++) {
+            Species species = SpeciesRegistry.byName(names.get(i));
+            if (species == null) {
+                throw new IllegalArgumentException("Unknown species: " + names.get(i));
+            }
+            ids[i] = species.getId();
+        }
+        return new PreyPreference(ids);
+    }
+
+    /**
+    * Checks whether a species is eaten.
+    *
+    * @param speciesId The species id.
+    * @return True if the species is listed.
+    */
+    public boolean includes(int speciesId) {
+        return (mask[speciesId >> 6] & (1L << speciesId)) != 0;
+    }
+
+    /**
+    * Returns the priority of a species: 0 for the most preferred prey.
+    *
+    * @param speciesId The species id.
+    * @return The rank, or {@link #NOT_PREY} if the species is not eaten.
+    */
+    public int rankOf(int speciesId) {
+        return ranks[speciesId];
+    }
+
+    /**
+    * @return The number of species eaten.
+    */
+    public int size() {
+        return size;
+    }
+}
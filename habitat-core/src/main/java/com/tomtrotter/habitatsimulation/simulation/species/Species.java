@@ -0,0 +1,79 @@
+package com.tomtrotter.habitatsimulation.simulation.species;
+
+import com.tomtrotter.habitatsimulation.core.domain.Organism;
+import com.tomtrotter.habitatsimulation.simulation.factory.AnimalConstructor;
+
+/**
+* One registered species: its small integer id and the per-species details the simulation looks up
+* by that id instead of by class or name.
+* <p>
+* Ids are dense, start at {@link SpeciesRegistry#PLANT} and fit in a byte, so they double as the
+* species codes stored in the field and as indices into per-species arrays.
+*/
+public final class Species {
+
+    private final int id;
+    private final Class<? extends Organism> type;
+    private final String name;
+    private final String icon;
+    private final int colour;
+    private final AnimalConstructor constructor;
+
+    Species(int id, Class<? extends Organism> type, String name, String icon, int colour,
+            AnimalConstructor constructor) {
+        this.id = id;
+        this.type = type;
+        this.name = name;
+        this.icon = icon;
+        this.colour = colour;
+        this.constructor = constructor;
+    }
+
+    /**
+    * @return The species id, also its code in the field.
+    */
+    public int getId() {
+        return id;
+    }
+
+    /**
+    * @return The organism class of the species.
+    */
+    public Class<? extends Organism> getType() {
+        return type;
+    }
+
+    /**
+    * @return The species name, as used in the configuration's weight maps and the statistics.
+    */
+    public String getName() {
+        return name;
+    }
+
+    /**
+    * @return The icon shown for the species, or null if none was registered.
+    */
+    public String getIcon() {
+        return icon;
+    }
+
+    /**
+    * @return The palette index the species is drawn with.
+    * @see com.tomtrotter.habitatsimulation.util.Palette
+    */
+    public int getColour() {
+        return colour;
+    }
+
+    /**
+    * @return The constructor of the species, or null if it cannot be created by the factory.
+    */
+    public AnimalConstructor getConstructor() {
+        return constructor;
+    }
+
+    @Override
+    public String toString() {
+        return name + "#" + id;
+    }
+}
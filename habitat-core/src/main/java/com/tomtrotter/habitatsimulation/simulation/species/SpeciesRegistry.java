@@ -0,0 +1,191 @@
+package com.tomtrotter.habitatsimulation.simulation.species;
+
+import com.tomtrotter.habitatsimulation.core.domain.Organism;
+import com.tomtrotter.habitatsimulation.core.domain.Plant;
+import com.tomtrotter.habitatsimulation.simulation.entities.*;
+import com.tomtrotter.habitatsimulation.simulation.factory.AnimalConstructor;
+import com.tomtrotter.habitatsimulation.util.Palette;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+* Assigns every organism class a small integer species id and holds the per-species details
+* (name, icon, colour and constructor) in an array indexed by it.
+* <p>
+* The built-in species are registered when the registry is first used, plants first, so their ids
+* are the same in every run. Any other organism class gets the next free id the first time it is
+* looked up, and can be given its details with {@link #register}. Ids never change once assigned;
+* organisms look theirs up once, when they are created, and everything after that is an array index.
+*/
+public final class SpeciesRegistry {
+
+    /** Species id of an empty cell; no species has it. */
+    public static final int EMPTY = 0;
+    /** Species id of plants. */
+    public static final int PLANT = 1;
+    /** The largest id a species can have, so ids fit in the field's byte codes. */
+    public static final int MAX_ID = Byte.MAX_VALUE;
+
+    private static final ClassValue<Integer> ids = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return assign(type);
+        }
+    };
+    private static final Map<Class<?>, Integer> assigned = new HashMap<>();
+    private static final Map<String, Species> byName = new HashMap<>();
+    private static volatile Species[] byId = new Species[PLANT + 1];
+
+    static {
+        register(Plant.class, "Plant", "🌱", Palette.GREEN, null);
+        register(Tiger.class, "Tiger", "\uD83D\uDC2F", Palette.ORANGE, Tiger::new);
+        register(Leopard.class, "Leopard", "🐆", Palette.YELLOW, Leopard::new);
+        register(Hare.class, "Hare", "🐰", Palette.BROWN, Hare::new);
+        register(Deer.class, "Deer", "🦌", Palette.SADDLE_BROWN, Deer::new);
+        register(WildBoar.class, "WildBoar", "🐗", Palette.DARK_GRAY, WildBoar::new);
+    }
+
+    private SpeciesRegistry() {
+    }
+
+    /**
+    * Registers a species, or gives an already known class its details. The class keeps the id it
+    * was given on first use.
+    *
+    * @param type The organism class.
+    * @param name The species name, unique among species.
+    * @param icon The icon shown for the species.
+    * @param colour The palette index the species is drawn with.
+    * @param constructor Creates an animal of the species, or null if the factory cannot create it.
+    * @return The registered species.
+    * @throws IllegalArgumentException If the class or name is null, or the name belongs to another species.
+    */
+    public static synchronized Species register(Class<? extends Organism> type, String name, String icon,
+                                                int colour, AnimalConstructor constructor) {
+        if (type == null || name == null) {
+            throw new IllegalArgumentException("Species class and name must be non-null");
+        }
+        Species existing = byName.get(name);
+        if (existing != null && existing.getType() != type) {
+            throw new IllegalArgumentException("Species name already registered: " + name);
+        }
+
+        int id = ids.get(type);
+        Species previous = byId[id];
+        if (previous != null && !previous.getName().equals(name)) {
+            byName.remove(previous.getName());
+        }
+        Species species = new Species(id, type, name, icon, colour, constructor);
+        byName.put(name, species);
+        publish(species);
+        return species;
+    }
+
+    /**
+    * Returns the species id of an organism class, assigning one on first use.
+    *
+    * @param type The organism class.
+    * @return The species id.
+    * @throws IllegalStateException If every id is taken.
+    */
+    public static int idOf(Class<? extends Organism> type) {
+        return ids.get(type);
+    }
+
+    /**
+    * Returns the species of an organism class, assigning it an id on first use.
+    *
+    * @param type The organism class.
+    * @return The species.
+    */
+    public static Species of(Class<? extends Organism> type) {
+        // Look the id up first: assigning it may publish a longer table.
+        int id = ids.get(type);
+        return byId[id];
+    }
+
+    /**
+    * Returns the species with the given id.
+    *
+    * @param id The species id.
+    * @return The species, or null if no species has that id.
+    */
+    public static Species byId(int id) {
+        Species[] table = byId;
+        return id >= 0 && id < table.length ? table[id] : null;
+    }
+
+    /**
+    * Returns the species with the given name.
+    *
+    * @param name The species name.
+    * @return The species, or null if no species has that name.
+    */
+    public static synchronized Species byName(String name) {
+        return byName.get(name);
+    }
+
+    /**
+    * @return Every registered species, in id order.
+    */
+    public static List<Species> all() {
+        List<Species> species = new ArrayList<>();
+        for (Species entry : byId) {
+            if (entry != null) {
+                species.add(entry);
+            }
+        }
+        return List.copyOf(species);
+    }
+
+    /**
+    * @return One more than the largest id assigned so far, the length of a table indexed by species id.
+    */
+    public static int size() {
+        return byId.length;
+    }
+
+    /**
+    * Gives a class the next free id, or {@link #PLANT} if it is a plant, and registers it under its
+    * simple name with no icon or constructor if it has no details yet.
+    */
+    private static synchronized int assign(Class<?> type) {
+        Integer known = assigned.get(type);
+        if (known != null) {
+            return known;
+        }
+        int id = Plant.class.isAssignableFrom(type) ? PLANT : Math.max(byId.length, PLANT + 1);
+        if (id > MAX_ID) {
+            throw new IllegalStateException("Too many organism types for the field: " + type.getName());
+        }
+        assigned.put(type, id);
+
+        if (id != PLANT || byId[PLANT] == null) {
+            @SuppressWarnings("unchecked")
+            Class<? extends Organism> organismType = (Class<? extends Organism>) type;
+            String name = byName.containsKey(type.getSimpleName()) ? type.getName() : type.getSimpleName();
+            Species species = new Species(id, organismType, name, null, Palette.GRAY, null);
+            byName.put(name, species);
+            publish(species);
+        }
+        return id;
+    }
+
+    /**
+    * Stores a species in a copy of the id table and publishes the copy.
+    */
+    private static void publish(Species species) {
+        Species[] table = byId;
+        if (species.getId() >= table.length) {
+            table = Arrays.copyOf(table, species.getId() + 1);
+        } else {
+            table = table.clone();
+        }
+        table[species.getId()] = species;
+        byId = table;
+    }
+}
@@ -0,0 +1,98 @@
+package com.tomtrotter.habitatsimulation.simulation.state;
+
+import com.tomtrotter.habitatsimulation.simulation.species.FoodWeb;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+* An immutable snapshot of the model parameters one simulation runs with.
+* <p>
+* Each simulation owns its configuration and organisms read it through the field they live in,
+* so simulations with different parameters can run side by side in one process. A new snapshot
+* replaces the old one as a whole between steps; nothing reads a half-updated set of values.
+*
+* @param plantFoodValue The food level a prey gains from eating a plant.
+* @param preyFoodValue The food level a predator gains from eating a prey.
+* @param diseaseDuration The number of steps an infection lasts.
+* @param mortalityRate The probability, between 0.0 and 1.0, that an infection is fatal.
+* @param mutationProbability The probability that a genetic attribute mutates.
+* @param predatorWeights The relative weight of each predator type in the initial population.
+* @param preyWeights The relative weight of each prey type in the initial population.
+* @param foodWeb The species each species eats, by life stage.
+*/
+public record SimulatorConfig(int plantFoodValue, int preyFoodValue, int diseaseDuration, double mortalityRate,
+                              double mutationProbability, Map<String, Double> predatorWeights,
+                              Map<String, Double> preyWeights, FoodWeb foodWeb) {
+
+    public static final SimulatorConfig DEFAULT = defaults();
+
+    /**
+    * Creates a configuration, copying the weight maps so later changes to them are not seen.
+    * The copies keep the iteration order of the maps given, which the initial population depends on.
+    */
+    public SimulatorConfig {
+        predatorWeights = Collections.unmodifiableMap(new LinkedHashMap<>(predatorWeights));
+        preyWeights = Collections.unmodifiableMap(new LinkedHashMap<>(preyWeights));
+        if (foodWeb == null) {
+            foodWeb = FoodWeb.DEFAULT;
+        }
+    }
+
+    /**
+    * Creates a configuration with the built-in food web.
+    */
+    public SimulatorConfig(int plantFoodValue, int preyFoodValue, int diseaseDuration, double mortalityRate,
+                           double mutationProbability, Map<String, Double> predatorWeights,
+                           Map<String, Double> preyWeights) {
+        this(plantFoodValue, preyFoodValue, diseaseDuration, mortalityRate, mutationProbability,
+                predatorWeights, preyWeights, FoodWeb.DEFAULT);
+    }
+
+    private static SimulatorConfig defaults() {
+        Map<String, Double> predatorWeights = new LinkedHashMap<>();
+        predatorWeights.put("Tiger", 50.0);
+        predatorWeights.put("Leopard", 50.0);
+
+        Map<String, Double> preyWeights = new LinkedHashMap<>();
+        preyWeights.put("Deer", 34.0);
+        preyWeights.put("Hare", 33.0);
+        preyWeights.put("WildBoar", 33.0);
+
+        return new SimulatorConfig(9, 9, 5, 0.3, 0.2, predatorWeights, preyWeights);
+    }
+
+    /**
+    * Returns a copy of this configuration with a different disease duration.
+    *
+    * @param diseaseDuration The number of steps an infection lasts.
+    * @return The new configuration.
+    */
+    public SimulatorConfig withDiseaseDuration(int diseaseDuration) {
+        return new SimulatorConfig(plantFoodValue, preyFoodValue, diseaseDuration, mortalityRate,
+                mutationProbability, predatorWeights, preyWeights, foodWeb);
+    }
+
+    /**
+    * Returns a copy of this configuration with a different mortality rate.
+    *
+    * @param mortalityRate The probability, between 0.0 and 1.0, that an infection is fatal.
+    * @return The new configuration.
+    */
+    public SimulatorConfig withMortalityRate(double mortalityRate) {
+        return new SimulatorConfig(plantFoodValue, preyFoodValue, diseaseDuration, mortalityRate,
+                mutationProbability, predatorWeights, preyWeights, foodWeb);
+    }
+
+    /**
+    * Returns a copy of this configuration with a different food web.
+    *
+    * @param foodWeb The species each species eats, by life stage.
+    * @return The new configuration.
+    */
+    public SimulatorConfig withFoodWeb(FoodWeb foodWeb) {
+        return new SimulatorConfig(plantFoodValue, preyFoodValue, diseaseDuration, mortalityRate,
+                mutationProbability, predatorWeights, preyWeights, foodWeb);
+    }
+}
@@ -2,39 +2,42 @@
 
 package com.tomtrotter.habitatsimulation.simulation.state;
 
-import java.util.HashMap;
+import com.tomtrotter.habitatsimulation.simulation.species.FoodWeb;
+
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * Singleton class that manages the simulation's global state,
- * including settings related to plant and prey food values,
+ * Editable model settings, including plant and prey food values,
  * disease mortality rate, infection duration, and organism weights.
- * This class ensures that only one instance of the simulation state exists.
+ * The shared instance backs the settings screen; simulations never read it directly,
+ * but run with an immutable {@link SimulatorConfig} taken from it by {@link #snapshot()}.
  */
 public class SimulatorState {
 
     private static SimulatorState INSTANCE;
 
-    private int plantFoodValue = 9;
-    private int preyFoodValue = 9;
+    private int plantFoodValue = SimulatorConfig.DEFAULT.plantFoodValue();
+    private int preyFoodValue = SimulatorConfig.DEFAULT.preyFoodValue();
 
-    private int duration = 5;
-    private double mortalityRate = 0.3;
+    private int duration = SimulatorConfig.DEFAULT.diseaseDuration();
+    private double mortalityRate = SimulatorConfig.DEFAULT.mortalityRate();
 
-    private double mutationProbability = 0.2;
+    private double mutationProbability = SimulatorConfig.DEFAULT.mutationProbability();
 
     // Maps to store organism weights
-    private final Map<String, Double> predatorWeights = new HashMap<>();
-    private final Map<String, Double> preyWeights = new HashMap<>();
+    private final Map<String, Double> predatorWeights = new LinkedHashMap<>(SimulatorConfig.DEFAULT.predatorWeights());
+    private final Map<String, Double> preyWeights = new LinkedHashMap<>(SimulatorConfig.DEFAULT.preyWeights());
+
+    private FoodWeb foodWeb = SimulatorConfig.DEFAULT.foodWeb();
 
-    private SimulatorState() {
-        // Initialize default weights
-        predatorWeights.put("Tiger", 50.0);
-        predatorWeights.put("Leopard", 50.0);
+    // The last snapshot taken, cleared by every setter.
+    private SimulatorConfig snapshot = SimulatorConfig.DEFAULT;
 
-        preyWeights.put("Deer", 34.0);
-        preyWeights.put("Hare", 33.0);
-        preyWeights.put("WildBoar", 33.0);
+    /**
+     * Creates settings holding the default values, independent of the shared instance.
+     */
+    public SimulatorState() {
     }
 
     /**
@@ -43,7 +46,7 @@ public class SimulatorState {
      *
      * @return The Singleton instance of SimulatorState.
      */
-    public static SimulatorState getInstance() {
+    public static synchronized SimulatorState getInstance() {
         if (INSTANCE == null) {
             INSTANCE = new SimulatorState();
         }
@@ -64,8 +67,9 @@ public class SimulatorState {
      *
      * @param plantFoodValue The new food value for plants.
      */
-    public void setPlantFoodValue(int plantFoodValue) {
+    public synchronized void setPlantFoodValue(int plantFoodValue) {
         this.plantFoodValue = plantFoodValue;
+        snapshot = null;
     }
 
     /**
@@ -82,8 +86,9 @@ public class SimulatorState {
      *
      * @param preyFoodValue The new food value for prey.
      */
-    public void setPreyFoodValue(int preyFoodValue) {
+    public synchronized void setPreyFoodValue(int preyFoodValue) {
         this.preyFoodValue = preyFoodValue;
+        snapshot = null;
     }
 
     /**
@@ -100,8 +105,9 @@ public class SimulatorState {
      *
      * @param mortalityRate A value between 0.0 and 1.0 indicating the death chance due to the disease.
      */
-    public void setMortalityRate(double mortalityRate) {
+    public synchronized void setMortalityRate(double mortalityRate) {
         this.mortalityRate = mortalityRate;
+        snapshot = null;
     }
 
     /**
@@ -118,8 +124,9 @@ public class SimulatorState {
      *
      * @param duration The number of days the disease should last.
      */
-    public void setDuration(int duration) {
+    public synchronized void setDuration(int duration) {
         this.duration = duration;
+        snapshot = null;
     }
 
     /**
@@ -136,8 +143,9 @@ public class SimulatorState {
      *
      * @param mutationProbability The new mutation probability value.
      */
-    public void setMutationProbability(double mutationProbability) {
+    public synchronized void setMutationProbability(double mutationProbability) {
         this.mutationProbability = mutationProbability;
+        snapshot = null;
     }
 
     /**
@@ -156,8 +164,9 @@ public class SimulatorState {
      * @param predatorType The type of predator.
      * @param weight The new weight value for the predator type.
      */
-    public void setPredatorWeight(String predatorType, double weight) {
+    public synchronized void setPredatorWeight(String predatorType, double weight) {
         predatorWeights.put(predatorType, weight);
+        snapshot = null;
     }
 
     /**
@@ -176,8 +185,28 @@ public class SimulatorState {
      * @param preyType The type of prey.
      * @param weight The new weight value for the prey type.
      */
-    public void setPreyWeight(String preyType, double weight) {
+    public synchronized void setPreyWeight(String preyType, double weight) {
         preyWeights.put(preyType, weight);
+        snapshot = null;
+    }
+
+    /**
+     * Gets the food web: the species each species eats, by life stage.
+     *
+     * @return The current food web.
+     */
+    public synchronized FoodWeb getFoodWeb() {
+        return foodWeb;
+    }
+
+    /**
+     * Sets the food web.
+     *
+     * @param foodWeb The new food web.
+     */
+    public synchronized void setFoodWeb(FoodWeb foodWeb) {
+        this.foodWeb = foodWeb;
+        snapshot = null;
     }
 
     /**
@@ -185,8 +214,8 @@ public class SimulatorState {
      *
      * @return A map of predator types to their weights.
      */
-    public Map<String, Double> getPredatorWeights() {
-        return new HashMap<>(predatorWeights);
+    public synchronized Map<String, Double> getPredatorWeights() {
+        return new LinkedHashMap<>(predatorWeights);
     }
 
     /**
@@ -194,8 +223,22 @@ public class SimulatorState {
      *
      * @return A map of prey types to their weights.
      */
-    public Map<String, Double> getPreyWeights() {
-        return new HashMap<>(preyWeights);
+    public synchronized Map<String, Double> getPreyWeights() {
+        return new LinkedHashMap<>(preyWeights);
+    }
+
+    /**
+     * Returns the current settings as an immutable configuration.
+     * The same instance is returned until a setting changes, so this is cheap to call every step.
+     *
+     * @return The current configuration.
+     */
+    public synchronized SimulatorConfig snapshot() {
+        if (snapshot == null) {
+            snapshot = new SimulatorConfig(plantFoodValue, preyFoodValue, duration, mortalityRate,
+                    mutationProbability, predatorWeights, preyWeights, foodWeb);
+        }
+        return snapshot;
     }
 
 }
\ No newline at end of file
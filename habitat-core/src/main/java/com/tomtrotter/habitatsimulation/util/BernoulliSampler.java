@@ -0,0 +1,77 @@
+package com.tomtrotter.habitatsimulation.util;
+
+import java.util.random.RandomGenerator;
+
+/**
+* Samples a long run of independent trials that each succeed with the same probability, drawing
+* one random number per success rather than one per trial.
+* <p>
+* The number of failures before the next success follows a geometric distribution, so instead of
+* rolling every trial the sampler draws that gap directly by inversion:
+* {@code floor(log(1 - u) / log(1 - p))} for a uniform {@code u}. A caller walks its trials by
+* jumping over each gap. When successes are rare this replaces almost every draw, with exactly the
+* same distribution of outcomes.
+* <p>
+* The first trial of a gap succeeds exactly when {@code u < p}, as a single roll of
+* {@code nextDouble() < p} would.
+*/
+public final class BernoulliSampler {
+
+    /**
+    * The gap returned when no trial will ever succeed.
+    */
+    public static final int NEVER = Integer.MAX_VALUE;
+
+    private final double probability;
+    private final double logFailure;
+
+    /**
+    * Creates a sampler for trials that succeed with the given probability.
+    *
+    * @param probability The chance each trial succeeds; values outside 0.0 to 1.0 are clamped.
+    * @throws IllegalArgumentException If the probability is NaN.
+    */
+    public BernoulliSampler(double probability) {
+        if (Double.isNaN(probability)) {
+            throw new IllegalArgumentException("Probability must be a number");
+        }
+        this.probability = Math.min(1.0, Math.max(0.0, probability));
+        logFailure = Math.log1p(-this.probability);
+    }
+
+    /**
+    * @return The chance each trial succeeds.
+    */
+    public double getProbability() {
+        return probability;
+    }
+
+    /**
+    * Draws the number of failed trials before the next success. Certain and impossible
+    * successes draw nothing.
+    *
+    * @param rand The source of randomness.
+    * @return The number of trials to skip, or {@link #NEVER} if no trial can succeed.
+    */
+    public int nextGap(RandomGenerator rand) {
+        if (probability >= 1.0) {
+            return 0;
+        }
+        if (probability <= 0.0) {
+            return NEVER;
+        }
+        double gap = Math.floor(Math.log1p(-rand.nextDouble()) / logFailure);
+        return gap >= NEVER ? NEVER : (int) gap;
+    }
+
+    /**
+    * Draws the number of failed trials before the next success, for a one-off probability.
+    *
+    * @param rand The source of randomness.
+    * @param probability The chance each trial succeeds.
+    * @return The number of trials to skip, or {@link #NEVER} if no trial can succeed.
+    */
+    public static int gap(RandomGenerator rand, double probability) {
+        return new BernoulliSampler(probability).nextGap(rand);
+    }
+}
@@ -0,0 +1,67 @@
+package com.tomtrotter.habitatsimulation.util;
+
+/**
+* The fixed set of colours organisms can be drawn in.
+* <p>
+* The simulation core stores a colour as an index into this palette so that it does not depend on
+* any user interface toolkit. A front end maps each index to its own colour type, either by name
+* or from the packed ARGB value.
+*/
+public final class Palette {
+
+    public static final int WHITE = 0;
+    public static final int GREEN = 1;
+    public static final int ORANGE = 2;
+    public static final int YELLOW = 3;
+    public static final int BROWN = 4;
+    public static final int SADDLE_BROWN = 5;
+    public static final int DARK_GRAY = 6;
+    public static final int RED = 7;
+    public static final int BLUE = 8;
+    public static final int GRAY = 9;
+    public static final int BLACK = 10;
+
+    private static final String[] NAMES = {
+            "WHITE", "GREEN", "ORANGE", "YELLOW", "BROWN", "SADDLEBROWN",
+            "DARKGRAY", "RED", "BLUE", "GRAY", "BLACK"
+    };
+
+    private static final int[] ARGB = {
+            0xFFFFFFFF, 0xFF008000, 0xFFFFA500, 0xFFFFFF00, 0xFFA52A2A, 0xFF8B4513,
+            0xFFA9A9A9, 0xFFFF0000, 0xFF0000FF, 0xFF808080, 0xFF000000
+    };
+
+    private Palette() {
+    }
+
+    /**
+    * Returns the number of colours in the palette.
+    *
+    * @return The palette size.
+    */
+    public static int size() {
+        return ARGB.length;
+    }
+
+    /**
+    * Returns the colour at an index as a packed 0xAARRGGBB value.
+    *
+    * @param index The palette index.
+    * @return The packed ARGB value.
+    * @throws IndexOutOfBoundsException If the index is not in the palette.
+    */
+    public static int argb(int index) {
+        return ARGB[index];
+    }
+
+    /**
+    * Returns the web colour name of the colour at an index, e.g. "SADDLEBROWN".
+    *
+    * @param index The palette index.
+    * @return The colour name.
+    * @throws IndexOutOfBoundsException If the index is not in the palette.
+    */
+    public static String name(int index) {
+        return NAMES[index];
+    }
+}
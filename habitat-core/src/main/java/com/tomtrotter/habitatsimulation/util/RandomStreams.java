@@ -0,0 +1,151 @@
+package com.tomtrotter.habitatsimulation.util;
+
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+* Hands out independent random streams derived from a single master seed.
+* <p>
+* Every stream is keyed by what it belongs to rather than by when it was asked for: the stream
+* for a cell in a given epoch (the simulation step) is built from a hash of the master seed, the
+* epoch and the cell index. An organism created in a cell during a step therefore draws the same
+* numbers however many threads are running and in whatever order the tiles are visited, and no
+* two threads ever share, or contend on, one generator.
+* <p>
+* The generator algorithm is pluggable; by default streams are {@link SplittableRandom}s.
+*/
+public final class RandomStreams {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final LongFunction<? extends RandomGenerator> generators;
+    private volatile long epoch;
+
+    /**
+    * Creates a stream source using the default generator algorithm.
+    *
+    * @param seed The master seed every stream is derived from.
+    */
+    public RandomStreams(long seed) {
+        this(seed, SplittableRandom::new);
+    }
+
+    /**
+    * Creates a stream source that builds its streams with the given seeded constructor.
+    *
+    * @param seed The master seed every stream is derived from.
+    * @param generators Builds a generator from a 64-bit seed, e.g. {@code SplittableRandom::new}.
+    */
+    public RandomStreams(long seed, LongFunction<? extends RandomGenerator> generators) {
+        if (generators == null) {
+            throw new IllegalArgumentException("Generator constructor must be non-null");
+        }
+        this.seed = seed;
+        this.generators = generators;
+    }
+
+    /**
+    * Creates a stream source that builds its streams with a named JDK algorithm.
+    *
+    * @param seed The master seed every stream is derived from.
+    * @param algorithm The algorithm name, as accepted by {@link RandomGeneratorFactory#of(String)}.
+    * @return The new stream source.
+    * @throws IllegalArgumentException If the algorithm is not available.
+    */
+    public static RandomStreams ofAlgorithm(long seed, String algorithm) {
+        RandomGeneratorFactory<RandomGenerator> factory = RandomGeneratorFactory.of(algorithm);
+        return new RandomStreams(seed, factory::create);
+    }
+
+    /**
+    * Creates a stream source with the same algorithm whose master seed is derived from this
+    * one and the given key, e.g. to give each run of a simulation its own streams.
+    *
+    * @param key The key that distinguishes the derived source.
+    * @return The derived stream source, starting at epoch zero.
+    */
+    public RandomStreams derive(long key) {
+        return new RandomStreams(mix(seed ^ mix(key + GOLDEN_GAMMA)), generators);
+    }
+
+    /**
+    * Returns the master seed.
+    *
+    * @return The master seed.
+    */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+    * Returns the current epoch.
+    *
+    * @return The current epoch.
+    */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+    * Sets the current epoch. Cell streams handed out afterwards are keyed by the new epoch.
+    * Must not be called while a step is running.
+    *
+    * @param epoch The new epoch, normally the simulation step.
+    */
+    public void setEpoch(long epoch) {
+        this.epoch = epoch;
+    }
+
+    /**
+    * Returns a new stream for the given cell in the current epoch.
+    *
+    * @param cell The packed index of the cell.
+    * @return A stream that depends only on the seed, the epoch and the cell.
+    */
+    public RandomGenerator forCell(int cell) {
+        return forKey(epoch, cell);
+    }
+
+    /**
+    * Returns a new stream for an arbitrary pair of keys.
+    *
+    * @param major The first key, e.g. an epoch.
+    * @param minor The second key, e.g. a cell index.
+    * @return A stream that depends only on the seed and the two keys.
+    */
+    public RandomGenerator forKey(long major, long minor) {
+        return generators.apply(seedFor(major, minor));
+    }
+
+    /**
+    * Returns the seed the stream for the given cell in the current epoch is built from, for a
+    * caller that seeds a generator of its own instead of having a new one built.
+    *
+    * @param cell The packed index of the cell.
+    * @return A seed that depends only on the master seed, the epoch and the cell.
+    */
+    public long seedForCell(int cell) {
+        return seedFor(epoch, cell);
+    }
+
+    private long seedFor(long major, long minor) {
+        long key = mix(seed + GOLDEN_GAMMA * (major + 1));
+        return mix(key ^ mix(minor + GOLDEN_GAMMA));
+    }
+
+    /**
+    * Scrambles a 64-bit value so that nearby keys give unrelated seeds
+    * (Stafford's variant 13 of the MurmurHash3 finaliser).
+    *
+    * @param z The value to scramble.
+    * @return The scrambled value.
+    */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
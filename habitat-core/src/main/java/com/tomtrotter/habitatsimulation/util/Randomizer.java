@@ -16,6 +16,14 @@ public class Randomizer {
     private static final Random rand = new Random(SEED);
     private static final boolean useShared = true;
 
+    /**
+    * Provide the fixed seed used for reproducible runs.
+    * @return The shared seed.
+    */
+    public static long getSeed() {
+        return SEED;
+    }
+
     /**
     * Provide a random generator.
     * @return A random object.
@@ -0,0 +1,74 @@
+package com.tomtrotter.habitatsimulation.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+* Hands values from one producer thread to one consumer thread without either ever waiting.
+* <p>
+* The buffer holds three slots. The producer fills its back slot and publishes it, which swaps
+* it with the middle slot; the consumer takes the middle slot when it is newer than its own
+* front slot. Each side only ever touches its own slot, so a slot is never written while it is
+* read. Publishing again before the consumer takes a value replaces it, so the consumer always
+* gets the latest value and values it was too slow for are dropped. The only shared state is one
+* atomic int holding the middle slot's index and whether it is new; swapping it makes everything
+* written to a slot before it was published visible to the consumer.
+*
+* @param <T> The type of the values, reused rather than copied: the producer refills the slot it gets back.
+*/
+public final class TripleBuffer<T> {
+
+    private static final int FRESH = 4;
+    private static final int INDEX = 3;
+
+    private final Object[] slots = new Object[3];
+    // The middle slot's index, plus FRESH if it holds a value the consumer has not taken.
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;
+    private int front = 2;
+
+    /**
+    * Creates a buffer whose three slots are made by a factory.
+    *
+    * @param factory Makes the value for each slot.
+    */
+    public TripleBuffer(Supplier<? extends T> factory) {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = factory.get();
+        }
+    }
+
+    /**
+    * Returns the slot the producer fills next. Only call this from the producer thread.
+    *
+    * @return The back slot.
+    */
+    @SuppressWarnings("unchecked")
+    public T back() {
+        return (T) slots[back];
+    }
+
+    /**
+    * Publishes the back slot to the consumer and gives the producer a new back slot.
+    * Only call this from the producer thread.
+    */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX;
+    }
+
+    /**
+    * Takes the latest published value, if there is one the consumer has not taken yet.
+    * Only call this from the consumer thread. The value stays the consumer's, unchanged, until a
+    * later call returns a newer one.
+    *
+    * @return The latest value, or null if nothing was published since the previous call.
+    */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if ((middle.get() & FRESH) == 0) {
+            return null;
+        }
+        front = middle.getAndSet(front) & INDEX;
+        return (T) slots[front];
+    }
+}
@@ -0,0 +1,15 @@
+module com.tomtrotter.habitatsimulation.core {
+    exports com.tomtrotter.habitatsimulation.core.domain;
+    exports com.tomtrotter.habitatsimulation.simulation.batch;
+    exports com.tomtrotter.habitatsimulation.simulation.entities;
+    exports com.tomtrotter.habitatsimulation.simulation.environment;
+    exports com.tomtrotter.habitatsimulation.simulation.factory;
+    exports com.tomtrotter.habitatsimulation.simulation.genetics.attributes;
+    exports com.tomtrotter.habitatsimulation.simulation.genetics.builder;
+    exports com.tomtrotter.habitatsimulation.simulation.genetics.core;
+    exports com.tomtrotter.habitatsimulation.simulation.genetics.mutation;
+    exports com.tomtrotter.habitatsimulation.simulation.simulation;
+    exports com.tomtrotter.habitatsimulation.simulation.species;
+    exports com.tomtrotter.habitatsimulation.simulation.state;
+    exports com.tomtrotter.habitatsimulation.util;
+}
@@ -0,0 +1,141 @@
+package com.tomtrotter.habitatsimulation.benchmark;
+
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.core.domain.Organism;
+import com.tomtrotter.habitatsimulation.core.domain.Plant;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.environment.FieldFrame;
+import com.tomtrotter.habitatsimulation.simulation.environment.FieldMipmap;
+import com.tomtrotter.habitatsimulation.simulation.environment.FieldRaster;
+import com.tomtrotter.habitatsimulation.simulation.environment.Viewport;
+import com.tomtrotter.habitatsimulation.simulation.simulation.Simulator;
+import com.tomtrotter.habitatsimulation.util.Palette;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+* Measures the time to turn a populated field into a frame's pixels, against grid size.
+* <p>
+* {@link #raster} is the work the pixel renderer does per frame before its single upload at one
+* pixel per cell: one lookup per cell from a captured frame's species codes. {@link #perCell} walks the organisms the way the
+* former renderer did, fetching each cell's organism, checking its type and whether it is alive and
+* reading its colour, before any of its five drawing calls per cell. The drawing calls themselves
+* need a running JavaFX toolkit and are not measured here.
+* <p>
+* {@link #dirtyTiles} does what the canvas does after each step: it captures only the tiles changed
+* by the step, updates the mipmap over them and renders the view.
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class FieldRasterBenchmark {
+
+    @Param({"100", "500", "1000", "2000"})
+    private int gridSize;
+
+    private Field field;
+    private final FieldRaster fieldRaster = new FieldRaster();
+    private FieldMipmap mipmap;
+    private Viewport wholeField;
+    private int[] pixels;
+
+    /**
+    * Populates a field and lets it run a step so it holds a mix of species and empty cells.
+    */
+    @Setup
+    public void setUp() {
+        Simulator simulator = new Simulator(gridSize, gridSize, 0, 5L);
+        simulator.simulateOneStep();
+        field = simulator.getField();
+        FieldFrame frame = new FieldFrame(gridSize, gridSize);
+        frame.capture(field, 1);
+        mipmap = new FieldMipmap(gridSize, gridSize);
+        mipmap.update(frame);
+        wholeField = new Viewport(gridSize, gridSize, gridSize, gridSize);
+        pixels = new int[field.getCellCount()];
+    }
+
+    @Benchmark
+    public int[] raster() {
+        fieldRaster.render(wholeField, mipmap, pixels);
+        return pixels;
+    }
+
+    @Benchmark
+    public int[] perCell() {
+        for (int row = 0; row < field.getHeight(); row++) {
+            for (int col = 0; col < field.getWidth(); col++) {
+                Organism organism = field.getOrganismAt(row, col);
+                int colour;
+                if (organism instanceof Animal animal && animal.isAlive()) {
+                    colour = animal.getColour();
+                } else if (organism instanceof Plant plant && plant.isAlive()) {
+                    colour = plant.getColour();
+                } else {
+                    colour = Palette.WHITE;
+                }
+                pixels[row * field.getWidth() + col] = Palette.argb(colour);
+            }
+        }
+        return pixels;
+    }
+
+    /**
+    * A field that takes one simulation step before every frame, with the frame and mipmap it is drawn from.
+    * It is run for a few steps first, past the burst of changes of a freshly populated field.
+    */
+    @State(Scope.Thread)
+    public static class Stepping {
+
+        @Param({"100", "500", "1000"})
+        int gridSize;
+
+        Simulator simulator;
+        FieldFrame frame;
+        FieldMipmap mipmap;
+        Viewport view;
+        int[] pixels;
+
+        @Setup(Level.Iteration)
+        public void create() {
+            simulator = new Simulator(gridSize, gridSize, 0, 5L);
+            for (int i = 0; i < 10; i++) {
+                simulator.simulateOneStep();
+            }
+            frame = new FieldFrame(gridSize, gridSize);
+            frame.capture(simulator.getField(), simulator.getStep());
+            mipmap = new FieldMipmap(gridSize, gridSize);
+            mipmap.update(frame);
+            view = new Viewport(gridSize, gridSize, gridSize, gridSize);
+            pixels = new int[simulator.getField().getCellCount()];
+        }
+
+        @Setup(Level.Invocation)
+        public void step() {
+            simulator.simulateOneStep();
+        }
+    }
+
+    @Benchmark
+    public int[] dirtyTiles(Stepping state) {
+        state.frame.capture(state.simulator.getField(), state.simulator.getStep());
+        state.mipmap.update(state.frame);
+        fieldRaster.render(state.view, state.mipmap, state.pixels);
+        return state.pixels;
+    }
+}
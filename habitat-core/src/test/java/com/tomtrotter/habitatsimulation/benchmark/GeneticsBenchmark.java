@@ -0,0 +1,203 @@
+package com.tomtrotter.habitatsimulation.benchmark;
+
+import com.tomtrotter.habitatsimulation.simulation.genetics.attributes.AttributeDefinition;
+import com.tomtrotter.habitatsimulation.simulation.genetics.attributes.Attributes;
+import com.tomtrotter.habitatsimulation.simulation.genetics.attributes.GeneticAttributeManager;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
+import com.tomtrotter.habitatsimulation.simulation.genetics.mutation.MutationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+* Compares the primitive-array genome in Genetics with the boxed HashMap genome it replaced,
+* kept here as {@link MapGenetics}. Both use the same attribute definitions and random streams.
+* <p>
+* "traits" reads the three attributes an animal needs every step (max age, metabolism and
+* breeding probability), as Animal does in incrementAge, incrementHunger and breed.
+* "litter" breeds four young, either as breed then copy and mutate per child, or in one
+* {@link Genetics#breedLitter} call.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneticsBenchmark {
+
+    private static final int LITTER = 4;
+
+    private RandomGenerator rand;
+    private Genetics arrayA;
+    private Genetics arrayB;
+    private MapGenetics mapA;
+    private MapGenetics mapB;
+
+    /**
+    * Creates two parents of each representation.
+    */
+    @Setup
+    public void setUp() {
+        rand = new SplittableRandom(1);
+        arrayA = new Genetics(rand);
+        arrayB = new Genetics(rand);
+        mapA = new MapGenetics(rand);
+        mapB = new MapGenetics(rand);
+    }
+
+    @Benchmark
+    public void arrayTraits(Blackhole blackhole) {
+        blackhole.consume(arrayA.getMaxAge());
+        blackhole.consume(arrayA.getMetabolism());
+        blackhole.consume(arrayA.getBreedingProbability());
+    }
+
+    @Benchmark
+    public void mapTraits(Blackhole blackhole) {
+        blackhole.consume(mapA.<Integer>getAttribute(Attributes.MAX_AGE).intValue());
+        blackhole.consume(mapA.<Double>getAttribute(Attributes.METABOLISM).doubleValue());
+        blackhole.consume(mapA.<Double>getAttribute(Attributes.BREEDING_PROBABILITY).doubleValue());
+    }
+
+    @Benchmark
+    public Genetics arrayCopy() {
+        return arrayA.copy();
+    }
+
+    @Benchmark
+    public MapGenetics mapCopy() {
+        return mapA.copy();
+    }
+
+    @Benchmark
+    public Genetics arrayBreed() {
+        return Genetics.breed(arrayA, arrayB, rand);
+    }
+
+    @Benchmark
+    public MapGenetics mapBreed() {
+        return MapGenetics.breed(mapA, mapB, rand);
+    }
+
+    @Benchmark
+    public Genetics arrayBreedAndMutate() {
+        return Genetics.breed(arrayA, arrayB, rand).mutate(rand);
+    }
+
+    @Benchmark
+    public MapGenetics mapBreedAndMutate() {
+        return MapGenetics.breed(mapA, mapB, rand).mutate(rand);
+    }
+
+    @Benchmark
+    public void arrayLitterStepwise(Blackhole blackhole) {
+        Genetics shared = Genetics.breed(arrayA, arrayB, rand);
+        for (int i = 0; i < LITTER; i++) {
+            blackhole.consume(shared.copy().mutate(rand));
+        }
+    }
+
+    @Benchmark
+    public Genetics[] arrayLitterBatch() {
+        return Genetics.breedLitter(arrayA, arrayB, LITTER, rand);
+    }
+
+    /**
+    * The boxed genome Genetics used before: one HashMap entry per attribute.
+    */
+    public static class MapGenetics {
+
+        private final Map<Attributes, Object> attributeValues = new HashMap<>();
+        private final GeneticAttributeManager attributeManager = GeneticAttributeManager.getInstance();
+
+        MapGenetics() {
+        }
+
+        MapGenetics(RandomGenerator rand) {
+            for (Attributes attr : Attributes.values()) {
+                if (!attributeManager.isAttributeActive(attr)) {
+                    continue;
+                }
+                AttributeDefinition<Object> definition = attributeManager.getAttributeDefinition(attr);
+                Class<?> type = definition.getType();
+                if (type == Integer.class) {
+                    int min = (Integer) definition.getMinValue();
+                    int max = (Integer) definition.getMaxValue();
+                    attributeValues.put(attr, rand.nextInt(min, max + 1));
+                } else {
+                    double min = (Double) definition.getMinValue();
+                    double max = (Double) definition.getMaxValue();
+                    attributeValues.put(attr, min + (max - min) * rand.nextDouble());
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T getAttribute(Attributes attribute) {
+            if (!attributeValues.containsKey(attribute)) {
+                return (T) attributeManager.getAttributeDefinition(attribute).getDefaultValue();
+            }
+            return (T) attributeValues.get(attribute);
+        }
+
+        MapGenetics copy() {
+            MapGenetics copy = new MapGenetics();
+            for (Attributes attr : Attributes.values()) {
+                if (attributeManager.isAttributeActive(attr) && attributeValues.containsKey(attr)) {
+                    copy.attributeValues.put(attr, attributeValues.get(attr));
+                }
+            }
+            return copy;
+        }
+
+        static MapGenetics breed(MapGenetics parentA, MapGenetics parentB, RandomGenerator rand) {
+            MapGenetics offspring = new MapGenetics();
+            for (Attributes attr : GeneticAttributeManager.getInstance().getActiveAttributes()) {
+                if (parentA.attributeValues.containsKey(attr) && parentB.attributeValues.containsKey(attr)) {
+                    MapGenetics selected = rand.nextBoolean() ? parentA : parentB;
+                    offspring.attributeValues.put(attr, selected.attributeValues.get(attr));
+                } else if (parentA.attributeValues.containsKey(attr)) {
+                    offspring.attributeValues.put(attr, parentA.attributeValues.get(attr));
+                } else if (parentB.attributeValues.containsKey(attr)) {
+                    offspring.attributeValues.put(attr, parentB.attributeValues.get(attr));
+                }
+            }
+            return offspring;
+        }
+
+        MapGenetics mutate(RandomGenerator rand) {
+            for (Attributes attr : attributeManager.getActiveAttributes()) {
+                if (!attributeValues.containsKey(attr)) {
+                    continue;
+                }
+                AttributeDefinition<Object> definition = attributeManager.getAttributeDefinition(attr);
+                if (rand.nextDouble() < definition.getMutationProbability()) {
+                    List<MutationType<Object>> mutations = definition.getPossibleMutations();
+                    MutationType<Object> mutation = mutations.get(rand.nextInt(mutations.size()));
+                    Object value = attributeValues.get(attr);
+                    if (definition.getValidator().apply(value, mutation)) {
+                        attributeValues.put(attr, mutation.apply(value));
+                    }
+                }
+            }
+            return this;
+        }
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.tomtrotter.habitatsimulation.benchmark;
+
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
+import com.tomtrotter.habitatsimulation.simulation.simulation.Simulator;
+import com.tomtrotter.habitatsimulation.util.Palette;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+* Measures the cost of keeping the serial simulator's list of live animals up to date, against
+* population size, with the animals' own behaviour stubbed out.
+* <p>
+* Every animal dies in its turn with probability {@code dieOff} and one in ten has a young, so each
+* step removes a large share of the list and appends newborns. {@link #step} runs the simulator's
+* compacting step; time per animal should stay flat as the population grows to a million.
+* {@link #iteratorRemove} is the former {@code Iterator.remove()} loop, whose cost per animal grows
+* with the population; it is limited to smaller populations, as a million would take minutes.
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class LiveAnimalsBenchmark {
+
+    /**
+    * The simulator, holding a population of stub animals that is restored before every step.
+    */
+    @State(Scope.Thread)
+    public static class Population {
+
+        @Param({"10000", "100000", "1000000"})
+        int population;
+
+        @Param({"0.05", "0.5"})
+        double dieOff;
+
+        Simulator simulator;
+        Stub[] stubs;
+
+        @Setup(Level.Trial)
+        public void create() {
+            simulator = new Simulator(8, 8, 0, 1L);
+            stubs = Stub.create(simulator.getField(), population, dieOff);
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            Stub.restore(simulator.getAnimals(), stubs);
+        }
+    }
+
+    /**
+    * A plain list of stub animals for the former removal loop, restored before every step.
+    */
+    @State(Scope.Thread)
+    public static class Baseline {
+
+        @Param({"10000", "100000"})
+        int population;
+
+        @Param({"0.05", "0.5"})
+        double dieOff;
+
+        List<Animal> animals = new ArrayList<>();
+        Stub[] stubs;
+
+        @Setup(Level.Trial)
+        public void create() {
+            stubs = Stub.create(new Field(8, 8), population, dieOff);
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            Stub.restore(animals, stubs);
+        }
+    }
+
+    @Benchmark
+    public int step(Population state) {
+        state.simulator.simulateOneStep();
+        return state.simulator.getAnimals().size();
+    }
+
+    @Benchmark
+    public int iteratorRemove(Baseline state) {
+        List<Animal> animals = state.animals;
+        List<Animal> newAnimals = new ArrayList<>();
+        for (Iterator<Animal> it = animals.iterator(); it.hasNext(); ) {
+            Animal animal = it.next();
+            animal.act(newAnimals);
+            if (!animal.isAlive()) {
+                it.remove();
+            }
+        }
+        animals.addAll(newAnimals);
+        return animals.size();
+    }
+
+    /**
+    * An animal whose turn only decides, from a fixed pattern, whether it dies and whether it has a young.
+    * It stays off the field, and can be brought back to life for the next step.
+    */
+    private static class Stub extends Animal {
+
+        private final boolean dies;
+        private final Stub young;
+        private boolean alive = true;
+
+        Stub(Field field, Genetics genetics, boolean dies, Stub young) {
+            super(field, Field.NO_CELL, Palette.GRAY, genetics);
+            this.dies = dies;
+            this.young = young;
+        }
+
+        static Stub[] create(Field field, int population, double dieOff) {
+            SplittableRandom rand = new SplittableRandom(42);
+            Genetics genetics = new Genetics(rand);
+            Stub newborn = new Stub(field, genetics, false, null);
+            Stub[] stubs = new Stub[population];
+            for (int i = 0; i < population; i++) {
+                stubs[i] = new Stub(field, genetics, rand.nextDouble() < dieOff, i % 10 == 0 ? newborn : null);
+            }
+            return stubs;
+        }
+
+        static void restore(List<Animal> animals, Stub[] stubs) {
+            animals.clear();
+            for (Stub stub : stubs) {
+                stub.alive = true;
+                animals.add(stub);
+            }
+        }
+
+        @Override
+        public void act(List<Animal> newAnimals) {
+            if (young != null) {
+                newAnimals.add(young);
+            }
+            alive = !dies;
+        }
+
+        @Override
+        public boolean isAlive() {
+            return alive;
+        }
+
+        @Override
+        protected int findFood() {
+            return Field.NO_CELL;
+        }
+
+        @Override
+        protected Animal createBaby(Field field, int cell, int colour, Genetics genetics) {
+            return null;
+        }
+
+        @Override
+        public String getIcon() {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.tomtrotter.habitatsimulation.benchmark;
+
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.environment.Location;
+import com.tomtrotter.habitatsimulation.simulation.environment.NeighbourCursor;
+import com.tomtrotter.habitatsimulation.simulation.simulation.Simulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+* Compares the list-based neighbourhood methods on Field with the allocation-free NeighbourCursor.
+* Run with the gc profiler (the benchmark profile does this) and compare gc.alloc.rate.norm,
+* the bytes allocated per operation.
+* <p>
+* One "turn" walks the neighbourhood three times, as an animal does when it looks for a mate,
+* checks for infected neighbours and looks for food. The cursor benchmarks pass one generator,
+* reused across calls, as an animal passes its own stream.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NeighbourhoodBenchmark {
+
+    private static final int SIZE = 200;
+
+    private Field field;
+    private Location[] locations;
+    private final RandomGenerator rand = new SplittableRandom(1);
+    private int next;
+
+    /**
+    * Populates a field the same way the simulator does.
+    */
+    @Setup
+    public void setUp() {
+        field = new Simulator(SIZE, SIZE).getField();
+        locations = new Location[field.getCellCount()];
+        for (int cell = 0; cell < locations.length; cell++) {
+            locations[cell] = field.locationOf(cell);
+        }
+    }
+
+    private int nextCell() {
+        next = next + 1 == locations.length ? 0 : next + 1;
+        return next;
+    }
+
+    @Benchmark
+    public void adjacentLocationsList(Blackhole blackhole) {
+        for (Location location : field.adjacentLocations(locations[nextCell()])) {
+            blackhole.consume(field.getOrganismAt(location));
+        }
+    }
+
+    @Benchmark
+    public void neighbourCursor(Blackhole blackhole) {
+        NeighbourCursor neighbours = field.neighbours(nextCell(), rand);
+        while (neighbours.hasNext()) {
+            blackhole.consume(field.getOrganismAt(neighbours.next()));
+        }
+    }
+
+    @Benchmark
+    public void turnWithLists(Blackhole blackhole) {
+        Location location = locations[nextCell()];
+        for (Animal animal : field.getLivingNeighbours(location)) {
+            blackhole.consume(animal);
+        }
+        for (Animal animal : field.getLivingNeighbours(location)) {
+            blackhole.consume(animal);
+        }
+        for (Location adjacent : field.adjacentLocations(location)) {
+            blackhole.consume(field.getOrganismAt(adjacent));
+        }
+    }
+
+    @Benchmark
+    public void turnWithCursor(Blackhole blackhole) {
+        int cell = nextCell();
+        for (int pass = 0; pass < 3; pass++) {
+            NeighbourCursor neighbours = field.neighbours(cell, rand);
+            while (neighbours.hasNext()) {
+                int neighbour = neighbours.next();
+                if (field.hasAnimal(neighbour)) {
+                    blackhole.consume(field.getOrganismAt(neighbour));
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.tomtrotter.habitatsimulation.benchmark;
+
+import com.tomtrotter.habitatsimulation.simulation.simulation.Simulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+* Measures simulation steps per second against grid size and worker thread count.
+* A thread count of 0 runs the serial engine, anything else runs the tiled parallel engine.
+* <p>
+* The simulator is repopulated before every iteration so each iteration starts from a
+* freshly seeded field rather than a population that has already thinned out. Large grids
+* need a large heap, hence the fork arguments. For a quick run, narrow the parameters with
+* JMH's {@code -p} option, e.g. {@code -p gridSize=500 -p threads=0,1,4}.
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx12g"})
+public class StepScalingBenchmark {
+
+    @Param({"500", "1000", "2000", "4000"})
+    private int gridSize;
+
+    @Param({"0", "1", "2", "4", "8", "16", "32"})
+    private int threads;
+
+    private Simulator simulator;
+
+    /**
+    * Creates and populates a fresh simulator.
+    */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        simulator = threads == 0
+                ? new Simulator(gridSize, gridSize)
+                : new Simulator(gridSize, gridSize, threads);
+    }
+
+    /**
+    * Shuts down the simulator's worker threads, so iterations do not pile up idle pools.
+    */
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        simulator.close();
+    }
+
+    @Benchmark
+    public int step() {
+        simulator.simulateOneStep();
+        return simulator.getAnimals().size();
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.tomtrotter.habitatsimulation.benchmark;
+
+import com.tomtrotter.habitatsimulation.core.domain.Plant;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.environment.FieldFrame;
+import com.tomtrotter.habitatsimulation.simulation.environment.FieldMipmap;
+import com.tomtrotter.habitatsimulation.simulation.environment.FieldRaster;
+import com.tomtrotter.habitatsimulation.simulation.environment.Viewport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+* Measures the time to render a 500 by 500 pixel view of a field, against grid size.
+* <p>
+* {@link #fitted} shows the whole field, each pixel drawn from the mipmap level whose blocks are
+* about a pixel; {@link #zoomedIn} shows a corner at eight pixels per cell. Both should take about
+* the same time whatever the grid size. {@link #fullRaster} renders every cell of the frame at one
+* pixel per cell, as a canvas the size of the field would, for comparison, and {@link #rebuildMipmap} is the cost of
+* summarising a whole frame, the most an update of the mipmap can cost: it alternates between
+* frames of two fields, so every update starts afresh.
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class ViewportBenchmark {
+
+    private static final int VIEW_SIZE = 500;
+
+    @Param({"500", "2000", "4000"})
+    private int gridSize;
+
+    private FieldFrame frame;
+    private FieldFrame otherFrame;
+    private FieldMipmap mipmap;
+    private FieldMipmap rebuilding;
+    private boolean other;
+    private final FieldRaster fieldRaster = new FieldRaster();
+    private Viewport fitted;
+    private Viewport zoomedIn;
+    private Viewport wholeView;
+    private int[] pixels;
+    private int[] wholeField;
+
+    /**
+    * Scatters plants over a tenth of two fields, which is enough for the summaries to vary, and captures them.
+    */
+    @Setup
+    public void setUp() {
+        frame = scatter(5);
+        otherFrame = scatter(6);
+        rebuilding = new FieldMipmap(gridSize, gridSize);
+        mipmap = new FieldMipmap(gridSize, gridSize);
+        mipmap.update(frame);
+        fitted = new Viewport(gridSize, gridSize, VIEW_SIZE, VIEW_SIZE);
+        zoomedIn = new Viewport(gridSize, gridSize, VIEW_SIZE, VIEW_SIZE);
+        zoomedIn.zoom(8 * fitted.getCellsPerPixel(), 0, 0);
+        wholeView = new Viewport(gridSize, gridSize, gridSize, gridSize);
+        pixels = new int[VIEW_SIZE * VIEW_SIZE];
+        wholeField = new int[gridSize * gridSize];
+    }
+
+    private FieldFrame scatter(long seed) {
+        Field field = new Field(gridSize, gridSize);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int cell = 0; cell < field.getCellCount(); cell++) {
+            if (random.nextInt(10) == 0) {
+                new Plant(field, cell);
+            }
+        }
+        FieldFrame captured = new FieldFrame(gridSize, gridSize);
+        captured.capture(field, 0);
+        return captured;
+    }
+
+    @Benchmark
+    public int[] fitted() {
+        fieldRaster.render(fitted, mipmap, pixels);
+        return pixels;
+    }
+
+    @Benchmark
+    public int[] zoomedIn() {
+        fieldRaster.render(zoomedIn, mipmap, pixels);
+        return pixels;
+    }
+
+    @Benchmark
+    public int[] fullRaster() {
+        fieldRaster.render(wholeView, mipmap, wholeField);
+        return wholeField;
+    }
+
+    @Benchmark
+    public FieldMipmap rebuildMipmap() {
+        other = !other;
+        rebuilding.update(other ? otherFrame : frame);
+        return rebuilding;
+    }
+}
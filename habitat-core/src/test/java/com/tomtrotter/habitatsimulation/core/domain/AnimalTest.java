@@ -3,7 +3,7 @@ package com.tomtrotter.habitatsimulation.core.domain;
 import com.tomtrotter.habitatsimulation.simulation.environment.Field;
 import com.tomtrotter.habitatsimulation.simulation.environment.Location;
 import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
-import javafx.scene.paint.Color;
+import com.tomtrotter.habitatsimulation.util.Palette;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -42,7 +42,7 @@ class AnimalTest {
         genetics.maxLitterSize = 3;
         genetics.diseaseProbability = 0.1;
 
-        animal = new TestAnimal(field, location, Color.RED, genetics);
+        animal = new TestAnimal(field, location, Palette.RED, genetics);
     }
 
     /**
@@ -54,7 +54,7 @@ class AnimalTest {
         assertNotNull(animal);
         assertEquals(field, animal.getField());
         assertEquals(location, animal.getLocation());
-        assertEquals(Color.RED, animal.getColour());
+        assertEquals(Palette.RED, animal.getColour());
         assertTrue(animal.isAlive());
         assertNotNull(animal.disease);
         assertFalse(animal.disease.isInfected());
@@ -129,14 +129,11 @@ class AnimalTest {
     */
     @Test
     public void testFindMatingPartner() {
-        field.neighbours.clear();
         assertNull(animal.findMatingPartner());
 
-        TestAnimal mate = new TestAnimal(field, location, Color.RED, genetics);
+        TestAnimal mate = new TestAnimal(field, new TestLocation(0, 1), Palette.RED, genetics);
         mate.setGender(!animal.getGender());
 
-        field.neighbours.add(mate);
-
         assertEquals(mate, animal.findMatingPartner());
     }
 
@@ -194,16 +191,34 @@ class AnimalTest {
     @Test
     public void testActAlive() {
         animal.setFoodLevel(10.0);
+        animal.setGender(true);
         List<Animal> newAnimals = new ArrayList<>();
 
-        TestLocation newLocation = new TestLocation(1, 1);
-        field.freeAdjacentLocation = newLocation;
+        // Occupy every neighbouring cell except (1, 1) with animals that cannot mate with it.
+        new TestAnimal(field, new TestLocation(0, 1), Palette.RED, genetics).setGender(true);
+        new TestAnimal(field, new TestLocation(1, 0), Palette.RED, genetics).setGender(true);
 
         animal.act(newAnimals);
 
         assertTrue(field.placeOrganismCalled);
         assertEquals(animal, field.placedOrganism);
-        assertEquals(newLocation, field.placedLocation);
+        assertEquals(1, field.placedLocation.getRow());
+        assertEquals(1, field.placedLocation.getCol());
+    }
+
+    /**
+    * Test that a disease's own duration and mortality rate survive the animal's turn, which hands the
+    * disease the configuration of the current step.
+    */
+    @Test
+    public void testActKeepsDiseaseOverrides() {
+        animal.disease.setDuration(42);
+        animal.disease.setMortalityRate(0.25);
+
+        animal.act(new ArrayList<>());
+
+        assertEquals(42, animal.disease.getDuration());
+        assertEquals(0.25, animal.disease.getMortalityRate());
     }
 
     /**
@@ -212,12 +227,9 @@ class AnimalTest {
     */
     @Test
     public void testIsInfectedAnimals() {
-        TestAnimal infectedAnimal = new TestAnimal(field, location, Color.RED, genetics);
+        TestAnimal infectedAnimal = new TestAnimal(field, new TestLocation(0, 1), Palette.RED, genetics);
         infectedAnimal.disease.setInfected(true);
 
-        field.neighbours.clear();
-        field.neighbours.add(infectedAnimal);
-
         assertTrue(animal.isInfectedAnimals(), "Should detect infected neighbors");
     }
 
@@ -245,19 +257,19 @@ class AnimalTest {
     * This implementation overrides abstract methods to make it functional for testing purposes.
     */
     private static class TestAnimal extends Animal {
-        public TestAnimal(Field field, Location location, Color colour, Genetics genetics) {
+        public TestAnimal(Field field, Location location, int colour, Genetics genetics) {
             super(field, location, colour, genetics);
             setFoodLevel(10);
         }
 
         @Override
-        protected Location findFood() {
-            return null;
+        protected int findFood() {
+            return Field.NO_CELL;
         }
 
         @Override
-        protected Animal createBaby(Field field, Location location, Color colour, Genetics genetics) {
-            return new TestAnimal(field, location, colour, genetics);
+        protected Animal createBaby(Field field, int cell, int colour, Genetics genetics) {
+            return new TestAnimal(field, field.locationOf(cell), colour, genetics);
         }
 
         @Override
@@ -268,7 +280,8 @@ class AnimalTest {
 
     /**
     * Test implementation of Field.
-    * This implementation provides a mock behavior for placing, removing, and replacing organisms in the field.
+    * This implementation records placements and dead-animal replacements while still storing
+    * placed organisms, so neighbourhood lookups see the animals a test creates.
     */
     private static class TestField extends Field {
         private boolean placeOrganismCalled = false;
@@ -282,23 +295,23 @@ class AnimalTest {
         private TestLocation freeAdjacentLocation = null;
 
         private final List<Location> freeAdjacentLocations = new ArrayList<>();
-        private final List<Animal> neighbours = new ArrayList<>();
 
         public TestField() {
             super(5, 5);
         }
 
         @Override
-        public void placeOrganism(Organism organism, Location location) {
+        public void placeOrganism(Organism organism, int cell) {
             placeOrganismCalled = true;
             placedOrganism = organism;
-            placedLocation = location;
+            placedLocation = locationOf(cell);
+            super.placeOrganism(organism, cell);
         }
 
         @Override
-        public void replaceDeadAnimal(Location location) {
+        public void replaceDeadAnimal(int cell) {
             replaceDeadAnimalCalled = true;
-            replaceDeadAnimalLocation = location;
+            replaceDeadAnimalLocation = locationOf(cell);
         }
 
         @Override
@@ -311,11 +324,6 @@ class AnimalTest {
         public List<Location> getFreeAdjacentLocations(Location location) {
             return new ArrayList<>(freeAdjacentLocations);
         }
-
-        @Override
-        public List<Animal> getLivingNeighbours(Location location) {
-            return new ArrayList<>(neighbours);
-        }
     }
 
     /**
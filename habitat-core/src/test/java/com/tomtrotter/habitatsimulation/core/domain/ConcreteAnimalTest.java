@@ -4,7 +4,7 @@ import com.tomtrotter.habitatsimulation.simulation.environment.Field;
 import com.tomtrotter.habitatsimulation.simulation.environment.Location;
 import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
 import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
-import javafx.scene.paint.Color;
+import com.tomtrotter.habitatsimulation.util.Palette;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -33,7 +33,7 @@ class ConcreteAnimalTest {
 
     /**
     * Set up the test environment before each test.
-    * This includes initializing test doubles, setting simulator state values using reflection,
+    * This includes initializing test doubles, configuring the field,
     * and creating the Omnivore test subject.
     */
     @BeforeEach
@@ -43,30 +43,17 @@ class ConcreteAnimalTest {
         genetics = new TestGenetics();
         testRandom = new TestRandom();
 
-        try {
-            SimulatorState simulatorState = SimulatorState.getInstance();
+        SimulatorState simulatorState = new SimulatorState();
+        simulatorState.setPreyFoodValue(50);
+        simulatorState.setPlantFoodValue(20);
+        simulatorState.setDuration(7);
+        simulatorState.setMortalityRate(0.3);
+        field.setConfig(simulatorState.snapshot());
 
-            setPrivateField(simulatorState, "preyFoodValue", 50);
-            setPrivateField(simulatorState, "plantFoodValue", 20);
-            setPrivateField(simulatorState, "duration", 7);
-            setPrivateField(simulatorState, "mortalityRate", 0.3);
-        } catch (Exception e) {
-            fail("Could not set up SimulatorState: " + e.getMessage());
-        }
-
-        omnivore = new Omnivore(field, location, Color.ORANGE, genetics);
+        omnivore = new Omnivore(field, location, Palette.ORANGE, genetics);
         omnivore.setTestRandom(testRandom);
     }
 
-    /**
-    * Utility method to set private fields using reflection.
-    */
-    private void setPrivateField(Object object, String fieldName, Object value) throws Exception {
-        java.lang.reflect.Field field = object.getClass().getDeclaredField(fieldName);
-        field.setAccessible(true);
-        field.set(object, value);
-    }
-
     /**
     * Test that the omnivore correctly prefers prey to plants when both are available.
     */
@@ -75,7 +62,7 @@ class ConcreteAnimalTest {
         TestLocation preyLocation = new TestLocation(1, 0);
         TestLocation plantLocation = new TestLocation(0, 1);
 
-        TestPrey prey = new TestPrey(field, preyLocation, Color.GREEN, genetics);
+        TestPrey prey = new TestPrey(field, preyLocation, Palette.GREEN, genetics);
         Plant plant = new Plant(field, plantLocation);
 
         List<Location> adjacent = new ArrayList<>();
@@ -86,9 +73,9 @@ class ConcreteAnimalTest {
         field.addOrganism(preyLocation, prey);
         field.placeOrganism(plant, plantLocation);
 
-        Location foundLocation = omnivore.findFood();
+        int foundCell = omnivore.findFood();
 
-        assertEquals(preyLocation, foundLocation);
+        assertEquals(field.index(preyLocation), foundCell);
         assertFalse(prey.isAlive());
         assertTrue(plant.isAlive());
         assertEquals(50.0, omnivore.getFoodLevel());
@@ -102,17 +89,12 @@ class ConcreteAnimalTest {
         omnivore.setAge(10);
         omnivore.setGender(false);
 
-        Omnivore malePartner = new Omnivore(field, location, Color.ORANGE, genetics);
+        Omnivore malePartner = new Omnivore(field, new TestLocation(0, 1), Palette.ORANGE, genetics);
         malePartner.setGender(true);
 
-        List<Animal> neighbors = new ArrayList<>();
-        neighbors.add(malePartner);
-        field.setLivingNeighbours(neighbors);
-
+        // Occupy every neighbouring cell but one, leaving a single free cell for the baby.
+        new TestPrey(field, new TestLocation(1, 0), Palette.GREEN, genetics);
         TestLocation babyLocation = new TestLocation(1, 1);
-        List<Location> freeLocations = new ArrayList<>();
-        freeLocations.add(babyLocation);
-        field.setFreeAdjacentLocations(freeLocations);
 
         testRandom.setNextDoubleValue(0.1);
         testRandom.setNextIntValue(1);
@@ -122,6 +104,7 @@ class ConcreteAnimalTest {
 
         assertEquals(1, newAnimals.size());
         assertInstanceOf(Omnivore.class, newAnimals.getFirst());
+        assertEquals(babyLocation, newAnimals.getFirst().getLocation());
     }
 
     /**
@@ -131,13 +114,13 @@ class ConcreteAnimalTest {
     public void testCreateBaby() {
         TestLocation babyLocation = new TestLocation(1, 1);
 
-        Animal baby = omnivore.createBaby(field, babyLocation, Color.ORANGE, genetics);
+        Animal baby = omnivore.createBaby(field, field.index(babyLocation), Palette.ORANGE, genetics);
 
         assertNotNull(baby);
         assertInstanceOf(Omnivore.class, baby);
         assertEquals(field, baby.getField());
         assertEquals(babyLocation, baby.getLocation());
-        assertEquals(Color.ORANGE, baby.getColour());
+        assertEquals(Palette.ORANGE, baby.getColour());
     }
 
     /**
@@ -191,7 +174,7 @@ class ConcreteAnimalTest {
     private static class Omnivore extends Animal implements Predator, Prey {
         private TestRandom testRandom;
 
-        public Omnivore(Field field, Location location, Color colour, Genetics genetics) {
+        public Omnivore(Field field, Location location, int colour, Genetics genetics) {
             super(field, location, colour, genetics);
             setFoodLevel(20.0);
         }
@@ -208,25 +191,25 @@ class ConcreteAnimalTest {
         * Chooses food source by prioritizing prey first, then plants.
         */
         @Override
-        protected Location findFood() {
+        protected int findFood() {
             List<Class<? extends Animal>> preyTypes = new ArrayList<>();
             preyTypes.add(TestPrey.class);
 
-            Location foodLocation = hunt(this, preyTypes);
+            int foodCell = hunt(this, preyTypes);
 
-            if (foodLocation == null) {
-                foodLocation = graze(this);
+            if (foodCell == Field.NO_CELL) {
+                foodCell = graze(this);
             }
 
-            return foodLocation;
+            return foodCell;
         }
 
         /**
         * Factory method for creating a baby omnivore, preserving test random injection.
         */
         @Override
-        protected Animal createBaby(Field field, Location location, Color colour, Genetics genetics) {
-            Omnivore baby = new Omnivore(field, location, colour, genetics);
+        protected Animal createBaby(Field field, int cell, int colour, Genetics genetics) {
+            Omnivore baby = new Omnivore(field, field.locationOf(cell), colour, genetics);
             if (testRandom != null) {
                 baby.setTestRandom(testRandom);
             }
@@ -243,18 +226,18 @@ class ConcreteAnimalTest {
     * Minimal test subclass of Animal used as prey target.
     */
     private static class TestPrey extends Animal {
-        public TestPrey(Field field, Location location, Color colour, Genetics genetics) {
+        public TestPrey(Field field, Location location, int colour, Genetics genetics) {
             super(field, location, colour, genetics);
         }
 
         @Override
-        protected Location findFood() {
-            return null;
+        protected int findFood() {
+            return Field.NO_CELL;
         }
 
         @Override
-        protected Animal createBaby(Field field, Location location, Color colour, Genetics genetics) {
-            return new TestPrey(field, location, colour, genetics);
+        protected Animal createBaby(Field field, int cell, int colour, Genetics genetics) {
+            return new TestPrey(field, field.locationOf(cell), colour, genetics);
         }
 
         @Override
@@ -328,7 +311,7 @@ class ConcreteAnimalTest {
         }
 
         @Override
-        public void replaceDeadAnimal(Location location) {
+        public void replaceDeadAnimal(int cell) {
             deadAnimalReplaced = true;
         }
 
@@ -1,12 +1,10 @@
 package com.tomtrotter.habitatsimulation.core.domain;
 
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorConfig;
 import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.AfterEach;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -14,48 +12,22 @@ import static org.junit.jupiter.api.Assertions.*;
 /**
 * Unit tests for the Disease class.
 * These tests verify the correctness of infection logic, mortality handling,
-* and integration with the SimulatorState singleton.
+* and reading its parameters from a configuration rather than the shared settings.
 */
 public class DiseaseTest {
 
     private Disease disease;
-    private SimulatorState originalState;
-    private SimulatorState testState;
 
     /**
-    * Sets up a fresh Disease instance and a mocked SimulatorState before each test.
-    * Uses reflection to override the singleton SimulatorState for controlled testing.
+    * Sets up a fresh Disease instance with a known configuration before each test.
     */
     @BeforeEach
-    public void setUp() throws Exception {
-        originalState = SimulatorState.getInstance();
-
-        Constructor<SimulatorState> constructor = SimulatorState.class.getDeclaredConstructor();
-        constructor.setAccessible(true);
-        testState = constructor.newInstance();
-
-        testState.setDuration(7);
-        testState.setMortalityRate(0.3);
-
-        Field instance = SimulatorState.class.getDeclaredField("INSTANCE");
-        instance.setAccessible(true);
-        instance.set(null, testState);
-
+    public void setUp() {
         disease = new Disease();
+        disease.setConfig(SimulatorConfig.DEFAULT.withDiseaseDuration(7).withMortalityRate(0.3));
         disease.setRandom(new TestRandom());
     }
 
-    /**
-    * Restores the original SimulatorState singleton after each test
-    * to prevent state leakage across tests.
-    */
-    @AfterEach
-    public void tearDown() throws Exception {
-        Field instance = SimulatorState.class.getDeclaredField("INSTANCE");
-        instance.setAccessible(true);
-        instance.set(null, originalState);
-    }
-
     /**
     * Verifies that a newly created Disease instance is not infected
     * and has zero days infected.
@@ -68,21 +40,23 @@ public class DiseaseTest {
     }
 
     /**
-    * Tests if the Disease correctly fetches the infection duration from the SimulatorState.
+    * Tests if the Disease correctly fetches the infection duration from its configuration.
     */
     @Test
     public void testGetDuration() {
-        testState.setDuration(10);
+        disease.setConfig(SimulatorConfig.DEFAULT.withDiseaseDuration(10));
         assertEquals(10, disease.getDuration());
     }
 
     /**
-    * Tests if setting duration via the Disease reflects correctly in the SimulatorState.
+    * Tests that setting the duration changes this disease only, not the shared settings.
     */
     @Test
     public void testSetDuration() {
+        int shared = SimulatorState.getInstance().getDuration();
         disease.setDuration(14);
-        assertEquals(14, testState.getDuration());
+        assertEquals(14, disease.getDuration());
+        assertEquals(shared, SimulatorState.getInstance().getDuration());
     }
 
     /**
@@ -132,21 +106,22 @@ public class DiseaseTest {
     }
 
     /**
-    * Verifies that the Disease retrieves the correct mortality rate from SimulatorState.
+    * Verifies that the Disease retrieves the correct mortality rate from its configuration.
     */
     @Test
     public void testGetMortalityRate() {
-        testState.setMortalityRate(0.5);
+        disease.setConfig(SimulatorConfig.DEFAULT.withMortalityRate(0.5));
         assertEquals(0.5, disease.getMortalityRate());
     }
 
     /**
-    * Tests whether the Disease can set the mortality rate in SimulatorState.
+    * Tests whether the Disease can set its own mortality rate, keeping its duration.
     */
     @Test
     public void testSetMortalityRate() {
         disease.setMortalityRate(0.7);
-        assertEquals(0.7, testState.getMortalityRate());
+        assertEquals(0.7, disease.getMortalityRate());
+        assertEquals(7, disease.getDuration());
     }
 
     /**
@@ -2,7 +2,7 @@ package com.tomtrotter.habitatsimulation.core.domain;
 
 import com.tomtrotter.habitatsimulation.simulation.environment.Field;
 import com.tomtrotter.habitatsimulation.simulation.environment.Location;
-import javafx.scene.paint.Color;
+import com.tomtrotter.habitatsimulation.util.Palette;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -30,7 +30,7 @@ class OrganismTest {
         field = new TestField();
         location = new TestLocation(1, 1);
         newLocation = new TestLocation(2, 2);
-        organism = new Organism(field, location, Color.BLUE);
+        organism = new Organism(field, location, Palette.BLUE);
     }
 
     /**
@@ -42,7 +42,7 @@ class OrganismTest {
         assertTrue(organism.isAlive());
         assertEquals(field, organism.getField());
         assertEquals(location, organism.getLocation());
-        assertEquals(Color.BLUE, organism.getColour());
+        assertEquals(Palette.BLUE, organism.getColour());
 
         assertTrue(field.placeOrganismCalled);
         assertEquals(organism, field.placedOrganism);
@@ -71,7 +71,7 @@ class OrganismTest {
     */
     @Test
     public void testSetDeadWithNullLocation() {
-        Organism nullLocationOrganism = new Organism(field, null, Color.RED);
+        Organism nullLocationOrganism = new Organism(field, null, Palette.RED);
 
         field.resetTrackingFlags();
 
@@ -105,7 +105,7 @@ class OrganismTest {
     */
     @Test
     public void testSetLocationFromNullLocation() {
-        Organism nullLocationOrganism = new Organism(field, null, Color.RED);
+        Organism nullLocationOrganism = new Organism(field, null, Palette.RED);
 
         field.resetTrackingFlags();
 
@@ -132,7 +132,7 @@ class OrganismTest {
     */
     @Test
     public void testGetColour() {
-        assertEquals(Color.BLUE, organism.getColour());
+        assertEquals(Palette.BLUE, organism.getColour());
     }
 
 
@@ -164,16 +164,16 @@ class OrganismTest {
         }
 
         @Override
-        public void placeOrganism(Organism organism, Location location) {
+        public void placeOrganism(Organism organism, int cell) {
             placeOrganismCalled = true;
             placedOrganism = organism;
-            placedLocation = location;
+            placedLocation = locationOf(cell);
         }
 
         @Override
-        public void removeOrganism(Location location) {
+        public void removeOrganism(int cell) {
             removeOrganismCalled = true;
-            removedLocation = location;
+            removedLocation = locationOf(cell);
         }
     }
 
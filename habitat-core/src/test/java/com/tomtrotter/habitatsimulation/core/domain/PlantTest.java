@@ -2,7 +2,7 @@ package com.tomtrotter.habitatsimulation.core.domain;
 
 import com.tomtrotter.habitatsimulation.simulation.environment.Field;
 import com.tomtrotter.habitatsimulation.simulation.environment.Location;
-import javafx.scene.paint.Color;
+import com.tomtrotter.habitatsimulation.util.Palette;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -38,7 +38,7 @@ public class PlantTest {
         assertTrue(plant.isAlive());
         assertEquals(field, plant.getField());
         assertEquals(location, plant.getLocation());
-        assertEquals(Color.GREEN, plant.getColour());
+        assertEquals(Palette.GREEN, plant.getColour());
 
         assertTrue(field.placeOrganismCalled);
         assertEquals(plant, field.placedOrganism);
@@ -84,17 +84,17 @@ public class PlantTest {
         }
 
         @Override
-        public void placeOrganism(Organism organism, Location location) {
+        public void placeOrganism(Organism organism, int cell) {
             placeOrganismCalled = true;
             placedOrganism = organism;
-            placedLocation = location;
+            placedLocation = locationOf(cell);
 
         }
 
         @Override
-        public void removeOrganism(Location location) {
+        public void removeOrganism(int cell) {
             removeOrganismCalled = true;
-            removedLocation = location;
+            removedLocation = locationOf(cell);
         }
     }
 
@@ -4,12 +4,10 @@ import com.tomtrotter.habitatsimulation.simulation.environment.Field;
 import com.tomtrotter.habitatsimulation.simulation.environment.Location;
 import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
 import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
-import javafx.scene.paint.Color;
+import com.tomtrotter.habitatsimulation.util.Palette;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.AfterEach;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,36 +23,27 @@ public class PredatorTest {
     private TestField field;
     private TestLocation preyLocation;
     private TestGenetics genetics;
-    private SimulatorState originalState;
 
     private TestPredator predator;
     private TestPrey prey;
 
     /**
-    * Sets up a test environment with custom SimulatorState, Field,
+    * Sets up a test environment with a custom configuration, Field,
     * and predator/prey instances before each test.
     */
     @BeforeEach
-    public void setUp() throws Exception {
-        originalState = SimulatorState.getInstance();
-
-        Constructor<SimulatorState> constructor = SimulatorState.class.getDeclaredConstructor();
-        constructor.setAccessible(true);
-        SimulatorState testState = constructor.newInstance();
-
+    public void setUp() {
+        SimulatorState testState = new SimulatorState();
         testState.setPreyFoodValue(50);
 
-        java.lang.reflect.Field instance = SimulatorState.class.getDeclaredField("INSTANCE");
-        instance.setAccessible(true);
-        instance.set(null, testState);
-
         field = new TestField(5, 5);
+        field.setConfig(testState.snapshot());
         TestLocation location = new TestLocation(1, 1);
         preyLocation = new TestLocation(1, 2);
         genetics = new TestGenetics();
 
-        predator = new TestPredator(field, location, Color.RED, genetics);
-        prey = new TestPrey(field, preyLocation, Color.GREEN, genetics);
+        predator = new TestPredator(field, location, Palette.RED, genetics);
+        prey = new TestPrey(field, preyLocation, Palette.GREEN, genetics);
 
         field.placeOrganism(predator, location);
         field.placeOrganism(prey, preyLocation);
@@ -64,16 +53,6 @@ public class PredatorTest {
         field.setAdjacentLocations(location, adjacent);
     }
 
-    /**
-    * Restores the original SimulatorState after each test.
-    */
-    @AfterEach
-    public void tearDown() throws Exception {
-        java.lang.reflect.Field instance = SimulatorState.class.getDeclaredField("INSTANCE");
-        instance.setAccessible(true);
-        instance.set(null, originalState);
-    }
-
     /**
     * Tests hunting success when a matching prey is adjacent.
     */
@@ -82,9 +61,9 @@ public class PredatorTest {
         List<Class<? extends Animal>> preyTypes = new ArrayList<>();
         preyTypes.add(TestPrey.class);
 
-        Location foundLocation = predator.hunt(predator, preyTypes);
+        int foundCell = predator.hunt(predator, preyTypes);
 
-        assertEquals(preyLocation, foundLocation);
+        assertEquals(field.index(preyLocation), foundCell);
         assertFalse(prey.isAlive());
         assertEquals(50.0, predator.getFoodLevel());
     }
@@ -99,9 +78,9 @@ public class PredatorTest {
         List<Class<? extends Animal>> preyTypes = new ArrayList<>();
         preyTypes.add(TestPrey.class);
 
-        Location foundLocation = predator.hunt(predator, preyTypes);
+        int foundCell = predator.hunt(predator, preyTypes);
 
-        assertNull(foundLocation);
+        assertEquals(Field.NO_CELL, foundCell);
     }
 
     /**
@@ -111,9 +90,9 @@ public class PredatorTest {
     public void testHuntPreyNotInHuntList() {
         List<Class<? extends Animal>> preyTypes = new ArrayList<>();
 
-        Location foundLocation = predator.hunt(predator, preyTypes);
+        int foundCell = predator.hunt(predator, preyTypes);
 
-        assertNull(foundLocation);
+        assertEquals(Field.NO_CELL, foundCell);
         assertTrue(prey.isAlive());
     }
 
@@ -127,9 +106,9 @@ public class PredatorTest {
         List<Class<? extends Animal>> preyTypes = new ArrayList<>();
         preyTypes.add(TestPrey.class);
 
-        Location foundLocation = predator.hunt(predator, preyTypes);
+        int foundCell = predator.hunt(predator, preyTypes);
 
-        assertNull(foundLocation);
+        assertEquals(Field.NO_CELL, foundCell);
     }
 
     /**
@@ -138,16 +117,16 @@ public class PredatorTest {
     */
     @Test
     public void testHuntMultiplePreyTypes() {
-        TestAnotherPrey anotherPrey = new TestAnotherPrey(field, preyLocation, Color.YELLOW, genetics);
+        TestAnotherPrey anotherPrey = new TestAnotherPrey(field, preyLocation, Palette.YELLOW, genetics);
         field.placeOrganism(anotherPrey, preyLocation);
 
         List<Class<? extends Animal>> preyTypes = new ArrayList<>();
         preyTypes.add(TestPrey.class);
         preyTypes.add(TestAnotherPrey.class);
 
-        Location foundLocation = predator.hunt(predator, preyTypes);
+        int foundCell = predator.hunt(predator, preyTypes);
 
-        assertEquals(preyLocation, foundLocation);
+        assertEquals(field.index(preyLocation), foundCell);
         assertFalse(anotherPrey.isAlive());
     }
 
@@ -155,18 +134,18 @@ public class PredatorTest {
     * Mock predator that implements hunting logic with minimal simulation behavior.
     */
     private static class TestPredator extends Animal implements Predator {
-        public TestPredator(Field field, Location location, Color colour, Genetics genetics) {
+        public TestPredator(Field field, Location location, int colour, Genetics genetics) {
             super(field, location, colour, genetics);
         }
 
         @Override
-        protected Location findFood() {
-            return null;
+        protected int findFood() {
+            return Field.NO_CELL;
         }
 
         @Override
-        protected Animal createBaby(Field field, Location location, Color colour, Genetics genetics) {
-            return new TestPredator(field, location, colour, genetics);
+        protected Animal createBaby(Field field, int cell, int colour, Genetics genetics) {
+            return new TestPredator(field, field.locationOf(cell), colour, genetics);
         }
 
         @Override
@@ -179,18 +158,18 @@ public class PredatorTest {
     * Mock prey used in hunt tests.
     */
     private static class TestPrey extends Animal {
-        public TestPrey(Field field, Location location, Color colour, Genetics genetics) {
+        public TestPrey(Field field, Location location, int colour, Genetics genetics) {
             super(field, location, colour, genetics);
         }
 
         @Override
-        protected Location findFood() {
-            return null;
+        protected int findFood() {
+            return Field.NO_CELL;
         }
 
         @Override
-        protected Animal createBaby(Field field, Location location, Color colour, Genetics genetics) {
-            return new TestPrey(field, location, colour, genetics);
+        protected Animal createBaby(Field field, int cell, int colour, Genetics genetics) {
+            return new TestPrey(field, field.locationOf(cell), colour, genetics);
         }
 
         @Override
@@ -203,18 +182,18 @@ public class PredatorTest {
     * Alternate prey species used for prioritization testing.
     */
     private static class TestAnotherPrey extends Animal {
-        public TestAnotherPrey(Field field, Location location, Color colour, Genetics genetics) {
+        public TestAnotherPrey(Field field, Location location, int colour, Genetics genetics) {
             super(field, location, colour, genetics);
         }
 
         @Override
-        protected Location findFood() {
-            return null;
+        protected int findFood() {
+            return Field.NO_CELL;
         }
 
         @Override
-        protected Animal createBaby(Field field, Location location, Color colour, Genetics genetics) {
-            return new TestAnotherPrey(field, location, colour, genetics);
+        protected Animal createBaby(Field field, int cell, int colour, Genetics genetics) {
+            return new TestAnotherPrey(field, field.locationOf(cell), colour, genetics);
         }
 
         @Override
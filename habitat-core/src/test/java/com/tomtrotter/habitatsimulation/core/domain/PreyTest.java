@@ -4,12 +4,10 @@ import com.tomtrotter.habitatsimulation.simulation.environment.Field;
 import com.tomtrotter.habitatsimulation.simulation.environment.Location;
 import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
 import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
-import javafx.scene.paint.Color;
-import org.junit.jupiter.api.AfterEach;
+import com.tomtrotter.habitatsimulation.util.Palette;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,60 +24,42 @@ class PreyTest {
     private TestLocation location;
     private TestLocation plantLocation;
     private TestGenetics genetics;
-    private SimulatorState originalState;
 
     private TestPrey prey;
     private Plant plant;
 
     /**
     * Sets up a test environment before each test case runs.
-    * This includes injecting a custom SimulatorState and placing
+    * This includes configuring the field with a custom plant food value and placing
     * test organisms (prey and plant) into a controlled field.
     */
     @BeforeEach
-    public void setUp() throws Exception {
-        originalState = SimulatorState.getInstance();
-
-        Constructor<SimulatorState> constructor = SimulatorState.class.getDeclaredConstructor();
-        constructor.setAccessible(true);
-        SimulatorState testState = constructor.newInstance();
+    public void setUp() {
+        SimulatorState testState = new SimulatorState();
         testState.setPlantFoodValue(20);
 
-        java.lang.reflect.Field instanceField = SimulatorState.class.getDeclaredField("INSTANCE");
-        instanceField.setAccessible(true);
-        instanceField.set(null, testState);
-
         // Set up test field and objects
         field = new TestField(5, 5);
+        field.setConfig(testState.snapshot());
         location = new TestLocation(1, 1);
         plantLocation = new TestLocation(1, 2);
         genetics = new TestGenetics();
 
-        prey = new TestPrey(field, location, Color.BROWN, genetics);
+        prey = new TestPrey(field, location, Palette.BROWN, genetics);
         plant = new Plant(field, plantLocation);
 
         field.placeOrganism(plant, plantLocation);
     }
 
-    /**
-    * Restores the original SimulatorState after each test to ensure isolation between tests.
-    */
-    @AfterEach
-    public void tearDown() throws Exception {
-        java.lang.reflect.Field instanceField = SimulatorState.class.getDeclaredField("INSTANCE");
-        instanceField.setAccessible(true);
-        instanceField.set(null, originalState);
-    }
-
     /**
     * Tests the grazing behavior when a plant is found in an adjacent location.
     * The prey should eat the plant, increase its food level, and the plant should die.
     */
     @Test
     public void testGrazePlantFound() {
-        Location result = prey.graze(prey);
+        int result = prey.graze(prey);
 
-        assertEquals(plantLocation, result);
+        assertEquals(field.index(plantLocation), result);
         assertFalse(plant.isAlive());
         assertEquals(20.0, prey.getFoodLevel());
     }
@@ -92,9 +72,9 @@ class PreyTest {
     public void testGrazeNoPlantFound() {
         field.placeOrganism((Animal) null, plantLocation);
 
-        Location result = prey.graze(prey);
+        int result = prey.graze(prey);
 
-        assertNull(result);
+        assertEquals(Field.NO_CELL, result);
     }
 
     /**
@@ -103,12 +83,12 @@ class PreyTest {
     */
     @Test
     public void testGrazeNonPlantFound() {
-        TestPrey otherPrey = new TestPrey(field, plantLocation, Color.GRAY, genetics);
+        TestPrey otherPrey = new TestPrey(field, plantLocation, Palette.GRAY, genetics);
         field.placeOrganism(otherPrey, plantLocation);
 
-        Location result = prey.graze(prey);
+        int result = prey.graze(prey);
 
-        assertNull(result);
+        assertEquals(Field.NO_CELL, result);
     }
 
     /**
@@ -125,9 +105,9 @@ class PreyTest {
         adjacent.add(plantLocation);
         field.setAdjacentLocations(location, adjacent);
 
-        Location result = prey.graze(prey);
+        int result = prey.graze(prey);
 
-        assertEquals(plantLocation, result);
+        assertEquals(field.index(plantLocation), result);
     }
 
     /**
@@ -135,18 +115,18 @@ class PreyTest {
     * for isolated testing of grazing and reproduction.
     */
     private static class TestPrey extends Animal implements Prey {
-        public TestPrey(Field field, Location location, Color colour, Genetics genetics) {
+        public TestPrey(Field field, Location location, int colour, Genetics genetics) {
             super(field, location, colour, genetics);
         }
 
         @Override
-        protected Location findFood() {
+        protected int findFood() {
             return graze(this);
         }
 
         @Override
-        protected Animal createBaby(Field field, Location location, Color colour, Genetics genetics) {
-            return new TestPrey(field, location, colour, genetics);
+        protected Animal createBaby(Field field, int cell, int colour, Genetics genetics) {
+            return new TestPrey(field, field.locationOf(cell), colour, genetics);
         }
 
         @Override
@@ -0,0 +1,92 @@
+package com.tomtrotter.habitatsimulation.simulation.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for the headless BatchRunner and its settings.
+*/
+class BatchRunnerTests {
+
+    /**
+    * Creates settings for a small field.
+    */
+    private BatchSettings settings(int steps, int sampleInterval) {
+        Properties properties = new Properties();
+        properties.setProperty("height", "30");
+        properties.setProperty("width", "30");
+        properties.setProperty("steps", String.valueOf(steps));
+        properties.setProperty("sampleInterval", String.valueOf(sampleInterval));
+        properties.setProperty("seed", "5");
+        return new BatchSettings(properties);
+    }
+
+    /**
+    * Tests that a run writes a time series with one row per sample and a summary with the throughput.
+    */
+    @Test
+    public void testRunWritesSeriesAndSummary(@TempDir Path output) throws IOException {
+        BatchResult result = new BatchRunner(settings(10, 5)).run();
+        result.writeTo(output);
+
+        List<String> rows = Files.readAllLines(output.resolve(BatchResult.SERIES_FILE));
+        assertEquals("step,Plant,Tiger,Leopard,Hare,Deer,WildBoar", rows.get(0), "The header should name every species.");
+        assertEquals(result.getSeries().size() + 1, rows.size(), "There should be one row per sample.");
+        assertTrue(rows.get(1).startsWith("0,"), "The first sample should be the initial population.");
+
+        Properties summary = new Properties();
+        try (var reader = Files.newBufferedReader(output.resolve(BatchResult.SUMMARY_FILE))) {
+            summary.load(reader);
+        }
+        assertEquals(String.valueOf(result.getStepsRun()), summary.getProperty("stepsRun"));
+        assertNotNull(summary.getProperty("stepsPerSecond"), "The summary should report the step rate.");
+        assertNotNull(summary.getProperty("nanosPerOrganismStep"), "The summary should report the cost per organism.");
+    }
+
+    /**
+    * Tests that the final counts match the last row of the time series.
+    */
+    @Test
+    public void testFinalCountsMatchLastSample() {
+        BatchResult result = new BatchRunner(settings(7, 3)).run();
+        int[] last = result.getSeries().get(result.getSeries().size() - 1);
+
+        assertEquals(result.getStepsRun(), last[0], "The last sample should be taken after the last step.");
+        for (int i = 0; i < result.getSpecies().size(); i++) {
+            assertEquals(last[i + 1], result.getFinalCount(result.getSpecies().get(i)));
+        }
+    }
+
+    /**
+    * Tests that two runs with the same seed produce the same time series.
+    */
+    @Test
+    public void testSameSeedGivesSameSeries() {
+        List<int[]> first = new BatchRunner(settings(10, 1)).run().getSeries();
+        List<int[]> second = new BatchRunner(settings(10, 1)).run().getSeries();
+
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertArrayEquals(first.get(i), second.get(i), "Sample " + i + " should match.");
+        }
+    }
+
+    /**
+    * Tests that malformed and out-of-range values are rejected.
+    */
+    @Test
+    public void testRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> settings(10, 1).with("height", "0"));
+        assertThrows(IllegalArgumentException.class, () -> settings(10, 1).with("steps", "many"));
+        assertThrows(IllegalArgumentException.class, () -> settings(10, 0));
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.tomtrotter.habitatsimulation.simulation.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for the EnsembleRunner and the streaming statistics it aggregates into.
+*/
+class EnsembleRunnerTests {
+
+    private static final int REPLICATES = 3;
+
+    /**
+    * Creates settings for a small field.
+    */
+    private BatchSettings settings() {
+        Properties properties = new Properties();
+        properties.setProperty("height", "25");
+        properties.setProperty("width", "25");
+        properties.setProperty("steps", "7");
+        properties.setProperty("sampleInterval", "3");
+        properties.setProperty("seed", "9");
+        return new BatchSettings(properties);
+    }
+
+    /**
+    * Tests that every sample row holds one value per replicate, at the expected steps.
+    */
+    @Test
+    public void testEveryRowCountsEveryReplicate() throws InterruptedException {
+        EnsembleResult result = new EnsembleRunner(settings(), REPLICATES, 2).run();
+
+        assertEquals(4, result.getSampleCount(), "Rows should be taken at steps 0, 3, 6 and 7.");
+        assertEquals(7, result.getStep(3), "The last row should be the last step.");
+        for (int sample = 0; sample < result.getSampleCount(); sample++) {
+            for (String species : result.getSpecies()) {
+                assertEquals(REPLICATES, result.getStatistics(sample, species).getCount());
+            }
+        }
+    }
+
+    /**
+    * Tests that the ensemble mean of the final counts matches the replicates run one by one.
+    */
+    @Test
+    public void testMeansMatchIndividualReplicates() throws InterruptedException {
+        BatchSettings settings = settings();
+        EnsembleResult result = new EnsembleRunner(settings, REPLICATES, 2).run();
+
+        BatchRunner runner = new BatchRunner(settings);
+        for (String species : result.getSpecies()) {
+            double total = 0;
+            for (int replicate = 0; replicate < REPLICATES; replicate++) {
+                long seed = EnsembleRunner.replicateSeed(settings.getSeed(), replicate);
+                total += runner.simulate(seed, (step, counts) -> { }, List.of()).getFinalCount(species);
+            }
+            assertEquals(total / REPLICATES, result.getStatistics(3, species).getMean(), 1e-9,
+                    "The mean of " + species + " should match the individual runs.");
+        }
+    }
+
+    /**
+    * Tests that the statistics, quantile estimates included, do not depend on the parallelism or on
+    * the thread count of the settings, with more replicates than the workers may run ahead by.
+    */
+    @Test
+    public void testResultIndependentOfParallelism() throws InterruptedException {
+        EnsembleResult serial = new EnsembleRunner(settings(), 8, 1).run();
+        EnsembleResult parallel = new EnsembleRunner(settings().with("threads", "2"), 8, 3).run();
+
+        for (int sample = 0; sample < serial.getSampleCount(); sample++) {
+            for (String species : serial.getSpecies()) {
+                RunningStatistics expected = serial.getStatistics(sample, species);
+                RunningStatistics actual = parallel.getStatistics(sample, species);
+                assertEquals(expected.getMean(), actual.getMean(), "The mean of " + species + " should match.");
+                assertEquals(expected.getVariance(), actual.getVariance());
+                for (int quantile = 0; quantile < EnsembleRunner.DEFAULT_QUANTILES.length; quantile++) {
+                    assertEquals(expected.getQuantile(quantile), actual.getQuantile(quantile),
+                            "The quantile estimates of " + species + " should match.");
+                }
+            }
+        }
+    }
+
+    /**
+    * Tests that replicates get distinct seeds.
+    */
+    @Test
+    public void testReplicateSeedsDiffer() {
+        assertNotEquals(EnsembleRunner.replicateSeed(9, 0), EnsembleRunner.replicateSeed(9, 1));
+    }
+
+    /**
+    * Tests the running mean and sample variance against a known data set.
+    */
+    @Test
+    public void testRunningMeanAndVariance() {
+        RunningStatistics statistics = new RunningStatistics();
+        for (double value : new double[] {2, 4, 4, 4, 5, 5, 7, 9}) {
+            statistics.add(value);
+        }
+
+        assertEquals(8, statistics.getCount());
+        assertEquals(5.0, statistics.getMean(), 1e-12);
+        assertEquals(32.0 / 7.0, statistics.getVariance(), 1e-12);
+    }
+
+    /**
+    * Tests that quantiles are exact for a handful of values and close for many shuffled values.
+    */
+    @Test
+    public void testQuantileEstimates() {
+        RunningStatistics few = new RunningStatistics(0.5);
+        for (int value = 1; value <= 5; value++) {
+            few.add(value);
+        }
+        assertEquals(3.0, few.getQuantile(0), 1e-12, "The median of five values should be exact.");
+
+        List<Integer> values = new ArrayList<>();
+        for (int value = 1; value <= 10_000; value++) {
+            values.add(value);
+        }
+        Collections.shuffle(values, new Random(3));
+
+        RunningStatistics many = new RunningStatistics(0.05, 0.5, 0.95);
+        for (int value : values) {
+            many.add(value);
+        }
+        assertEquals(500, many.getQuantile(0), 100, "The 5th percentile estimate should be close.");
+        assertEquals(5000, many.getQuantile(1), 100, "The median estimate should be close.");
+        assertEquals(9500, many.getQuantile(2), 100, "The 95th percentile estimate should be close.");
+    }
+
+    /**
+    * Tests that invalid ensemble settings are rejected.
+    */
+    @Test
+    public void testRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new EnsembleRunner(settings(), 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new EnsembleRunner(settings(), 2, -1));
+        assertThrows(IllegalArgumentException.class, () -> new RunningStatistics(1.5));
+    }
+
+}
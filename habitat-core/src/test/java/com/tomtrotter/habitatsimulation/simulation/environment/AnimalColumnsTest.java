@@ -0,0 +1,110 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.core.domain.Plant;
+import com.tomtrotter.habitatsimulation.simulation.entities.Hare;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
+import com.tomtrotter.habitatsimulation.util.Palette;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for the per-cell state of the animals on a field.
+* The animals are checked to read and write their state in the columns at their cell.
+*/
+public class AnimalColumnsTest {
+
+    /**
+    * Verifies that an animal's age, gender and infection are stored in the columns at its cell.
+    */
+    @Test
+    public void testStateIsHeldAtCell() {
+        Field field = new Field(3, 3);
+        Animal animal = new Hare(false, field, 4, Palette.BROWN, new Genetics(new SplittableRandom(1)));
+        AnimalColumns columns = field.getAnimalColumns();
+
+        animal.setAge(7);
+        animal.setGender(true);
+        animal.disease.setInfected(true);
+
+        assertEquals(7, columns.getAge(4));
+        assertTrue(columns.isMale(4));
+        assertTrue(columns.isInfected(4));
+        assertSame(animal, columns.getOwner(4));
+
+        columns.setDaysInfected(4, 3);
+        assertEquals(3, animal.disease.getDaysInfected());
+    }
+
+    /**
+    * Verifies that an animal's state and genome follow it to a new cell.
+    */
+    @Test
+    public void testStateFollowsAnimal() {
+        Field field = new Field(3, 3);
+        Genetics genetics = new Genetics(new SplittableRandom(2));
+        int maxAge = genetics.getMaxAge();
+        double metabolism = genetics.getMetabolism();
+        Animal animal = new Hare(false, field, 0, Palette.BROWN, genetics);
+        animal.setAge(5);
+        animal.disease.setInfected(true);
+
+        field.removeOrganism(0);
+        field.placeOrganism(animal, 8);
+
+        AnimalColumns columns = field.getAnimalColumns();
+        assertEquals(5, columns.getAge(8));
+        assertTrue(columns.isInfected(8));
+        assertEquals(maxAge, animal.getGenetics().getMaxAge());
+        assertEquals(metabolism, animal.getGenetics().getMetabolism());
+    }
+
+    /**
+    * Verifies that an animal whose cell is taken by another keeps its own state.
+    */
+    @Test
+    public void testReplacedAnimalKeepsState() {
+        Field field = new Field(3, 3);
+        Genetics genetics = new Genetics(new SplittableRandom(3));
+        int maxAge = genetics.getMaxAge();
+        Animal dead = new Hare(false, field, 4, Palette.BROWN, genetics);
+        dead.disease.setInfected(true);
+        field.removeOrganism(4);
+
+        Animal newcomer = new Hare(false, field, 4, Palette.BROWN, new Genetics(new SplittableRandom(4)));
+
+        assertTrue(dead.disease.isInfected());
+        assertEquals(maxAge, dead.getGenetics().getMaxAge());
+        assertFalse(newcomer.disease.isInfected());
+        assertFalse(field.getAnimalColumns().isInfected(4));
+    }
+
+    /**
+    * Verifies that the columns forget an animal once it moves away, once a plant takes its cell and
+    * once the field is cleared, and that the animal keeps its state each time.
+    */
+    @Test
+    public void testAnimalsOffFieldAreForgotten() {
+        Field field = new Field(3, 3);
+        AnimalColumns columns = field.getAnimalColumns();
+        Animal mover = new Hare(false, field, 0, Palette.BROWN, new Genetics(new SplittableRandom(5)));
+        mover.disease.setInfected(true);
+        field.removeOrganism(0);
+        field.placeOrganism(mover, 1);
+        assertNull(columns.getOwner(0));
+        assertSame(mover, columns.getOwner(1));
+
+        Animal displaced = new Hare(false, field, 4, Palette.BROWN, new Genetics(new SplittableRandom(6)));
+        displaced.disease.setInfected(true);
+        new Plant(field, 4);
+        assertNull(columns.getOwner(4));
+        assertTrue(displaced.disease.isInfected());
+
+        field.clear();
+        assertNull(columns.getOwner(1));
+        assertTrue(mover.disease.isInfected());
+    }
+}
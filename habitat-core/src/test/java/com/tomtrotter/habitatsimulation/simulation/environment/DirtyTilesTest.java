@@ -0,0 +1,117 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.core.domain.Plant;
+import com.tomtrotter.habitatsimulation.simulation.simulation.Simulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for the record of which tiles of a field changed.
+*/
+public class DirtyTilesTest {
+
+    private static final int T = DirtyTiles.TILE_SIZE;
+
+    /**
+    * Verifies the tile layout, including the smaller tiles along the right and bottom edges.
+    */
+    @Test
+    public void testTileBounds() {
+        DirtyTiles tiles = new Field(2 * T + 1, 3 * T - 1).getDirtyTiles();
+        assertEquals(9, tiles.getTileCount());
+        assertEquals(2 * T, tiles.tileX(2));
+        assertEquals(T - 1, tiles.tileWidth(2));
+        assertEquals(2 * T, tiles.tileY(6));
+        assertEquals(1, tiles.tileHeight(6));
+        assertEquals(T, tiles.tileHeight(0));
+    }
+
+    /**
+    * Ensures a first snapshot reports every tile, then each snapshot only the tiles of cells placed or
+    * removed since the one before.
+    */
+    @Test
+    public void testSnapshotReportsChangedTiles() {
+        Field field = new Field(2 * T, 2 * T);
+        DirtyTiles tiles = field.getDirtyTiles();
+        int[] stamps = new int[tiles.getTileCount()];
+        int seen = tiles.snapshot(stamps);
+        assertArrayEquals(new int[] {0, 1, 2, 3}, changedSince(stamps, 0));
+        int next = tiles.snapshot(stamps);
+        assertEquals(0, changedSince(stamps, seen).length);
+        seen = next;
+
+        new Plant(field, field.index(0, T + 1));
+        field.removeOrganism(field.index(2 * T - 1, 2 * T - 1));
+        next = tiles.snapshot(stamps);
+        assertArrayEquals(new int[] {1, 3}, changedSince(stamps, seen));
+        seen = next;
+
+        field.clear();
+        tiles.snapshot(stamps);
+        assertEquals(4, changedSince(stamps, seen).length);
+    }
+
+    /**
+    * Verifies that each observer sees every change since its own last snapshot, whatever other observers took.
+    */
+    @Test
+    public void testObserversAreIndependent() {
+        Field field = new Field(2 * T, 2 * T);
+        DirtyTiles tiles = field.getDirtyTiles();
+        int[] stamps = new int[tiles.getTileCount()];
+        int first = tiles.snapshot(stamps);
+        int second = tiles.snapshot(stamps);
+
+        new Plant(field, field.index(T + 1, 1));
+        int upTo = tiles.snapshot(stamps);
+        assertArrayEquals(new int[] {2}, changedSince(stamps, first));
+        first = upTo;
+        new Plant(field, field.index(1, T + 1));
+        tiles.snapshot(stamps);
+        assertArrayEquals(new int[] {1, 2}, changedSince(stamps, second));
+        assertArrayEquals(new int[] {1}, changedSince(stamps, first));
+    }
+
+    /**
+    * Ensures that every cell whose species changed in a step lies in a tile stamped during that step,
+    * with the serial and the tiled engine.
+    */
+    @Test
+    public void testStampsCoverEveryChange() {
+        for (int threads : new int[] {0, 3}) {
+            try (Simulator simulator = new Simulator(70, 50, threads, 9L)) {
+                Field field = simulator.getField();
+                DirtyTiles tiles = field.getDirtyTiles();
+                int tilesWide = (field.getWidth() + T - 1) / T;
+                int[] stamps = new int[tiles.getTileCount()];
+                byte[] before = new byte[field.getCellCount()];
+                int seen = tiles.snapshot(stamps);
+                for (int step = 0; step < 8; step++) {
+                    for (int cell = 0; cell < before.length; cell++) {
+                        before[cell] = field.getSpeciesCode(cell);
+                    }
+                    simulator.simulateOneStep();
+                    int upTo = tiles.snapshot(stamps);
+                    for (int cell = 0; cell < before.length; cell++) {
+                        if (before[cell] != field.getSpeciesCode(cell)) {
+                            int tile = (cell / field.getWidth() / T) * tilesWide + (cell % field.getWidth()) / T;
+                            assertTrue(stamps[tile] > seen, "Cell " + cell + " at step " + step + " with " + threads + " threads");
+                        }
+                    }
+                    seen = upTo;
+                }
+            }
+        }
+    }
+
+    /**
+    * Returns the tiles whose stamps are above a version, in ascending order.
+    */
+    private static int[] changedSince(int[] stamps, int version) {
+        return IntStream.range(0, stamps.length).filter(tile -> stamps[tile] > version).toArray();
+    }
+}
@@ -0,0 +1,78 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.core.domain.Plant;
+import com.tomtrotter.habitatsimulation.simulation.simulation.Simulator;
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for capturing a field into reusable frames.
+*/
+public class FieldFrameTest {
+
+    /**
+    * Ensures frames reused in turn, as by a triple buffer, always match the field they were captured from,
+    * though each capture copies only the tiles changed since that frame's previous capture.
+    */
+    @Test
+    public void testReusedFramesMatchField() {
+        Simulator simulator = new Simulator(45, 60, 0, 13L);
+        Field field = simulator.getField();
+        FieldFrame[] frames = {new FieldFrame(45, 60), new FieldFrame(45, 60), new FieldFrame(45, 60)};
+        for (int step = 0; step < 12; step++) {
+            simulator.simulateOneStep();
+            FieldFrame frame = frames[step % frames.length];
+            frame.capture(field, simulator.getStep());
+
+            assertEquals(simulator.getStep(), frame.getGeneration());
+            for (int cell = 0; cell < field.getCellCount(); cell++) {
+                assertEquals(field.getSpeciesCode(cell), frame.getSpeciesCode(cell), "Cell " + cell);
+            }
+            for (int id = 0; id < SpeciesRegistry.size(); id++) {
+                assertEquals(field.getCounts().getCount(id), frame.getCount(id));
+                assertEquals(field.getCounts().getInfected(id), frame.getInfected(id));
+            }
+        }
+    }
+
+    /**
+    * Verifies that a later frame reports the tiles changed since an earlier one, including changes
+    * captured by frames in between.
+    */
+    @Test
+    public void testChangedSinceEarlierFrame() {
+        Field field = new Field(2 * DirtyTiles.TILE_SIZE, 2 * DirtyTiles.TILE_SIZE);
+        FieldFrame first = new FieldFrame(field.getHeight(), field.getWidth());
+        FieldFrame second = new FieldFrame(field.getHeight(), field.getWidth());
+        first.capture(field, 0);
+        int drawn = first.getVersion();
+
+        new Plant(field, field.index(0, 0));
+        second.capture(field, 1);
+        new Plant(field, field.index(field.getHeight() - 1, 0));
+        first.capture(field, 2);
+
+        assertTrue(first.changedSince(0, drawn));
+        assertFalse(first.changedSince(1, drawn));
+        assertTrue(first.changedSince(2, drawn));
+        assertFalse(first.changedSince(0, second.getVersion()));
+        assertEquals(Field.PLANT, first.getSpeciesCode(field.index(0, 0)));
+    }
+
+    /**
+    * Verifies that a frame holds the species code of every cell of the field, and that fields of another size are rejected.
+    */
+    @Test
+    public void testCodesAndSize() {
+        Simulator simulator = new Simulator(30, 30, 0, 2L);
+        FieldFrame frame = new FieldFrame(30, 30);
+        frame.capture(simulator.getField(), 0);
+        for (int cell = 0; cell < 900; cell++) {
+            assertEquals(simulator.getField().getSpeciesCode(cell), frame.getSpeciesCode(cell), "Cell " + cell);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> frame.capture(new Field(30, 31), 0));
+    }
+}
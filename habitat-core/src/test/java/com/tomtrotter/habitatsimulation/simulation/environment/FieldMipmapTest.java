@@ -0,0 +1,83 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.simulation.simulation.Simulator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for the pyramid of block summaries drawn when a field is zoomed out.
+*/
+public class FieldMipmapTest {
+
+    /**
+    * Ensures a pyramid updated only from the tiles changed between frames, reused in turn as by a
+    * triple buffer, always holds the same summaries as one computed from scratch from the frame.
+    */
+    @Test
+    public void testIncrementalMatchesRebuild() {
+        Simulator simulator = new Simulator(45, 67, 0, 21L);
+        FieldFrame[] frames = {new FieldFrame(45, 67), new FieldFrame(45, 67), new FieldFrame(45, 67)};
+        FieldMipmap mipmap = new FieldMipmap(45, 67);
+        for (int step = 0; step < 10; step++) {
+            simulator.simulateOneStep();
+            FieldFrame frame = frames[step % frames.length];
+            frame.capture(simulator.getField(), simulator.getStep());
+            mipmap.update(frame);
+
+            byte[] below = new byte[45 * 67];
+            for (int cell = 0; cell < below.length; cell++) {
+                below[cell] = frame.getSpeciesCode(cell);
+            }
+            for (int level = 1; level < mipmap.getLevelCount(); level++) {
+                byte[] expected = summarise(below, mipmap.getWidth(level - 1), mipmap.getHeight(level - 1));
+                for (int block = 0; block < expected.length; block++) {
+                    assertEquals(expected[block], mipmap.getSpeciesCode(level, block), "Level " + level + " block " + block);
+                }
+                below = expected;
+            }
+        }
+    }
+
+    /**
+    * Verifies the majority rule, its tie-break, the number of levels and the level chosen for a zoom.
+    */
+    @Test
+    public void testMajorityAndLevels() {
+        assertEquals(1, FieldMipmap.majority((byte) 1, (byte) 1, (byte) 2, (byte) 3));
+        assertEquals(2, FieldMipmap.majority((byte) 1, (byte) 2, (byte) 1, (byte) 2));
+        assertEquals(5, FieldMipmap.majority((byte) 0, (byte) 0, (byte) 5, (byte) 5));
+        assertEquals(7, FieldMipmap.majority((byte) 0, (byte) 7, (byte) 1, (byte) 2));
+
+        FieldMipmap mipmap = new FieldMipmap(100, 60);
+        assertEquals(8, mipmap.getLevelCount());
+        assertEquals(1, mipmap.getWidth(7));
+        assertEquals(1, mipmap.getHeight(7));
+        assertEquals(0, mipmap.levelFor(0.5));
+        assertEquals(0, mipmap.levelFor(1.9));
+        assertEquals(1, mipmap.levelFor(3.9));
+        assertEquals(7, mipmap.levelFor(1000));
+        assertThrows(IllegalArgumentException.class, () -> mipmap.update(new FieldFrame(60, 100)));
+    }
+
+    /**
+    * Halves a level the long way: each block takes the majority of the four blocks under it,
+    * counting the last row or column twice where the level below has an odd size.
+    */
+    private static byte[] summarise(byte[] below, int width, int height) {
+        int levelWidth = (width + 1) / 2;
+        int levelHeight = (height + 1) / 2;
+        byte[] level = new byte[levelWidth * levelHeight];
+        for (int row = 0; row < levelHeight; row++) {
+            for (int col = 0; col < levelWidth; col++) {
+                int x = 2 * col;
+                int y = 2 * row;
+                int right = Math.min(x + 1, width - 1);
+                int down = Math.min(y + 1, height - 1);
+                level[row * levelWidth + col] = FieldMipmap.majority(below[y * width + x], below[y * width + right],
+                        below[down * width + x], below[down * width + right]);
+            }
+        }
+        return level;
+    }
+}
@@ -0,0 +1,80 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.core.domain.Plant;
+import com.tomtrotter.habitatsimulation.simulation.entities.Tiger;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
+import com.tomtrotter.habitatsimulation.simulation.simulation.Simulator;
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+import com.tomtrotter.habitatsimulation.util.Palette;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for rendering a field into an ARGB buffer.
+*/
+public class FieldRasterTest {
+
+    /**
+    * Renders a field at one pixel per cell, through a frame and its mipmap as a front end does.
+    */
+    private static int[] render(FieldRaster raster, Field field) {
+        FieldFrame frame = new FieldFrame(field.getHeight(), field.getWidth());
+        frame.capture(field, 0);
+        FieldMipmap mipmap = new FieldMipmap(field.getHeight(), field.getWidth());
+        mipmap.update(frame);
+        int[] argb = new int[field.getCellCount()];
+        raster.render(new Viewport(field.getHeight(), field.getWidth(), field.getWidth(), field.getHeight()),
+                mipmap, argb);
+        return argb;
+    }
+
+    /**
+    * Verifies that each cell is drawn in its species' colour and empty cells in white, row by row.
+    */
+    @Test
+    public void testCellsTakeSpeciesColour() {
+        Field field = new Field(2, 3);
+        new Plant(field, field.index(0, 1));
+        new Tiger(false, field, field.index(1, 2), Palette.ORANGE, new Genetics(new SplittableRandom(1)));
+
+        int[] argb = render(new FieldRaster(), field);
+
+        int white = Palette.argb(Palette.WHITE);
+        assertArrayEquals(new int[] {
+                white, Palette.argb(Palette.GREEN), white,
+                white, white, Palette.argb(Palette.ORANGE)
+        }, argb);
+    }
+
+    /**
+    * Ensures the rendered image matches the colour of every organism after a few steps.
+    */
+    @Test
+    public void testMatchesOrganismsAfterSteps() {
+        Simulator simulator = new Simulator(50, 40, 0, 11L);
+        FieldRaster raster = new FieldRaster();
+        for (int step = 0; step < 5; step++) {
+            simulator.simulateOneStep();
+            int[] argb = render(raster, simulator.getField());
+            Field field = simulator.getField();
+            for (int cell = 0; cell < field.getCellCount(); cell++) {
+                int expected = field.getOrganismAt(cell) == null ? Palette.WHITE
+                        : SpeciesRegistry.byId(field.getSpeciesCode(cell)).getColour();
+                assertEquals(Palette.argb(expected), argb[cell], "Cell " + cell);
+            }
+        }
+    }
+
+    /**
+    * Verifies that a buffer smaller than the view is rejected.
+    */
+    @Test
+    public void testSmallBufferRejected() {
+        FieldMipmap mipmap = new FieldMipmap(4, 4);
+        assertThrows(IllegalArgumentException.class,
+                () -> new FieldRaster().render(new Viewport(4, 4, 4, 4), mipmap, new int[15]));
+    }
+}
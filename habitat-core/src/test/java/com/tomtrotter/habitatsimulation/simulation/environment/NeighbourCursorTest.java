@@ -0,0 +1,133 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.util.RandomStreams;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for NeighbourCursor.
+* These tests check that a cursor visits exactly the cells adjacent to its centre,
+* handles the edges of the field, and replays the same order after a rewind.
+*/
+class NeighbourCursorTest {
+
+    private Field field;
+
+    /**
+    * Creates a small field before each test.
+    */
+    @BeforeEach
+    public void setUp() {
+        field = new Field(4, 5);
+    }
+
+    /**
+    * Tests that an interior cell has all eight neighbours, each visited exactly once.
+    */
+    @Test
+    public void testInteriorCellVisitsEightNeighbours() {
+        Set<Integer> visited = drain(field.neighbours(field.index(1, 2)));
+
+        Set<Integer> expected = Set.of(
+                field.index(0, 1), field.index(0, 2), field.index(0, 3),
+                field.index(1, 1), field.index(1, 3),
+                field.index(2, 1), field.index(2, 2), field.index(2, 3));
+        assertEquals(expected, visited);
+    }
+
+    /**
+    * Tests that a corner cell only visits the three neighbours inside the field.
+    */
+    @Test
+    public void testCornerCellStaysInsideField() {
+        NeighbourCursor cursor = field.neighbours(field.index(3, 4));
+
+        assertEquals(3, cursor.size());
+        assertEquals(Set.of(field.index(2, 3), field.index(2, 4), field.index(3, 3)), drain(cursor));
+    }
+
+    /**
+    * Tests that an edge cell does not wrap around to the neighbouring row.
+    */
+    @Test
+    public void testEdgeCellDoesNotWrap() {
+        Set<Integer> visited = drain(field.neighbours(field.index(1, 0)));
+
+        assertEquals(5, visited.size());
+        assertFalse(visited.contains(field.index(0, 4)), "Left edge should not wrap to the previous row.");
+        assertFalse(visited.contains(field.index(1, 4)), "Left edge should not wrap to the same row's end.");
+    }
+
+    /**
+    * Tests that rewinding a partially walked cursor replays the visited cells in the same order
+    * and then continues with the remaining cells.
+    */
+    @Test
+    public void testRewindReplaysOrder() {
+        NeighbourCursor cursor = field.neighbours(field.index(2, 2));
+        int first = cursor.next();
+        int second = cursor.next();
+
+        cursor.rewind();
+        List<Integer> replay = new ArrayList<>();
+        while (cursor.hasNext()) {
+            replay.add(cursor.next());
+        }
+
+        assertEquals(8, replay.size());
+        assertEquals(first, replay.get(0));
+        assertEquals(second, replay.get(1));
+        assertEquals(8, new HashSet<>(replay).size(), "Every neighbour should still be visited exactly once.");
+    }
+
+    /**
+    * Tests that asking for a cell past the end of the neighbourhood fails.
+    */
+    @Test
+    public void testNextPastEndThrows() {
+        NeighbourCursor cursor = field.neighbours(field.index(0, 0));
+        drain(cursor);
+
+        assertThrows(IllegalStateException.class, cursor::next);
+    }
+
+    /**
+    * Tests that without a stream of its own a walk takes its order from the field's random streams,
+    * so fields with the same seed walk a cell's neighbours in the same order.
+    */
+    @Test
+    public void testOrderFollowsFieldSeed() {
+        Field other = new Field(4, 5);
+        field.setRandomStreams(new RandomStreams(17L));
+        other.setRandomStreams(new RandomStreams(17L));
+
+        assertEquals(order(field.neighbours(field.index(2, 2))), order(other.neighbours(other.index(2, 2))));
+    }
+
+    private static List<Integer> order(NeighbourCursor cursor) {
+        List<Integer> cells = new ArrayList<>();
+        while (cursor.hasNext()) {
+            cells.add(cursor.next());
+        }
+        return cells;
+    }
+
+    /**
+    * Walks a cursor to the end, checking that no cell is visited twice.
+    */
+    private Set<Integer> drain(NeighbourCursor cursor) {
+        Set<Integer> visited = new HashSet<>();
+        while (cursor.hasNext()) {
+            assertTrue(visited.add(cursor.next()), "A neighbour was visited twice.");
+        }
+        return visited;
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.core.domain.Organism;
+import com.tomtrotter.habitatsimulation.simulation.entities.Hare;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
+import com.tomtrotter.habitatsimulation.simulation.simulation.Simulator;
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+import com.tomtrotter.habitatsimulation.util.Palette;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for the population counts a field keeps as it changes.
+* The counts are checked against a full scan of the grid.
+*/
+public class PopulationCountsTest {
+
+    /**
+    * Verifies that placing, infecting, curing and removing an animal each update the counts.
+    */
+    @Test
+    public void testEventsUpdateCounts() {
+        Field field = new Field(3, 3);
+        int hare = SpeciesRegistry.idOf(Hare.class);
+        assertEquals(9, field.getCounts().getCount(SpeciesRegistry.EMPTY));
+
+        Animal animal = new Hare(false, field, 4, Palette.BROWN, new Genetics(new SplittableRandom(1)));
+        assertEquals(1, field.getCounts().getCount(hare));
+        assertEquals(0, field.getCounts().getInfected(hare));
+
+        animal.disease.setInfected(true);
+        assertEquals(1, field.getCounts().getInfected(hare));
+
+        animal.disease.setInfected(false);
+        assertEquals(0, field.getCounts().getInfected(hare));
+
+        animal.disease.setInfected(true);
+        field.removeOrganism(4);
+        assertEquals(0, field.getCounts().getCount(hare));
+        assertEquals(0, field.getCounts().getInfected(hare));
+        assertEquals(9, field.getCounts().getCount(SpeciesRegistry.EMPTY));
+    }
+
+    /**
+    * Ensures the counts match a scan of the grid after serial steps.
+    */
+    @Test
+    public void testCountsMatchScanAfterSerialSteps() {
+        Simulator simulator = new Simulator(60, 60, 0, 7L);
+        assertMatchesScan(simulator.getField());
+        for (int i = 0; i < 15; i++) {
+            simulator.simulateOneStep();
+            assertMatchesScan(simulator.getField());
+        }
+    }
+
+    /**
+    * Ensures the counts match a scan of the grid after parallel steps, where several threads update them.
+    */
+    @Test
+    public void testCountsMatchScanAfterParallelSteps() {
+        try (Simulator simulator = new Simulator(80, 80, 4, 7L)) {
+            for (int i = 0; i < 15; i++) {
+                simulator.simulateOneStep();
+                assertMatchesScan(simulator.getField());
+            }
+            simulator.reset();
+            assertMatchesScan(simulator.getField());
+        }
+    }
+
+    /**
+    * Ensures the statistics report the live counts.
+    */
+    @Test
+    public void testFieldStatsReadsCounts() {
+        Simulator simulator = new Simulator(40, 40, 0, 3L);
+        simulator.simulateOneStep();
+        Field field = simulator.getField();
+        FieldStats stats = new FieldStats();
+        stats.reset();
+
+        String details = stats.getSpeciesDetails(field, "Plant");
+        assertEquals(" Plant: " + field.getCounts().getCount(SpeciesRegistry.PLANT), details);
+        assertTrue(stats.getSpecies().contains("Plant"));
+    }
+
+    private static void assertMatchesScan(Field field) {
+        int[] count = new int[SpeciesRegistry.size()];
+        int[] infected = new int[SpeciesRegistry.size()];
+        for (int cell = 0; cell < field.getCellCount(); cell++) {
+            Organism organism = field.getOrganismAt(cell);
+            count[field.getSpeciesCode(cell)]++;
+            if (organism instanceof Animal animal && animal.disease.isInfected()) {
+                infected[animal.getSpeciesId()]++;
+            }
+        }
+        for (int id = 0; id < count.length; id++) {
+            assertEquals(count[id], field.getCounts().getCount(id), "Count of species " + id);
+            assertEquals(infected[id], field.getCounts().getInfected(id), "Infected of species " + id);
+        }
+    }
+}
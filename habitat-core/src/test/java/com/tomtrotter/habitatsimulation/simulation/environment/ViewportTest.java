@@ -0,0 +1,92 @@
+package com.tomtrotter.habitatsimulation.simulation.environment;
+
+import com.tomtrotter.habitatsimulation.core.domain.Plant;
+import com.tomtrotter.habitatsimulation.simulation.simulation.Simulator;
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+import com.tomtrotter.habitatsimulation.util.Palette;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for zooming and panning a view of a field and rendering what it shows.
+*/
+public class ViewportTest {
+
+    /**
+    * Verifies that a new view fits the field and centres it along its short side, that zooming keeps
+    * the cell under the pointer in place, and that the zoom stays between fitting the field and the closest zoom.
+    */
+    @Test
+    public void testFitAndZoom() {
+        Viewport viewport = new Viewport(400, 800, 200, 200);
+        assertEquals(4, viewport.getCellsPerPixel());
+        assertEquals(0, viewport.getOriginX());
+        assertEquals(-200, viewport.getOriginY());
+
+        viewport.zoom(2, 50, 100);
+        assertEquals(2, viewport.getCellsPerPixel());
+        assertEquals(50, viewport.toViewX(200), 1e-9);
+        assertEquals(100, viewport.toViewY(200), 1e-9);
+
+        viewport.zoom(1000, 0, 0);
+        assertEquals(1 / Viewport.MAX_PIXELS_PER_CELL, viewport.getCellsPerPixel());
+        viewport.zoom(1e-6, 0, 0);
+        assertEquals(viewport.getFitCellsPerPixel(), viewport.getCellsPerPixel());
+        assertThrows(IllegalArgumentException.class, () -> viewport.setViewSize(0, 10));
+    }
+
+    /**
+    * Ensures panning cannot move the view off the field.
+    */
+    @Test
+    public void testPanStaysOnField() {
+        Viewport viewport = new Viewport(100, 100, 50, 50);
+        viewport.zoom(4, 25, 25);
+        viewport.pan(1000, 1000);
+        assertEquals(0, viewport.getOriginX());
+        assertEquals(0, viewport.getOriginY());
+        viewport.pan(-1000, -1000);
+        assertEquals(100 - 50 * viewport.getCellsPerPixel(), viewport.getOriginX(), 1e-9);
+        assertEquals(99, viewport.columnAt(49));
+    }
+
+    /**
+    * Verifies that a view at one cell per pixel renders the field exactly, that a zoomed-out view shows
+    * block summaries, and that pixels beyond the field stay transparent.
+    */
+    @Test
+    public void testRenderView() {
+        Simulator simulator = new Simulator(64, 64, 0, 4L);
+        FieldFrame frame = new FieldFrame(64, 64);
+        frame.capture(simulator.getField(), 0);
+        FieldMipmap mipmap = new FieldMipmap(64, 64);
+        mipmap.update(frame);
+        FieldRaster raster = new FieldRaster();
+        int[] view = new int[64 * 64];
+        raster.render(new Viewport(64, 64, 64, 64), mipmap, view);
+        for (int cell = 0; cell < 64 * 64; cell++) {
+            byte code = frame.getSpeciesCode(cell);
+            int colour = code == SpeciesRegistry.EMPTY ? Palette.WHITE : SpeciesRegistry.byId(code).getColour();
+            assertEquals(Palette.argb(colour), view[cell], "Cell " + cell);
+        }
+
+        Field field = new Field(32, 64);
+        for (int row = 0; row < 32; row++) {
+            for (int col = 0; col < 32; col++) {
+                new Plant(field, field.index(row, col));
+            }
+        }
+        FieldFrame halves = new FieldFrame(32, 64);
+        halves.capture(field, 0);
+        FieldMipmap halvesMipmap = new FieldMipmap(32, 64);
+        halvesMipmap.update(halves);
+        // Four cells per pixel: the field is 16 pixels wide and 8 high, centred in 16 rows.
+        int[] small = new int[16 * 16];
+        raster.render(new Viewport(32, 64, 16, 16), halvesMipmap, small);
+        assertEquals(0, small[0]);
+        assertEquals(Palette.argb(Palette.GREEN), small[4 * 16 + 7]);
+        assertEquals(Palette.argb(Palette.WHITE), small[4 * 16 + 8]);
+        assertEquals(0, small[12 * 16 + 15]);
+    }
+}
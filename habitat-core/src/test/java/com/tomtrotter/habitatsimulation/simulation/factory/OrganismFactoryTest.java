@@ -0,0 +1,117 @@
+package com.tomtrotter.habitatsimulation.simulation.factory;
+
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.simulation.entities.Deer;
+import com.tomtrotter.habitatsimulation.simulation.entities.Leopard;
+import com.tomtrotter.habitatsimulation.simulation.entities.Tiger;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorConfig;
+import com.tomtrotter.habitatsimulation.util.Palette;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the alias tables and the species registry behind OrganismFactory.
+ */
+public class OrganismFactoryTest {
+
+    /**
+     * Verifies that an alias table draws each index in proportion to its weight, never drawing a zero weight.
+     */
+    @Test
+    public void testAliasTableFollowsWeights() {
+        double[] weights = {5.0, 0.0, 1.0, 2.0, 2.0};
+        AliasTable table = new AliasTable(weights);
+        SplittableRandom random = new SplittableRandom(3);
+
+        int samples = 200_000;
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < samples; i++) {
+            counts[table.sample(random)]++;
+        }
+
+        assertEquals(0, counts[1], "A zero weight should never be drawn.");
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / 10.0, (double) counts[i] / samples, 0.005, "Index " + i);
+        }
+    }
+
+    /**
+     * Ensures that empty, negative and all-zero weights are rejected.
+     */
+    @Test
+    public void testAliasTableRejectsInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{1.0, -1.0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{0.0, 0.0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{Double.NaN}));
+    }
+
+    /**
+     * Verifies that the factory only creates species with a positive weight, and picks up
+     * new weights when the field's configuration is replaced.
+     */
+    @Test
+    public void testFactoryFollowsConfiguredWeights() {
+        Field field = new Field(10, 10);
+        field.setConfig(withPredatorWeights(Map.of("Tiger", 0.0, "Leopard", 1.0)));
+        OrganismFactory factory = new OrganismFactory(new SplittableRandom(1), field);
+
+        for (int cell = 0; cell < 20; cell++) {
+            assertInstanceOf(Leopard.class, factory.createRandomPredator(cell));
+        }
+
+        field.setConfig(withPredatorWeights(Map.of("Tiger", 1.0)));
+        Animal tiger = factory.createRandomPredator(20);
+        assertInstanceOf(Tiger.class, tiger);
+        assertEquals(Palette.ORANGE, tiger.getColour());
+    }
+
+    /**
+     * Ensures that a registered constructor is used for its species name, and that an
+     * unregistered name with a positive weight is reported.
+     */
+    @Test
+    public void testRegistryDispatch() {
+        Field field = new Field(5, 5);
+        OrganismFactory factory = new OrganismFactory(new SplittableRandom(2), field);
+
+        SpeciesRegistry.register(Stag.class, "Stag", "S", Palette.SADDLE_BROWN, Stag::new);
+        field.setConfig(withPreyWeights(Map.of("Stag", 1.0)));
+        Animal stag = factory.createRandomPrey(0);
+        assertInstanceOf(Stag.class, stag);
+        assertEquals("S", stag.getIcon());
+
+        field.setConfig(withPreyWeights(Map.of("Unicorn", 1.0)));
+        assertThrows(IllegalStateException.class, () -> factory.createRandomPrey(1));
+    }
+
+    /**
+     * A species registered by the test, to check that the factory dispatches through the registry.
+     */
+    public static class Stag extends Deer {
+        public Stag(boolean isGen1, Field field, int cell, int colour, Genetics genetics) {
+            super(isGen1, field, cell, colour, genetics);
+        }
+    }
+
+    private static SimulatorConfig withPredatorWeights(Map<String, Double> weights) {
+        SimulatorConfig base = SimulatorConfig.DEFAULT;
+        return new SimulatorConfig(base.plantFoodValue(), base.preyFoodValue(), base.diseaseDuration(),
+                base.mortalityRate(), base.mutationProbability(), new LinkedHashMap<>(weights), base.preyWeights());
+    }
+
+    private static SimulatorConfig withPreyWeights(Map<String, Double> weights) {
+        SimulatorConfig base = SimulatorConfig.DEFAULT;
+        return new SimulatorConfig(base.plantFoodValue(), base.preyFoodValue(), base.diseaseDuration(),
+                base.mortalityRate(), base.mutationProbability(), base.predatorWeights(), new LinkedHashMap<>(weights));
+    }
+
+}
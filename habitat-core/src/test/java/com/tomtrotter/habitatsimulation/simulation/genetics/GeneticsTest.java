@@ -0,0 +1,249 @@
+package com.tomtrotter.habitatsimulation.simulation.genetics;
+
+import com.tomtrotter.habitatsimulation.simulation.genetics.attributes.*;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for the Genetics class.
+* These tests validate attribute management, mutation logic, and inheritance behavior
+* in the genetic system used within the habitat simulation.
+*/
+public class GeneticsTest {
+
+    /**
+    * Set up method to initialize the GeneticAttributeManager.
+    * Currently, ensures that the singleton manager is available before tests.
+    */
+    @BeforeEach
+    public void setUp() {
+        GeneticAttributeManager manager = GeneticAttributeManager.getInstance();
+    }
+
+    /**
+    * Verifies that a newly created {@link Genetics} instance assigns random values
+    * within the defined range for the BREEDING_AGE attribute.
+    */
+    @Test
+    public void testRandomAttributeGeneration() {
+        Genetics genetics = new Genetics();
+        int breedingAge = genetics.getBreedingAge();
+
+        assertTrue(breedingAge >= 12 && breedingAge <= 90, "Breeding age should be within defined range.");
+    }
+
+    /**
+    * Tests that setting a valid value for a genetic attribute works correctly.
+    * Specifically checks if BREEDING_AGE is updated as expected.
+    */
+    @Test
+    public void testSetAttributeValid() {
+        Genetics genetics = new Genetics();
+        genetics.setAttribute(Attributes.BREEDING_AGE, 14);
+        assertEquals(14, genetics.getBreedingAge());
+    }
+
+    /**
+    * Ensures that an IllegalArgumentException is thrown when attempting
+    * to set a value for an attribute that exceeds its defined bounds.
+    */
+    @Test
+    public void testSetAttributeOutOfBoundsThrows() {
+        Genetics genetics = new Genetics();
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            genetics.setAttribute(Attributes.BREEDING_AGE, 100);
+        });
+    }
+
+    /**
+    * Confirms that the copy constructor for {@link Genetics} correctly duplicates
+    * the attributes from the original instance.
+    */
+    @Test
+    public void testCopyConstructorCopiesValue() {
+        Genetics original = new Genetics();
+        original.setAttribute(Attributes.BREEDING_AGE, 14);
+
+        Genetics copy = new Genetics(original);
+
+        assertEquals(14, copy.getBreedingAge());
+    }
+
+    /**
+    * Validates that the {@code breed} method produces offspring with attribute values
+    * inherited exactly from one of the two parent instances.
+    */
+    @Test
+    public void testBreedUsesParentValues() {
+        Genetics parentA = new Genetics();
+        Genetics parentB = new Genetics();
+
+        parentA.setAttribute(Attributes.BREEDING_AGE, 14);
+        parentB.setAttribute(Attributes.BREEDING_AGE, 16);
+
+        Genetics offspring = Genetics.breed(parentA, parentB);
+        int value = offspring.getBreedingAge();
+
+        assertTrue(value == 14 || value == 16, "Offspring should inherit breeding age from either parent.");
+    }
+
+    /**
+    * Tests the advanced breeding logic that blends values from both parents
+    * using a specified weight ratio.
+    */
+    @Test
+    public void testBreedAdvancedWithBlending() {
+        Genetics parentA = new Genetics();
+        Genetics parentB = new Genetics();
+
+        parentA.setAttribute(Attributes.BREEDING_AGE, 14);
+        parentB.setAttribute(Attributes.BREEDING_AGE, 16);
+
+        Genetics child = Genetics.breedAdvanced(parentA, parentB, 0.75, true);
+
+        int expected = (int) Math.round(14 * 0.75 + 16 * 0.25);
+        assertEquals(expected, child.getBreedingAge());
+    }
+
+    /**
+    * Ensures that mutation has no effect when the mutation probability is effectively zero.
+    * This test helps guarantee stability when no mutation should occur.
+    */
+    @Test
+    public void testMutateDoesNotChangeValueWhenProbabilityIsZero() {
+        Genetics genetics = new Genetics();
+        genetics.setAttribute(Attributes.BREEDING_AGE, 14);
+
+        genetics.mutate();
+
+        assertEquals(14, genetics.getBreedingAge(), "No mutation should occur when probability is 0.");
+    }
+
+    /**
+    * Verifies that double attributes are stored and read back unchanged through both the typed
+    * getter and the generic accessor, and that a value of the wrong type is rejected.
+    */
+    @Test
+    public void testDoubleAttributeRoundTrip() {
+        Genetics genetics = new Genetics(new SplittableRandom(3));
+        genetics.setAttribute(Attributes.METABOLISM, 0.75);
+
+        assertEquals(0.75, genetics.getMetabolism());
+        assertEquals(Double.valueOf(0.75), genetics.getAttribute(Attributes.METABOLISM));
+        assertThrows(IllegalArgumentException.class, () -> genetics.setAttribute(Attributes.METABOLISM, 1));
+    }
+
+    /**
+    * Confirms that a copy does not share storage with the original.
+    */
+    @Test
+    public void testCopyIsIndependent() {
+        Genetics original = new Genetics(new SplittableRandom(3));
+        original.setAttribute(Attributes.MAX_AGE, 50);
+        original.setAttribute(Attributes.DISEASE_PROBABILITY, 0.4);
+
+        Genetics copy = original.copy();
+        copy.setAttribute(Attributes.MAX_AGE, 70);
+        copy.setAttribute(Attributes.DISEASE_PROBABILITY, 0.6);
+
+        assertEquals(50, original.getMaxAge());
+        assertEquals(0.4, original.getDiseaseProbability());
+        assertEquals(70, copy.getMaxAge());
+        assertEquals(0.6, copy.getDiseaseProbability());
+    }
+
+    /**
+    * Validates that breeding inherits every integer and double attribute from one of the parents.
+    */
+    @Test
+    public void testBreedInheritsEveryAttributeType() {
+        Genetics parentA = new Genetics(new SplittableRandom(3));
+        Genetics parentB = new Genetics(new SplittableRandom(3));
+        parentA.setAttribute(Attributes.MAX_LITTER_SIZE, 2);
+        parentB.setAttribute(Attributes.MAX_LITTER_SIZE, 8);
+        parentA.setAttribute(Attributes.BREEDING_PROBABILITY, 0.1);
+        parentB.setAttribute(Attributes.BREEDING_PROBABILITY, 0.9);
+
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 20; i++) {
+            Genetics child = Genetics.breed(parentA, parentB, random);
+            assertTrue(child.getMaxLitterSize() == 2 || child.getMaxLitterSize() == 8);
+            assertTrue(child.getBreedingProbability() == 0.1 || child.getBreedingProbability() == 0.9);
+        }
+    }
+
+    /**
+    * Verifies that breeding a litter in one call starts every child from the same crossover, and that
+    * across many litters each attribute of each child mutates at the configured rate.
+    */
+    @Test
+    public void testBreedLitterMutatesAtConfiguredRate() {
+        Genetics parentA = new Genetics(new SplittableRandom(1));
+        Genetics parentB = new Genetics(new SplittableRandom(2));
+        double probability = GeneticAttributeManager.getInstance()
+                .getAttributeDefinition(Attributes.MAX_AGE).getMutationProbability();
+
+        int trials = 0;
+        int mutated = 0;
+        for (int seed = 0; seed < 500; seed++) {
+            Genetics crossover = Genetics.breed(parentA, parentB, new SplittableRandom(seed));
+            Genetics[] litter = Genetics.breedLitter(parentA, parentB, 6, new SplittableRandom(seed));
+
+            assertEquals(6, litter.length);
+            for (Genetics child : litter) {
+                for (Attributes attribute : Attributes.values()) {
+                    trials++;
+                    if (!crossover.getAttribute(attribute).equals(child.getAttribute(attribute))) {
+                        mutated++;
+                    }
+                }
+            }
+        }
+
+        assertEquals(probability, (double) mutated / trials, 0.015, "Attributes should mutate at the configured rate.");
+    }
+
+    /**
+    * Ensures that a litter of negative size is rejected and an empty litter draws nothing.
+    */
+    @Test
+    public void testBreedLitterSizes() {
+        Genetics parent = new Genetics(new SplittableRandom(1));
+
+        assertThrows(IllegalArgumentException.class, () -> Genetics.breedLitter(parent, parent, -1, new SplittableRandom(1)));
+        assertEquals(0, Genetics.breedLitter(parent, parent, 0, new SplittableRandom(1)).length);
+    }
+
+    /**
+    * Ensures the attribute snapshot is reused until an attribute is switched on or off,
+    * and that switching an attribute to its current state publishes nothing new.
+    */
+    @Test
+    public void testAttributeSnapshotRebuiltOnlyOnChange() {
+        GeneticAttributeManager manager = GeneticAttributeManager.getInstance();
+        AttributeSnapshot before = manager.snapshot();
+
+        assertSame(before, manager.snapshot());
+        manager.setAttributeActive(Attributes.MAX_AGE, true);
+        assertSame(before, manager.snapshot(), "A no-op toggle should keep the snapshot.");
+
+        try {
+            manager.setAttributeActive(Attributes.MAX_AGE, false);
+            AttributeSnapshot after = manager.snapshot();
+
+            assertTrue(after.getVersion() > before.getVersion());
+            assertFalse(after.isActive(Attributes.MAX_AGE));
+            assertEquals(before.getActiveCount() - 1, after.getActiveCount());
+            assertEquals(0, after.getActiveMask() & (1L << Attributes.MAX_AGE.ordinal()));
+        } finally {
+            manager.setAttributeActive(Attributes.MAX_AGE, true);
+        }
+    }
+
+}
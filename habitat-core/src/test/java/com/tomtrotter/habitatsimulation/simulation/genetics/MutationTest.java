@@ -0,0 +1,84 @@
+package com.tomtrotter.habitatsimulation.simulation.genetics;
+
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
+import com.tomtrotter.habitatsimulation.simulation.genetics.mutation.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for the primitive mutation strategies and their bounds policies.
+*/
+public class MutationTest {
+
+    /**
+    * Verifies that an integer increment inside the range is applied as is.
+    */
+    @Test
+    public void testIntIncrementWithinRange() {
+        IntMutation mutation = new IntegerIncrementMutation(1, BoundsPolicy.REJECT);
+
+        assertEquals(6, mutation.mutate(5, 0, 10));
+    }
+
+    /**
+    * Verifies that an integer increment past a bound is clamped or rejected according to its policy.
+    */
+    @Test
+    public void testIntIncrementOutOfRange() {
+        IntMutation clamp = new IntegerIncrementMutation(3, BoundsPolicy.CLAMP);
+        IntMutation reject = new IntegerIncrementMutation(3, BoundsPolicy.REJECT);
+
+        assertEquals(10, clamp.mutate(9, 0, 10));
+        assertEquals(9, reject.mutate(9, 0, 10));
+        assertEquals(0, new IntegerIncrementMutation(-3, BoundsPolicy.CLAMP).mutate(1, 0, 10));
+    }
+
+    /**
+    * Verifies that a double decrement past the lower bound is clamped or rejected according to its policy.
+    */
+    @Test
+    public void testDoubleIncrementOutOfRange() {
+        DoubleMutation clamp = new DoubleIncrementMutation(-0.1, BoundsPolicy.CLAMP);
+        DoubleMutation reject = new DoubleIncrementMutation(-0.1, BoundsPolicy.REJECT);
+
+        assertEquals(0.25, clamp.mutate(0.3, 0.25, 1.0));
+        assertEquals(0.3, reject.mutate(0.3, 0.25, 1.0));
+        assertEquals(0.5, clamp.mutate(0.6, 0.25, 1.0), 1e-12);
+    }
+
+    /**
+    * Ensures the factory builds primitive strategies that reject by default, and that the boxed
+    * form of a primitive strategy applies the increment without bounds.
+    */
+    @Test
+    public void testFactoryAndBoxedForm() {
+        MutationType<Integer> mutation = MutationFactory.intIncrement(1);
+
+        IntegerIncrementMutation strategy = assertInstanceOf(IntegerIncrementMutation.class, mutation.getStrategy());
+        assertEquals(BoundsPolicy.REJECT, strategy.getPolicy());
+        assertEquals(Integer.valueOf(Integer.MAX_VALUE), MutationFactory.intIncrement(1).apply(Integer.MAX_VALUE - 1));
+        assertEquals(1.5, MutationFactory.doubleIncrement(0.5, BoundsPolicy.CLAMP).apply(1.0));
+    }
+
+    /**
+    * Ensures repeated mutation of the default attributes keeps every value within its range.
+    */
+    @Test
+    public void testMutationKeepsDefaultAttributesInRange() {
+        SplittableRandom random = new SplittableRandom(5);
+        Genetics genetics = new Genetics(random);
+        for (int i = 0; i < 2000; i++) {
+            genetics.mutate(random);
+        }
+
+        assertTrue(genetics.getBreedingAge() >= 12 && genetics.getBreedingAge() <= 90);
+        assertTrue(genetics.getMaxAge() >= 10 && genetics.getMaxAge() <= 120);
+        assertTrue(genetics.getMaxLitterSize() >= 1 && genetics.getMaxLitterSize() <= 12);
+        assertTrue(genetics.getBreedingProbability() >= 0.0 && genetics.getBreedingProbability() <= 1.0);
+        assertTrue(genetics.getMetabolism() >= 0.25 && genetics.getMetabolism() <= 1.0);
+    }
+
+}
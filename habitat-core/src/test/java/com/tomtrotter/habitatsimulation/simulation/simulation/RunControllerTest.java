@@ -0,0 +1,131 @@
+package com.tomtrotter.habitatsimulation.simulation.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for playing, pausing, single-stepping and pacing a simulator through a RunController.
+*/
+public class RunControllerTest {
+
+    /**
+    * Verifies that a controller without a target rate steps at once, and takes no step once stopped.
+    */
+    @Test
+    public void testUnlimitedStepsUntilStopped() {
+        Simulator simulator = new Simulator(20, 20, 0, 1L);
+        RunController controller = new RunController(simulator);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(controller.advance());
+        }
+        assertEquals(5, simulator.getStep());
+        assertTrue(controller.getStepNanos() > 0);
+
+        controller.stop();
+        assertFalse(controller.advance());
+        assertEquals(5, simulator.getStep());
+    }
+
+    /**
+    * Ensures a paused runner parks without stepping, takes exactly one step per single-step, and resumes on play.
+    */
+    @Test
+    public void testPauseStepAndPlay() throws InterruptedException {
+        Simulator simulator = new Simulator(20, 20, 0, 2L);
+        RunController controller = new RunController(simulator);
+        AtomicInteger steps = new AtomicInteger();
+        controller.pause();
+        Thread runner = new Thread(() -> {
+            while (controller.advance()) {
+                steps.incrementAndGet();
+            }
+        });
+        runner.start();
+
+        awaitParked(runner);
+        assertEquals(0, steps.get());
+
+        controller.step();
+        controller.step();
+        awaitSteps(steps, 2);
+        awaitParked(runner);
+        assertEquals(2, steps.get());
+        assertEquals(0, controller.getAchievedStepsPerSecond());
+
+        controller.setTargetStepsPerSecond(200);
+        controller.play();
+        awaitSteps(steps, 10);
+        controller.stop();
+        runner.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(runner.isAlive());
+    }
+
+    /**
+    * Verifies against a clock of the test's own that at a target rate each step waits one interval
+    * after the previous one, that a late step restarts the schedule instead of catching up, and that
+    * the achieved rate is reported.
+    */
+    @Test
+    public void testTargetRate() {
+        Simulator simulator = new Simulator(10, 10, 0, 3L);
+        long start = TimeUnit.SECONDS.toNanos(100);
+        long[] now = {start};
+        List<Long> waits = new ArrayList<>();
+        RunController controller = new RunController(simulator, () -> now[0], new RunController.Parker() {
+            @Override
+            public void park(Object blocker) {
+                fail("A playing runner should not park without a deadline");
+            }
+
+            @Override
+            public void parkNanos(Object blocker, long nanos) {
+                waits.add(nanos);
+                now[0] += nanos;
+            }
+        });
+        controller.setTargetStepsPerSecond(40);
+        long interval = TimeUnit.MILLISECONDS.toNanos(25);
+
+        // 41 steps at 40 per second are 40 intervals apart, the first taken at once.
+        for (int i = 0; i < 41; i++) {
+            assertTrue(controller.advance());
+        }
+        assertEquals(40, waits.size());
+        for (long wait : waits) {
+            assertEquals(interval, wait);
+        }
+        assertEquals(start + 40 * interval, now[0]);
+        assertEquals(40, controller.getAchievedStepsPerSecond(), 1e-9);
+
+        // A step that runs late is taken at once, and the next is one interval after it.
+        waits.clear();
+        now[0] += 3 * interval;
+        controller.advance();
+        controller.advance();
+        assertEquals(List.of(interval), waits);
+
+        assertThrows(IllegalArgumentException.class, () -> controller.setTargetStepsPerSecond(-1));
+    }
+
+    private static void awaitParked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "Runner did not park");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void awaitSteps(AtomicInteger steps, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (steps.get() < count) {
+            assertTrue(System.nanoTime() < deadline, "Runner took " + steps.get() + " of " + count + " steps");
+            Thread.sleep(1);
+        }
+    }
+}
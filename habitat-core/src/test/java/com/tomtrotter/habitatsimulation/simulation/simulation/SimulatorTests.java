@@ -1,6 +1,10 @@
 package com.tomtrotter.habitatsimulation.simulation.simulation;
 
 import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.simulation.entities.Leopard;
+import com.tomtrotter.habitatsimulation.simulation.entities.Tiger;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorConfig;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -83,5 +87,39 @@ class SimulatorTests {
         assertFalse(simulator.getAnimals().isEmpty(), "Field should be repopulated after reset.");
     }
 
-}
+    /**
+    * Tests that a new configuration is only picked up at the start of the next step.
+    */
+    @Test
+    public void testConfigTakesEffectAtNextStep() {
+        SimulatorConfig original = simulator.getConfig();
+        SimulatorConfig updated = original.withMortalityRate(1.0);
+
+        simulator.setConfig(updated);
+        assertSame(original, simulator.getConfig(), "The running configuration should not change mid-step.");
+
+        simulator.simulateOneStep();
+        assertSame(updated, simulator.getConfig(), "The new configuration should apply from the next step.");
+        assertSame(updated, simulator.getField().getConfig(), "Organisms should read the new configuration.");
+    }
 
+    /**
+    * Tests that simulators in one process each run with their own parameters.
+    */
+    @Test
+    public void testSimulatorsKeepTheirOwnConfig() {
+        SimulatorState tigersOnly = new SimulatorState();
+        tigersOnly.setPredatorWeight("Leopard", 0.0);
+        SimulatorState leopardsOnly = new SimulatorState();
+        leopardsOnly.setPredatorWeight("Tiger", 0.0);
+
+        Simulator tigers = new Simulator(30, 30, 0, 5L, tigersOnly.snapshot());
+        Simulator leopards = new Simulator(30, 30, 0, 5L, leopardsOnly.snapshot());
+
+        assertTrue(tigers.getAnimals().stream().anyMatch(Tiger.class::isInstance));
+        assertTrue(tigers.getAnimals().stream().noneMatch(Leopard.class::isInstance));
+        assertTrue(leopards.getAnimals().stream().anyMatch(Leopard.class::isInstance));
+        assertTrue(leopards.getAnimals().stream().noneMatch(Tiger.class::isInstance));
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.tomtrotter.habitatsimulation.simulation.simulation;
+
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.simulation.entities.Deer;
+import com.tomtrotter.habitatsimulation.simulation.entities.Hare;
+import com.tomtrotter.habitatsimulation.simulation.entities.Leopard;
+import com.tomtrotter.habitatsimulation.simulation.entities.Tiger;
+import com.tomtrotter.habitatsimulation.simulation.entities.WildBoar;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.species.SpeciesRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for the TiledStepEngine.
+* These tests run the parallel engine for several steps and check that the animal list
+* and the field stay consistent with each other, and that its population dynamics match the serial engine's.
+*/
+class TiledStepEngineTests {
+
+    private static final int TEST_SIZE = 100;
+    private static final int TEST_STEPS = 20;
+    private static final int STATS_SIZE = 60;
+    private static final int STATS_STEPS = 40;
+    private static final int STATS_SEEDS = 16;
+    private static final double STATS_ERRORS = 3;
+    private static final List<Class<? extends Animal>> SPECIES =
+            List.of(Hare.class, Deer.class, WildBoar.class, Tiger.class, Leopard.class);
+
+    /**
+    * Tests that after every parallel step each listed animal is alive, listed once,
+    * and is the organism stored in its own cell.
+    */
+    @Test
+    public void testAnimalsMatchFieldAfterParallelSteps() {
+        try (Simulator simulator = new Simulator(TEST_SIZE, TEST_SIZE, 4)) {
+            for (int i = 0; i < TEST_STEPS; i++) {
+                simulator.simulateOneStep();
+                assertConsistent(simulator);
+            }
+        }
+    }
+
+    /**
+    * Tests that the tiled engine keeps the same invariants when run on a single thread.
+    */
+    @Test
+    public void testAnimalsMatchFieldWithSingleThread() {
+        try (Simulator simulator = new Simulator(TEST_SIZE, TEST_SIZE, 1)) {
+            for (int i = 0; i < TEST_STEPS; i++) {
+                simulator.simulateOneStep();
+                assertConsistent(simulator);
+            }
+        }
+    }
+
+    /**
+    * Tests that the step count still advances when the tiled engine is used.
+    */
+    @Test
+    public void testParallelStepIncrementsStep() {
+        try (Simulator simulator = new Simulator(TEST_SIZE, TEST_SIZE, 2)) {
+            simulator.simulateOneStep();
+            assertEquals(1, simulator.getStep(), "Step count should increase by one after a parallel step.");
+        }
+    }
+
+    /**
+    * Tests that the same seed gives the same field after every step on one thread and on four.
+    */
+    @Test
+    public void testSameSeedIsIndependentOfThreadCount() {
+        try (Simulator single = new Simulator(TEST_SIZE, TEST_SIZE, 1, 42L);
+             Simulator parallel = new Simulator(TEST_SIZE, TEST_SIZE, 4, 42L)) {
+            assertArrayEquals(snapshot(single), snapshot(parallel), "The initial populations should match.");
+
+            for (int i = 0; i < TEST_STEPS; i++) {
+                single.simulateOneStep();
+                parallel.simulateOneStep();
+                assertArrayEquals(snapshot(single), snapshot(parallel), "The fields should match after step " + (i + 1) + ".");
+            }
+        }
+    }
+
+    /**
+    * Tests that different seeds give different populations.
+    */
+    @Test
+    public void testDifferentSeedsDiffer() {
+        try (Simulator first = new Simulator(TEST_SIZE, TEST_SIZE, 2, 1L);
+             Simulator second = new Simulator(TEST_SIZE, TEST_SIZE, 2, 2L)) {
+            assertFalse(Arrays.equals(snapshot(first), snapshot(second)), "Different seeds should give different populations.");
+        }
+    }
+
+    /**
+    * Tests that over many seeds the tiled engine's mean population of every species follows the serial
+    * engine's, step by step, within a few standard errors of the difference between the two means
+    * (and half an animal, for species that have all but died out).
+    */
+    @Test
+    public void testDynamicsMatchSerialEngine() {
+        double[][][] serial = populationMoments(0);
+        double[][][] tiled = populationMoments(4);
+
+        for (int species = 0; species < SPECIES.size(); species++) {
+            for (int step = 0; step <= STATS_STEPS; step++) {
+                double[] a = serial[species][step];
+                double[] b = tiled[species][step];
+                double standardError = Math.sqrt((a[1] + b[1]) / STATS_SEEDS);
+                assertEquals(a[0], b[0], STATS_ERRORS * standardError + 0.5,
+                        SPECIES.get(species).getSimpleName() + " at step " + step);
+            }
+        }
+    }
+
+    /**
+    * Runs one simulation per seed and returns, per species and step, the mean and the sample variance
+    * of the species' population across the seeds.
+    */
+    private static double[][][] populationMoments(int threads) {
+        double[][][] moments = new double[SPECIES.size()][STATS_STEPS + 1][2];
+        for (long seed = 1; seed <= STATS_SEEDS; seed++) {
+            try (Simulator simulator = new Simulator(STATS_SIZE, STATS_SIZE, threads, seed)) {
+                for (int step = 0; step <= STATS_STEPS; step++) {
+                    if (step > 0) {
+                        simulator.simulateOneStep();
+                    }
+                    for (int species = 0; species < SPECIES.size(); species++) {
+                        int count = simulator.getField().getCounts().getCount(SpeciesRegistry.idOf(SPECIES.get(species)));
+                        moments[species][step][0] += count;
+                        moments[species][step][1] += (double) count * count;
+                    }
+                }
+            }
+        }
+        for (double[][] species : moments) {
+            for (double[] step : species) {
+                double mean = step[0] / STATS_SEEDS;
+                step[1] = (step[1] - STATS_SEEDS * mean * mean) / (STATS_SEEDS - 1);
+                step[0] = mean;
+            }
+        }
+        return moments;
+    }
+
+    /**
+    * Tests that a closed simulator has shut down its engine's workers and takes no further parallel steps.
+    */
+    @Test
+    public void testCloseShutsDownWorkers() {
+        Simulator simulator = new Simulator(TEST_SIZE, TEST_SIZE, 2, 3L);
+        simulator.simulateOneStep();
+        simulator.close();
+        assertThrows(RejectedExecutionException.class, simulator::simulateOneStep);
+    }
+
+    /**
+    * Tests that invalid engine settings are rejected.
+    */
+    @Test
+    public void testRejectsInvalidSettings() {
+        Field field = new Field(10, 10);
+        assertThrows(IllegalArgumentException.class, () -> new TiledStepEngine(field, 0, 8));
+        assertThrows(IllegalArgumentException.class, () -> new TiledStepEngine(field, 2, 1));
+    }
+
+    /**
+    * Captures the species in every cell, followed by the cell of every listed animal in list order.
+    */
+    private int[] snapshot(Simulator simulator) {
+        Field field = simulator.getField();
+        List<Animal> animals = simulator.getAnimals();
+        int[] snapshot = new int[field.getCellCount() + animals.size()];
+
+        for (int cell = 0; cell < field.getCellCount(); cell++) {
+            snapshot[cell] = field.getSpeciesCode(cell);
+        }
+        for (int i = 0; i < animals.size(); i++) {
+            snapshot[field.getCellCount() + i] = animals.get(i).getCell();
+        }
+        return snapshot;
+    }
+
+    /**
+    * Checks that the animal list and the field agree with each other.
+    */
+    private void assertConsistent(Simulator simulator) {
+        Field field = simulator.getField();
+        List<Animal> animals = simulator.getAnimals();
+        Set<Animal> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (Animal animal : animals) {
+            assertTrue(animal.isAlive(), "Dead animals should be removed from the list.");
+            assertTrue(seen.add(animal), "An animal should be listed only once.");
+            assertSame(animal, field.getOrganismAt(animal.getCell()), "An animal should be stored in its own cell.");
+        }
+
+        int animalsInField = 0;
+        for (int cell = 0; cell < field.getCellCount(); cell++) {
+            if (field.getOrganismAt(cell) instanceof Animal) {
+                animalsInField++;
+            }
+        }
+        assertEquals(animals.size(), animalsInField, "Every animal in the field should be listed.");
+    }
+
+}
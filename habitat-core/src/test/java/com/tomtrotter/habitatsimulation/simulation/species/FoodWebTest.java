@@ -0,0 +1,117 @@
+package com.tomtrotter.habitatsimulation.simulation.species;
+
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.core.domain.Plant;
+import com.tomtrotter.habitatsimulation.simulation.batch.BatchSettings;
+import com.tomtrotter.habitatsimulation.simulation.entities.*;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorConfig;
+import com.tomtrotter.habitatsimulation.util.Palette;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for the food web and the diets it gives animals.
+*/
+public class FoodWebTest {
+
+    /**
+    * Verifies that the built-in web holds the diets of the built-in species, by life stage.
+    */
+    @Test
+    public void testDefaultDiets() {
+        int tiger = SpeciesRegistry.idOf(Tiger.class);
+        int hare = SpeciesRegistry.idOf(Hare.class);
+        int boar = SpeciesRegistry.idOf(WildBoar.class);
+
+        PreyPreference young = FoodWeb.DEFAULT.dietOf(tiger, true);
+        PreyPreference adult = FoodWeb.DEFAULT.dietOf(tiger, false);
+        assertEquals(0, young.rankOf(hare));
+        assertFalse(young.includes(boar));
+        assertEquals(0, adult.rankOf(boar));
+
+        PreyPreference boarDiet = FoodWeb.DEFAULT.dietOf(boar, false);
+        assertEquals(0, boarDiet.rankOf(hare));
+        assertEquals(1, boarDiet.rankOf(SpeciesRegistry.PLANT));
+        assertSame(PreyPreference.NONE, FoodWeb.DEFAULT.dietOf(SpeciesRegistry.PLANT, false));
+    }
+
+    /**
+    * Ensures diet keys replace entries of the web, with a stage key overriding the key for both stages.
+    */
+    @Test
+    public void testDietKeys() {
+        Properties properties = new Properties();
+        properties.setProperty("diet.Tiger", "Deer");
+        properties.setProperty("diet.Tiger.young", "Hare, Plant");
+        properties.setProperty("diet.Deer", "");
+        FoodWeb web = new BatchSettings(properties).toConfig().foodWeb();
+
+        int tiger = SpeciesRegistry.idOf(Tiger.class);
+        PreyPreference adult = web.dietOf(tiger, false);
+        PreyPreference young = web.dietOf(tiger, true);
+        assertEquals(1, adult.size());
+        assertEquals(0, adult.rankOf(SpeciesRegistry.idOf(Deer.class)));
+        assertEquals(1, young.rankOf(SpeciesRegistry.PLANT));
+        assertEquals(0, web.dietOf(SpeciesRegistry.idOf(Deer.class), false).size());
+        assertSame(FoodWeb.DEFAULT.dietOf(SpeciesRegistry.idOf(Hare.class), true),
+                web.dietOf(SpeciesRegistry.idOf(Hare.class), true));
+    }
+
+    /**
+    * Verifies that names which are not registered species are rejected.
+    */
+    @Test
+    public void testUnknownSpeciesRejected() {
+        assertThrows(IllegalArgumentException.class, () -> FoodWeb.DEFAULT.withDiet("Dragon", List.of("Hare")));
+        assertThrows(IllegalArgumentException.class, () -> FoodWeb.DEFAULT.withDiet("Hare", List.of("Clover")));
+
+        Properties properties = new Properties();
+        properties.setProperty("diet.Tiger.adult", "Unicorn");
+        assertThrows(IllegalArgumentException.class, () -> new BatchSettings(properties).toConfig());
+    }
+
+    /**
+    * Ensures a new species given a diet only through the configuration eats the most preferred adjacent food
+    * and gains the food value of a prey for it.
+    */
+    @Test
+    public void testConfiguredDietIsEaten() {
+        SpeciesRegistry.register(Grazer.class, "Grazer", "🦌", Palette.SADDLE_BROWN, null);
+        Field field = new Field(3, 3);
+        SimulatorConfig config = SimulatorConfig.DEFAULT
+                .withFoodWeb(FoodWeb.DEFAULT.withDiet("Grazer", List.of("Hare", "Plant")));
+        field.setConfig(config);
+        Grazer grazer = new Grazer(field, 4);
+        Animal hare = new Hare(false, field, 1, Palette.BROWN, new Genetics(new SplittableRandom(2)));
+        Plant plant = new Plant(field, 3);
+
+        assertEquals(1, grazer.feed());
+        assertFalse(hare.isAlive());
+        assertTrue(plant.isAlive());
+        assertEquals(config.preyFoodValue(), grazer.food());
+    }
+
+    /**
+    * A deer subclass whose diet is left entirely to the food web.
+    */
+    private static class Grazer extends Deer {
+        Grazer(Field field, int cell) {
+            super(false, field, cell, Palette.SADDLE_BROWN, new Genetics(new SplittableRandom(1)));
+        }
+
+        int feed() {
+            return findFood();
+        }
+
+        double food() {
+            return getFoodLevel();
+        }
+    }
+}
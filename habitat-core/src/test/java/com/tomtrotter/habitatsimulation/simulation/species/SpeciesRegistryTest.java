@@ -0,0 +1,68 @@
+package com.tomtrotter.habitatsimulation.simulation.species;
+
+import com.tomtrotter.habitatsimulation.core.domain.Animal;
+import com.tomtrotter.habitatsimulation.core.domain.Plant;
+import com.tomtrotter.habitatsimulation.simulation.entities.*;
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.genetics.core.Genetics;
+import com.tomtrotter.habitatsimulation.util.Palette;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for the species registry and the prey preference tables built on it.
+*/
+public class SpeciesRegistryTest {
+
+    /**
+    * Verifies that the built-in species have fixed ids, with plants first, and their registered details.
+    */
+    @Test
+    public void testBuiltInSpecies() {
+        assertEquals(SpeciesRegistry.PLANT, SpeciesRegistry.idOf(Plant.class));
+        assertEquals(SpeciesRegistry.PLANT + 1, SpeciesRegistry.idOf(Tiger.class));
+
+        Species hare = SpeciesRegistry.byName("Hare");
+        assertSame(hare, SpeciesRegistry.byId(hare.getId()));
+        assertEquals(Hare.class, hare.getType());
+        assertEquals(Palette.BROWN, hare.getColour());
+        assertNotNull(hare.getConstructor());
+        assertNull(SpeciesRegistry.byName("Plant").getConstructor());
+    }
+
+    /**
+    * Ensures an organism looks its species up on creation and the field stores the same id.
+    */
+    @Test
+    public void testOrganismCarriesSpeciesId() {
+        Field field = new Field(3, 3);
+        Animal deer = new Deer(false, field, 4, Palette.SADDLE_BROWN, new Genetics(new SplittableRandom(1)));
+
+        assertSame(SpeciesRegistry.of(Deer.class), deer.getSpecies());
+        assertEquals(deer.getSpeciesId(), field.getSpeciesCode(4));
+        assertEquals("🦌", deer.getIcon());
+    }
+
+    /**
+    * Verifies that a preference ranks species in the order given, keeps the first rank of a duplicate,
+    * and excludes species not listed.
+    */
+    @Test
+    public void testPreyPreferenceRanks() {
+        PreyPreference preference = PreyPreference.of(WildBoar.class, Deer.class, WildBoar.class);
+        int boar = SpeciesRegistry.idOf(WildBoar.class);
+        int deer = SpeciesRegistry.idOf(Deer.class);
+        int hare = SpeciesRegistry.idOf(Hare.class);
+
+        assertEquals(2, preference.size());
+        assertTrue(preference.includes(boar));
+        assertEquals(0, preference.rankOf(boar));
+        assertEquals(1, preference.rankOf(deer));
+        assertFalse(preference.includes(hare));
+        assertEquals(PreyPreference.NOT_PREY, preference.rankOf(hare));
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.tomtrotter.habitatsimulation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for the geometric-skip BernoulliSampler.
+*/
+public class BernoulliSamplerTest {
+
+    /**
+    * Verifies that skipping gaps gives the same success rate as rolling every trial.
+    */
+    @Test
+    public void testSuccessRateMatchesProbability() {
+        BernoulliSampler sampler = new BernoulliSampler(0.05);
+        SplittableRandom random = new SplittableRandom(7);
+
+        long trials = 2_000_000;
+        long successes = 0;
+        long draws = 0;
+        for (long trial = sampler.nextGap(random); trial < trials; trial += 1L + sampler.nextGap(random)) {
+            successes++;
+            draws++;
+        }
+
+        assertEquals(0.05, (double) successes / trials, 0.001);
+        assertTrue(draws < trials / 10, "Only successes should draw.");
+    }
+
+    /**
+    * Ensures the first trial succeeds exactly when a single roll below the probability would.
+    */
+    @Test
+    public void testFirstTrialMatchesSingleRoll() {
+        BernoulliSampler sampler = new BernoulliSampler(0.1);
+        for (int seed = 0; seed < 1000; seed++) {
+            boolean rolled = new SplittableRandom(seed).nextDouble() < 0.1;
+            boolean skipped = sampler.nextGap(new SplittableRandom(seed)) == 0;
+            assertEquals(rolled, skipped, "Seed " + seed);
+        }
+    }
+
+    /**
+    * Verifies that certain and impossible successes draw nothing, and NaN is rejected.
+    */
+    @Test
+    public void testEdgeProbabilities() {
+        SplittableRandom random = new SplittableRandom(1);
+        long before = new SplittableRandom(1).nextLong();
+
+        assertEquals(0, new BernoulliSampler(1.0).nextGap(random));
+        assertEquals(BernoulliSampler.NEVER, new BernoulliSampler(0.0).nextGap(random));
+        assertEquals(before, random.nextLong(), "Edge probabilities should not consume the stream.");
+        assertThrows(IllegalArgumentException.class, () -> new BernoulliSampler(Double.NaN));
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.tomtrotter.habitatsimulation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+* Unit tests for handing values between two threads through a TripleBuffer.
+*/
+public class TripleBufferTest {
+
+    /**
+    * Verifies that the consumer gets only the latest published value, once, and that the producer
+    * never gets back the slot the consumer holds.
+    */
+    @Test
+    public void testConsumerGetsLatestValue() {
+        AtomicInteger made = new AtomicInteger();
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[] {made.getAndIncrement()});
+        assertNull(buffer.poll());
+
+        buffer.back()[0] = 10;
+        buffer.publish();
+        buffer.back()[0] = 11;
+        buffer.publish();
+        int[] taken = buffer.poll();
+        assertEquals(11, taken[0]);
+        assertNull(buffer.poll());
+
+        for (int value = 12; value < 20; value++) {
+            assertNotSame(taken, buffer.back());
+            buffer.back()[0] = value;
+            buffer.publish();
+        }
+        assertEquals(11, taken[0]);
+        assertEquals(19, buffer.poll()[0]);
+    }
+
+    /**
+    * Ensures that a consumer on another thread only sees fully written values, in increasing order.
+    */
+    @Test
+    public void testValuesArriveWholeAcrossThreads() throws InterruptedException {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[64]);
+        int published = 200_000;
+        Thread producer = new Thread(() -> {
+            for (int value = 1; value <= published; value++) {
+                long[] slot = buffer.back();
+                for (int i = 0; i < slot.length; i++) {
+                    slot[i] = value;
+                }
+                buffer.publish();
+            }
+        });
+        producer.start();
+
+        long last = 0;
+        while (last < published) {
+            long[] slot = buffer.poll();
+            if (slot == null) {
+                continue;
+            }
+            for (long entry : slot) {
+                assertEquals(slot[0], entry);
+            }
+            assertTrue(slot[0] > last);
+            last = slot[0];
+        }
+        producer.join();
+    }
+}
@@ -6,11 +6,16 @@ import com.tomtrotter.habitatsimulation.ui.screens.SimulatorView;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
+import java.util.Map;
+
 /**
 * The Main class is a JavaFX application that provides a graphical user interface (GUI)
 * to visualize and interact with a habitat simulation. It displays a grid representing a field
 * with animals and plants, and allows users to start, reset, and control the simulation. The view
 * also shows simulation statistics, including the current generation and population details.
+* <p>
+* The size of the field can be given on the command line as {@code --width=<columns>} and
+* {@code --height=<rows>}; each defaults to {@link SimulatorView#DEFAULT_GRID_SIZE}.
 */
 
 public class Main extends Application {
@@ -27,7 +32,11 @@ public class Main extends Application {
         ViewState viewState = ViewState.getInstance();
         viewState.setStage(stage);
 
-        viewState.registerView(SimulatorView.class, new SimulatorView());
+        Map<String, String> parameters = getParameters().getNamed();
+        int height = Integer.parseInt(parameters.getOrDefault("height", String.valueOf(SimulatorView.DEFAULT_GRID_SIZE)));
+        int width = Integer.parseInt(parameters.getOrDefault("width", String.valueOf(SimulatorView.DEFAULT_GRID_SIZE)));
+
+        viewState.registerView(SimulatorView.class, new SimulatorView(height, width));
         viewState.registerView(SettingsView.class, new SettingsView());
 
         viewState.switchTo(SimulatorView.class);
@@ -35,8 +44,6 @@ public class Main extends Application {
         stage.setTitle("Habitat Simulator");
         stage.setResizable(false);
 
-        viewState.getView(SimulatorView.class).updateCanvas();
-
         stage.show();
     }
 
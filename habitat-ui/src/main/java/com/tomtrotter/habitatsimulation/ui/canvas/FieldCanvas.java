@@ -0,0 +1,246 @@
+package com.tomtrotter.habitatsimulation.ui.canvas;
+
+
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
+import com.tomtrotter.habitatsimulation.simulation.environment.FieldFrame;
+import com.tomtrotter.habitatsimulation.simulation.environment.FieldMipmap;
+import com.tomtrotter.habitatsimulation.simulation.environment.FieldRaster;
+import com.tomtrotter.habitatsimulation.simulation.environment.Viewport;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+* Provides a graphical representation of a field using a canvas.
+* This class extends the JavaFX Canvas and allows for drawing grid-based elements.
+* <p>
+* A field is drawn from a captured {@link FieldFrame} with {@link #drawFrame} through a
+* {@link Viewport}: the canvas keeps an image of its own size and renders into it only the part of
+* the field in view, so the cost of a frame depends on the canvas and not on the field. Zoomed
+* out, each pixel shows the most common species of the block of cells under it, taken from a
+* {@link FieldMipmap} that is brought up to date from the tiles that changed since the last frame.
+* Scrolling zooms about the pointer, dragging pans and a double click fits the whole field again.
+* Grid lines are an optional overlay, drawn once cells are large enough to show them.
+* {@link #drawMark} draws single cells.
+*/
+
+public class FieldCanvas extends Canvas {
+
+    // Grid lines are only drawn when cells are at least this many pixels wide.
+    private static final double MIN_GRID_LINE_PIXELS = 4;
+    private static final double ZOOM_STEP = 1.25;
+
+    private final int gridWidth;
+    private final int gridHeight;
+    private final GraphicsContext gc;
+    private final FieldRaster raster = new FieldRaster();
+    private final FieldMipmap mipmap;
+    private final Viewport viewport;
+    private WritableImage image;
+    private int[] pixels;
+    private FieldFrame ownFrame;
+    private boolean drawn;
+    private boolean gridLines;
+    private double dragX, dragY;
+
+    /**
+    * Constructs a new FieldCanvas with the given dimensions.
+    *
+    * @param canvasWidth The width of the canvas in pixels.
+    * @param canvasHeight The height of the canvas in pixels.
+    * @param gridWidth The number of cells in the grid's width.
+    * @param gridHeight The number of cells in the height of the grid.
+    */
+    public FieldCanvas(double canvasWidth, double canvasHeight, int gridWidth, int gridHeight) {
+        super(canvasHeight, canvasWidth);
+        gc = getGraphicsContext2D();
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+        mipmap = new FieldMipmap(gridHeight, gridWidth);
+        viewport = new Viewport(gridHeight, gridWidth, viewSize(getWidth()), viewSize(getHeight()));
+
+        setOnScroll(event -> {
+            if (event.getDeltaY() != 0) {
+                viewport.zoom(event.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP, event.getX(), event.getY());
+                redraw();
+            }
+        });
+        setOnMousePressed(event -> {
+            dragX = event.getX();
+            dragY = event.getY();
+        });
+        setOnMouseDragged(event -> {
+            viewport.pan(event.getX() - dragX, event.getY() - dragY);
+            dragX = event.getX();
+            dragY = event.getY();
+            redraw();
+        });
+        setOnMouseClicked(event -> {
+            if (event.getClickCount() == 2) {
+                viewport.fit();
+                redraw();
+            }
+        });
+
+        setScale();
+        updateSize();
+    }
+
+    private static int viewSize(double size) {
+        return Math.max(1, (int) size);
+    }
+
+    /**
+    * Updates the canvas size by recalculating the cell dimensions
+    * and clearing the canvas.
+    */
+    public void updateSize() {
+        setScale();
+        clearCanvas();
+    }
+
+    /**
+    * Fits the viewport to the canvas size, keeping the cell at its centre and the zoom where the field allows.
+    */
+    public void setScale() {
+        int width = viewSize(getWidth());
+        int height = viewSize(getHeight());
+        if (width != viewport.getViewWidth() || height != viewport.getViewHeight()) {
+            viewport.setViewSize(width, height);
+        }
+    }
+
+    /**
+    * Draws a coloured rectangle on the canvas at the specified grid position, as the viewport shows it.
+    * A black border is also drawn around the rectangle for visibility.
+    *
+    * @param x The column index in the grid.
+    * @param y The row index in the grid.
+    * @param colour The colour of the rectangle to be drawn.
+    */
+    public void drawMark(int x, int y, Color colour) {
+        double left = viewport.toViewX(x);
+        double top = viewport.toViewY(y);
+        double size = 1 / viewport.getCellsPerPixel();
+        gc.setFill(colour);
+        gc.fillRect(left, top, size + 1, size + 1);
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(0.5); // Set border thickness
+        gc.strokeRect(left, top, size + 1, size + 1);
+    }
+
+    /**
+    * Draws a field in its species' colours, replacing what was drawn before. The field is captured
+    * into a frame of the canvas' own, so only call this while the field does not change.
+    *
+    * @param field The field to draw; it must have the canvas' grid size.
+    * @throws IllegalArgumentException If the field's size differs from the grid's.
+    */
+    public void drawField(Field field) {
+        if (ownFrame == null) {
+            ownFrame = new FieldFrame(gridHeight, gridWidth);
+        }
+        ownFrame.capture(field, 0);
+        drawFrame(ownFrame);
+    }
+
+    /**
+    * Draws the part of a captured frame in view, replacing what was drawn before. The frame is
+    * read again on every later {@link #redraw}, so keep it unchanged until the next frame is drawn.
+    *
+    * @param frame The frame to draw; it must have the canvas' grid size.
+    * @throws IllegalArgumentException If the frame's size differs from the grid's.
+    */
+    public void drawFrame(FieldFrame frame) {
+        if (frame.getWidth() != gridWidth || frame.getHeight() != gridHeight) {
+            throw new IllegalArgumentException("Frame is " + frame.getWidth() + "x" + frame.getHeight()
+                    + " but the grid is " + gridWidth + "x" + gridHeight);
+        }
+        mipmap.update(frame);
+        drawn = true;
+        redraw();
+    }
+
+    /**
+    * Draws the last frame again as the viewport now shows it, e.g. after zooming or panning, or
+    * after the grid lines were turned on or off.
+    */
+    public void redraw() {
+        if (!drawn) {
+            return;
+        }
+        setScale();
+        int width = viewport.getViewWidth();
+        int height = viewport.getViewHeight();
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            image = new WritableImage(width, height);
+            pixels = new int[width * height];
+        }
+        raster.render(viewport, mipmap, pixels);
+        // The palette is opaque and outside the field is transparent black, so the pixels are already premultiplied.
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(), pixels, 0, width);
+        clearCanvas();
+        gc.drawImage(image, 0, 0);
+        if (gridLines && 1 / viewport.getCellsPerPixel() >= MIN_GRID_LINE_PIXELS) {
+            drawGridLines();
+        }
+    }
+
+    /**
+    * Draws a line along every row and column boundary in view, one stroke per line rather than one per cell.
+    */
+    private void drawGridLines() {
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(0.5);
+        double extentX = viewport.getViewWidth() * viewport.getCellsPerPixel();
+        double extentY = viewport.getViewHeight() * viewport.getCellsPerPixel();
+        int firstColumn = (int) Math.max(0, Math.ceil(viewport.getOriginX()));
+        int lastColumn = (int) Math.min(gridWidth, Math.floor(viewport.getOriginX() + extentX));
+        int firstRow = (int) Math.max(0, Math.ceil(viewport.getOriginY()));
+        int lastRow = (int) Math.min(gridHeight, Math.floor(viewport.getOriginY() + extentY));
+        double top = Math.max(0, viewport.toViewY(0));
+        double bottom = Math.min(getHeight(), viewport.toViewY(gridHeight));
+        double left = Math.max(0, viewport.toViewX(0));
+        double right = Math.min(getWidth(), viewport.toViewX(gridWidth));
+        for (int x = firstColumn; x <= lastColumn; x++) {
+            gc.strokeLine(viewport.toViewX(x), top, viewport.toViewX(x), bottom);
+        }
+        for (int y = firstRow; y <= lastRow; y++) {
+            gc.strokeLine(left, viewport.toViewY(y), right, viewport.toViewY(y));
+        }
+    }
+
+    /**
+    * Sets whether the field is drawn with grid lines over the cells. They are off by default, and
+    * only drawn once cells are a few pixels wide, as they would otherwise hide the cells.
+    *
+    * @param gridLines True to draw grid lines.
+    */
+    public void setGridLines(boolean gridLines) {
+        this.gridLines = gridLines;
+    }
+
+    /**
+    * @return True if the field is drawn with grid lines over the cells.
+    */
+    public boolean isGridLines() {
+        return gridLines;
+    }
+
+    /**
+    * @return The viewport over the field, to zoom or pan it from code; call {@link #redraw} afterwards.
+    */
+    public Viewport getViewport() {
+        return viewport;
+    }
+
+    /**
+    * Clears the entire canvas by removing all drawings.
+    */
+    public void clearCanvas() {
+        gc.clearRect(0, 0, getWidth(), getHeight());
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.tomtrotter.habitatsimulation.ui.canvas;
+
+import com.tomtrotter.habitatsimulation.util.Palette;
+import javafx.scene.paint.Color;
+
+/**
+* Maps the simulation's palette indices to JavaFX colours.
+* The colours are created once and shared by every view.
+*/
+
+public final class PaletteColours {
+
+    private static final Color[] COLOURS = new Color[Palette.size()];
+
+    static {
+        for (int i = 0; i < COLOURS.length; i++) {
+            COLOURS[i] = Color.web(Palette.name(i));
+        }
+    }
+
+    private PaletteColours() {
+    }
+
+    /**
+    * Returns the JavaFX colour for a palette index.
+    *
+    * @param index The palette index.
+    * @return The matching colour.
+    */
+    public static Color of(int index) {
+        return COLOURS[index];
+    }
+
+}
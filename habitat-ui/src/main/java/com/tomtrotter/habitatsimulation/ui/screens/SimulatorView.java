@@ -0,0 +1,400 @@
+package com.tomtrotter.habitatsimulation.ui.screens;
+
+import com.tomtrotter.habitatsimulation.simulation.simulation.RunController;
+import com.tomtrotter.habitatsimulation.simulation.simulation.Simulator;
+import com.tomtrotter.habitatsimulation.simulation.environment.FieldFrame;
+import com.tomtrotter.habitatsimulation.simulation.environment.FieldStats;
+import com.tomtrotter.habitatsimulation.simulation.state.SimulatorState;
+import com.tomtrotter.habitatsimulation.ui.state.ViewState;
+import com.tomtrotter.habitatsimulation.ui.canvas.FieldCanvas;
+import com.tomtrotter.habitatsimulation.ui.canvas.PaletteColours;
+import com.tomtrotter.habitatsimulation.ui.base.BaseView;
+import com.tomtrotter.habitatsimulation.util.TripleBuffer;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.*;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
+
+/**
+* SimulatorView manages the graphical user interface (GUI) for the habitat simulation.
+* It includes components for displaying the simulation field, statistics, and user controls.
+* <p>
+* The simulation runs on its own thread and never waits for the screen. After every step it
+* captures the field into a {@link FieldFrame} and publishes it through a {@link TripleBuffer};
+* an {@link AnimationTimer} on the JavaFX thread draws only the latest frame at the display's
+* rate, and frames published in between are dropped. Nothing on the JavaFX thread reads the
+* live field while it is stepped.
+* <p>
+* A {@link RunController} decides when the simulation thread steps: playing at the chosen number
+* of steps per second or as fast as possible, paused, or one step at a time. A paused thread parks
+* rather than spinning.
+* <p>
+* The field may be far larger than the canvas; the canvas shows it through a viewport that can be
+* zoomed and panned, and draws only what is in view.
+*/
+
+public class SimulatorView extends BaseView {
+
+    private Label generationLabel;
+    private VBox populationData, diseaseData;
+    private Slider speedSlider;
+    private Spinner<Integer> simulationStepsSpinner;
+    private FieldCanvas fieldCanvas;
+
+    private final int SIMULATION_WIDTH = 500;
+    private final int SIMULATION_HEIGHT = 501;
+    /** The size of the field when none is given. */
+    public static final int DEFAULT_GRID_SIZE = 100;
+
+    private final int gridWidth;
+    private final int gridHeight;
+
+    private Simulator simulator;
+    private RunController controller;
+    // The controller a simulation thread is running, if any; only used on the JavaFX thread.
+    private RunController running;
+    private CheckBox unlimitedCheckBox;
+    private Label rateLabel;
+    private FieldStats stats;
+    private final ViewState viewState = ViewState.getInstance();
+
+    // Frames of the current simulator, from the thread stepping it to the render loop.
+    private volatile TripleBuffer<FieldFrame> frames;
+
+    /**
+    * Creates a view of a field of the default size.
+    */
+    public SimulatorView() {
+        this(DEFAULT_GRID_SIZE, DEFAULT_GRID_SIZE);
+    }
+
+    /**
+    * Creates a view of a field of the given size.
+    *
+    * @param gridHeight The number of rows in the field.
+    * @param gridWidth The number of columns in the field.
+    * @throws IllegalArgumentException If either dimension is not positive.
+    */
+    public SimulatorView(int gridHeight, int gridWidth) {
+        if (gridHeight <= 0 || gridWidth <= 0) {
+            throw new IllegalArgumentException("Grid must have cells: " + gridWidth + "x" + gridHeight);
+        }
+        this.gridHeight = gridHeight;
+        this.gridWidth = gridWidth;
+    }
+
+    /**
+    * Creates the main simulation scene with GUI layout and initializes simulation components.
+    * @return The full Scene object for rendering in the JavaFX window.
+    */
+    @Override
+    public Scene createScene() {
+        simulator = new Simulator(gridHeight, gridWidth);
+        stats = new FieldStats();
+
+        BorderPane root = new BorderPane();
+        root.setPadding(new Insets(10));
+
+        root.setTop(createTopPanel());
+        root.setLeft(createLeftPanel());
+        root.setCenter(createCenterPanel());
+        root.setRight(createRightPanel());
+
+        controller = new RunController(simulator);
+        applySpeed();
+        publishInitialFrame();
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                FieldFrame frame = frames.poll();
+                if (frame != null) {
+                    updateCanvas(frame);
+                }
+                rateLabel.setText(String.format("%.1f steps/sec", controller.getAchievedStepsPerSecond()));
+            }
+        }.start();
+
+        return new Scene(root, viewState.getWindowWidth(), viewState.getWindowHeight());
+    }
+
+    /**
+    * Builds the right-side panel of the UI for simulation controls (speed, steps, disease settings).
+    * @return VBox with sliders and spinners for user interaction.
+    */
+    private VBox createRightPanel() {
+        VBox rightPanel = new VBox(10);
+        rightPanel.setPadding(new Insets(10));
+        rightPanel.setStyle("-fx-border-color: lightgray; -fx-border-width: 1; -fx-padding: 10;");
+
+        Label controlsLabel = new Label("Simulation Controls");
+        Label speedLabel = new Label("Simulation Speed (steps per second)");
+
+        speedSlider = new Slider(1, 60, 2);
+        speedSlider.valueProperty().addListener((_, _, _) -> applySpeed());
+        HBox simulationSpeedHBox = new HBox(new Label("Slow"), speedSlider, new Label("Fast"));
+
+        unlimitedCheckBox = new CheckBox("As fast as possible");
+        unlimitedCheckBox.setOnAction(_ -> applySpeed());
+        rateLabel = new Label();
+
+        Label initPopulationLabel = new Label("Number of generations");
+        simulationStepsSpinner = new Spinner<>(1, 1000, 30);
+
+        CheckBox gridLinesCheckBox = new CheckBox("Show grid lines");
+        gridLinesCheckBox.setOnAction(_ -> {
+            fieldCanvas.setGridLines(gridLinesCheckBox.isSelected());
+            fieldCanvas.redraw();
+        });
+
+        Label viewLabel = new Label("Scroll to zoom, drag to pan,\ndouble-click to see the whole field");
+
+        rightPanel.getChildren().addAll(
+                controlsLabel, speedLabel, simulationSpeedHBox, unlimitedCheckBox, rateLabel,
+                initPopulationLabel, simulationStepsSpinner, gridLinesCheckBox, viewLabel
+        );
+        return rightPanel;
+    }
+
+
+    /**
+    * Builds the left-side panel displaying population and disease statistics for all species.
+    * @return VBox with dynamically updating stats views.
+    */
+    private VBox createLeftPanel() {
+        VBox panel = new VBox(10);
+        panel.setPadding(new Insets(10));
+        panel.setStyle("-fx-border-color: lightgray; -fx-border-width: 1; -fx-padding: 10;");
+
+        Label statsLabel = new Label("Simulation Stats");
+        generationLabel = new Label(viewState.getGenPrefix());
+
+        populationData = new VBox();
+        diseaseData = new VBox();
+
+        for (String species : stats.getSpecies()) {
+            String icon = stats.getSpeciesIcon(simulator.getField(), species);
+            Color colour = PaletteColours.of(stats.getSpeciesColour(simulator.getField(), species));
+
+            populationData.getChildren().add(new TextFlow(createIcon(icon, colour), new Text(stats.getSpeciesDetails(simulator.getField(), species))));
+            diseaseData.getChildren().add(new TextFlow(createIcon(icon, colour), new Text(stats.getSpeciesDisease(simulator.getField(), species))));
+        }
+
+        panel.getChildren().addAll(
+                statsLabel, generationLabel, new Separator(),
+                new Label("Population"), populationData, new Separator(),
+                new Label("Disease"), diseaseData
+        );
+        return panel;
+    }
+
+    /**
+    * Creates a colored text icon for species representation in the stats panel.
+    * @param iconText Text symbol for the species.
+    * @param colour   Display color for the species.
+    * @return A styled Text object.
+    */
+    private Text createIcon(String iconText, Color colour) {
+        Text icon = new Text(iconText);
+        icon.setFill(colour);
+        return icon;
+    }
+
+    /**
+    * Builds the center panel where the simulation field grid is rendered.
+    * @return A StackPane containing the simulation canvas.
+    */
+    private StackPane createCenterPanel() {
+        StackPane simulationView = new StackPane();
+        simulationView.setPrefSize(SIMULATION_WIDTH, SIMULATION_HEIGHT);
+
+        fieldCanvas = new FieldCanvas(
+                SIMULATION_WIDTH - 10, SIMULATION_HEIGHT - 10,
+                gridWidth, gridHeight
+        );
+        fieldCanvas.setWidth(SIMULATION_WIDTH);
+        fieldCanvas.setHeight(SIMULATION_HEIGHT);
+
+        simulationView.getChildren().add(fieldCanvas);
+        simulationView.setMaxSize(SIMULATION_WIDTH, SIMULATION_HEIGHT);
+        simulationView.setMinSize(SIMULATION_WIDTH, SIMULATION_HEIGHT);
+        return simulationView;
+    }
+
+    /**
+    * Builds the top panel with buttons for controlling simulation flow (Start, Pause, Step, Reset, Settings).
+    * @return An HBox with control buttons.
+    */
+    private HBox createTopPanel() {
+        HBox panel = new HBox(10);
+        panel.setPadding(new Insets(10));
+
+        Button startButton = new Button("Start");
+        startButton.setOnAction(_ -> {
+            simulate(simulationStepsSpinner.getValue());
+        });
+
+        Button pauseButton = new Button("Pause");
+        pauseButton.setOnAction(_ -> controller.pause());
+
+        Button stepButton = new Button("Step");
+        stepButton.setOnAction(_ -> stepOnce());
+
+        Button resetButton = new Button("Reset");
+        resetButton.setOnAction(_ -> reset());
+
+        Button settingsButton = new Button("Settings");
+        settingsButton.setOnAction(_ -> {
+            viewState.switchTo(SettingsView.class);
+        });
+
+        panel.getChildren().addAll(startButton, pauseButton, stepButton, resetButton, settingsButton);
+        return panel;
+    }
+
+    /**
+    * Displays a notification alert when the simulation completes all steps.
+    */
+    private void simulationEndAlert() {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Simulation Complete");
+        alert.setHeaderText("The simulation has finished running.");
+        alert.setContentText("Click OK to proceed.");
+        alert.showAndWait();
+    }
+
+    /**
+    * Updates population and disease data shown in the left panel from the statistics of the frame drawn.
+    */
+    private void updatePopulation() {
+        populationData.getChildren().clear();
+        diseaseData.getChildren().clear();
+        for (String species : stats.getSpecies()) {
+            String icon = stats.getSpeciesIcon(simulator.getField(), species);
+            Color colour = PaletteColours.of(stats.getSpeciesColour(simulator.getField(), species));
+            populationData.getChildren().add(new TextFlow(createIcon(icon, colour), new Text(stats.getSpeciesDetails(simulator.getField(), species))));
+            diseaseData.getChildren().add(new TextFlow(createIcon(icon, colour), new Text(stats.getSpeciesDisease(simulator.getField(), species))));
+        }
+    }
+
+    /**
+    * Draws a frame of the simulation field and refreshes the statistics from it.
+    * The statistics are the counts captured with the frame, so they always match the field drawn,
+    * and only the parts of the field that changed since the previous frame are drawn again.
+    *
+    * @param frame The latest frame published by the simulation.
+    */
+    private void updateCanvas(FieldFrame frame) {
+        generationLabel.setText(viewState.getGenPrefix() + frame.getGeneration());
+        stats.update(frame);
+        updatePopulation();
+
+        fieldCanvas.drawFrame(frame);
+    }
+
+    /**
+    * Starts a new frame buffer for the current simulator and publishes its initial state, for the
+    * render loop to draw. Only call this while no simulation thread is running on the simulator.
+    */
+    private void publishInitialFrame() {
+        TripleBuffer<FieldFrame> buffer = new TripleBuffer<>(() -> new FieldFrame(gridHeight, gridWidth));
+        buffer.back().capture(simulator.getField(), simulator.getStep());
+        buffer.publish();
+        frames = buffer;
+    }
+
+    /**
+    * Passes the chosen speed to the run controller: the slider's steps per second, or as fast as possible.
+    */
+    private void applySpeed() {
+        if (controller != null) {
+            controller.setTargetStepsPerSecond(unlimitedCheckBox.isSelected() ? RunController.UNLIMITED : speedSlider.getValue());
+        }
+    }
+
+    /**
+    * Resets the simulation state and reinitialized the canvas and statistics.
+    * A simulation still running finishes its step on the old simulator and stops; its frames are
+    * no longer drawn. The old simulator is closed once no thread steps it.
+    */
+    private void reset() {
+        controller.stop();
+        if (running != controller) {
+            simulator.close();
+        }
+        simulator = new Simulator(gridHeight, gridWidth);
+        controller = new RunController(simulator);
+        applySpeed();
+        publishInitialFrame();
+    }
+
+    /**
+    * Runs the simulation in a background thread for a set number of generations, or resumes it if it is paused.
+    * Each step is published as a frame; the thread does not wait for it to be drawn.
+    * @param numSteps The number of steps (generations) to simulate.
+    */
+    public void simulate(int numSteps) {
+        controller.play();
+        if (running != controller) {
+            startRunning(numSteps);
+        }
+    }
+
+    /**
+    * Pauses the simulation, if it is playing, and takes one step, starting a run if there is none.
+    */
+    private void stepOnce() {
+        controller.step();
+        if (running != controller) {
+            startRunning(simulationStepsSpinner.getValue());
+        }
+    }
+
+    /**
+    * Starts a thread that steps the current simulator through its controller, publishing a frame after every step.
+    * The thread is a daemon, so one left paused does not keep the application alive. If the run was stopped by a
+    * reset, its simulator is closed once the thread is done with it.
+    * @param numSteps The number of steps (generations) to simulate.
+    */
+    private void startRunning(int numSteps) {
+        RunController run = controller;
+        TripleBuffer<FieldFrame> buffer = frames;
+        running = run;
+        Thread thread = new Thread(() -> {
+            Simulator stepped = run.getSimulator();
+            int step = 0;
+            while (step < numSteps) {
+                // Settings edited while running take effect from the next step.
+                stepped.setConfig(SimulatorState.getInstance().snapshot());
+                if (!run.advance()) {
+                    break;
+                }
+                step++;
+                buffer.back().capture(stepped.getField(), stepped.getStep());
+                buffer.publish();
+            }
+            boolean completed = step == numSteps;
+            Platform.runLater(() -> {
+                if (running == run) {
+                    running = null;
+                }
+                if (run.isStopped()) {
+                    stepped.close();
+                }
+                if (completed) {
+                    simulationEndAlert();
+                }
+            });
+        }, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+}
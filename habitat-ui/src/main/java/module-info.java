@@ -0,0 +1,18 @@
+module com.tomtrotter.habitatsimulation {
+    requires javafx.controls;
+    requires javafx.fxml;
+    requires java.desktop;
+    requires com.tomtrotter.habitatsimulation.core;
+
+
+    exports com.tomtrotter.habitatsimulation.ui.base;
+    opens com.tomtrotter.habitatsimulation.ui.base to javafx.fxml;
+    exports com.tomtrotter.habitatsimulation.ui.screens;
+    opens com.tomtrotter.habitatsimulation.ui.screens to javafx.fxml;
+    exports com.tomtrotter.habitatsimulation.ui.canvas;
+    opens com.tomtrotter.habitatsimulation.ui.canvas to javafx.fxml;
+    exports com.tomtrotter.habitatsimulation.application;
+    opens com.tomtrotter.habitatsimulation.application to javafx.fxml;
+    exports com.tomtrotter.habitatsimulation.ui.state;
+    opens com.tomtrotter.habitatsimulation.ui.state to javafx.fxml;
+}
\ No newline at end of file
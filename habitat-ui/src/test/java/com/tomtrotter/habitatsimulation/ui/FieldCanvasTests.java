@@ -1,5 +1,6 @@
 package com.tomtrotter.habitatsimulation.ui;
 
+import com.tomtrotter.habitatsimulation.simulation.environment.Field;
 import com.tomtrotter.habitatsimulation.ui.canvas.FieldCanvas;
 import javafx.scene.paint.Color;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,4 +64,38 @@ public class FieldCanvasTests {
         assertDoesNotThrow(() -> fieldCanvas.clearCanvas());
     }
 
+    /**
+    * Tests drawing a whole field, with and without grid lines.
+    * Ensures that drawing a field of the grid's size does not throw, and that another size is rejected.
+    */
+    @Test
+    public void testDrawField() {
+        Field field = new Field(10, 10);
+        assertDoesNotThrow(() -> fieldCanvas.drawField(field));
+        fieldCanvas.setGridLines(true);
+        assertDoesNotThrow(() -> fieldCanvas.drawField(field));
+        assertThrows(IllegalArgumentException.class, () -> fieldCanvas.drawField(new Field(10, 20)));
+    }
+
+    /**
+    * Tests redrawing a field zoomed in and panned, with grid lines over the enlarged cells.
+    * Ensures the view can be moved after a frame was drawn and fits the whole field again.
+    */
+    @Test
+    public void testZoomAndPan() {
+        FieldCanvas largeCanvas = new FieldCanvas(500, 500, 1000, 1000);
+        largeCanvas.drawField(new Field(1000, 1000));
+        largeCanvas.setGridLines(true);
+        largeCanvas.getViewport().zoom(40, 100, 100);
+        largeCanvas.getViewport().pan(-50, 20);
+        assertDoesNotThrow(() -> largeCanvas.redraw());
+        assertTrue(largeCanvas.getViewport().getCellsPerPixel() < largeCanvas.getViewport().getFitCellsPerPixel());
+        largeCanvas.getViewport().fit();
+        assertEquals(0, largeCanvas.getViewport().getOriginX());
+
+        fieldCanvas.drawField(new Field(10, 10));
+        fieldCanvas.getViewport().zoom(4, 100, 100);
+        assertEquals(fieldCanvas.getViewport().getFitCellsPerPixel(), fieldCanvas.getViewport().getCellsPerPixel());
+    }
+
 }